@@ -331,6 +331,24 @@ public class Generate extends OpenApiGeneratorCommand {
             description = "Only write output files that have changed.")
     private Boolean minimalUpdate;
 
+    @Option(name = {"--render-threads"},
+            title = "Render threads",
+            description = "Number of threads rendering model, api and webhook files. Default is 1 (sequential). "
+                    + "Higher values require thread-safe templates, lambdas and helpers.")
+    private Integer renderThreads;
+
+    @Option(name = {"--incremental"},
+            title = "Incremental generation",
+            description = "Only regenerate model, api and webhook files whose inputs changed since the last run. "
+                    + "Inputs and outputs are tracked in .openapi-generator/MANIFEST.json.")
+    private Boolean incremental;
+
+    @Option(name = {"--post-process-batch-size"},
+            title = "Post-process batch size",
+            description = "Maximum number of files passed to one invocation of the post-processing command, which then runs once generation completes. "
+                    + "Default is 0 (post-process each file as it is generated). Requires a command accepting multiple files.")
+    private Integer postProcessBatchSize;
+
     @Override
     public void execute() {
         if (StringUtils.isNotBlank(inputSpecRootDirectory)) {
@@ -498,6 +516,18 @@ public class Generate extends OpenApiGeneratorCommand {
             configurator.setEnableMinimalUpdate(minimalUpdate);
         }
 
+        if (renderThreads != null) {
+            configurator.setRenderThreads(renderThreads);
+        }
+
+        if (incremental != null) {
+            configurator.setEnableIncrementalGeneration(incremental);
+        }
+
+        if (postProcessBatchSize != null) {
+            configurator.setPostProcessBatchSize(postProcessBatchSize);
+        }
+
         if (strictSpecBehavior != null) {
             configurator.setStrictSpecBehavior(strictSpecBehavior);
         }
@@ -36,6 +36,7 @@ import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.DynamicSettings;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.config.ParsedSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,8 +46,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -139,6 +144,10 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
         SimpleModule module = getCustomDeserializationModel(includesDir);
         List<CodegenConfigurator> configurators = configs.stream().map(config -> CodegenConfigurator.fromFile(config, module)).collect(Collectors.toList());
 
+        // Configs referencing the same spec share a single parse of it, each generator working on its own copy.
+        int specCount = shareParsedSpecifications(configurators);
+        LOGGER.info(String.format(Locale.ROOT, "Batch generation of %d configs using %d distinct input specs.", configurators.size(), specCount));
+
         // it doesn't make sense to interleave INFO level logs, so limit these to only ERROR.
         LoggerContext lc = (LoggerContext) LoggerFactory.getILoggerFactory();
         Stream.of(Logger.ROOT_LOGGER_NAME, "io.swagger", "org.openapitools")
@@ -266,6 +275,31 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
         }
     }
 
+    /**
+     * Groups configurators by input spec (and the authorization used to read it), so that each distinct spec is only
+     * read once. Configurators of a group share a {@link ParsedSpecification}, handing out a copy to each generator.
+     *
+     * @param configurators the configurators of the batch
+     * @return the number of distinct input specs
+     */
+    static int shareParsedSpecifications(List<CodegenConfigurator> configurators) {
+        Map<List<String>, List<CodegenConfigurator>> bySpec = new LinkedHashMap<>();
+        for (CodegenConfigurator configurator : configurators) {
+            if (configurator.getInputSpec() != null) {
+                bySpec.computeIfAbsent(Arrays.asList(configurator.getInputSpec(), configurator.getAuth()), k -> new ArrayList<>())
+                        .add(configurator);
+            }
+        }
+
+        bySpec.forEach((key, group) -> {
+            if (group.size() > 1) {
+                ParsedSpecification parsedSpecification = new ParsedSpecification(key.get(0), key.get(1));
+                group.forEach(configurator -> configurator.setParsedSpecification(parsedSpecification));
+            }
+        });
+        return bySpec.size();
+    }
+
     static SimpleModule getCustomDeserializationModel(final File includesDir) {
         // Create a module which loads our config files, but supports a special "!include" key which can point to an existing config file.
         // This allows us to create a sort of meta-config which holds configs which are otherwise required at CLI time (via generate task).
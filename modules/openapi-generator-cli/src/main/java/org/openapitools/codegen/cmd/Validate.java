@@ -52,6 +52,14 @@ public class Validate extends OpenApiGeneratorCommand {
                     + "Pass in a URL-encoded string of name:header with a comma separating multiple values")
     private String auth;
 
+    @Option(name = {"--threads"}, title = "threads",
+            description = "Number of threads evaluating the specification. Default is 1 (sequential).")
+    private Integer threads;
+
+    @Option(name = {"--error-limit"}, title = "error limit",
+            description = "Stop evaluating the specification once this number of errors is found, including parser errors. Default is 0 (no limit).")
+    private Integer errorLimit;
+
     @Override
     public void execute() {
         System.out.println("Validating spec (" + spec + ")");
@@ -72,7 +80,15 @@ public class Validate extends OpenApiGeneratorCommand {
         else ruleConfiguration.setEnableRecommendations(false);
 
         OpenApiEvaluator evaluator = new OpenApiEvaluator(ruleConfiguration);
-        ValidationResult validationResult = evaluator.validate(specification);
+        if (threads != null) evaluator.setThreads(threads);
+        ValidationResult validationResult;
+        if (errorLimit != null && errorLimit > 0) {
+            // the errors of the parser count toward the limit
+            evaluator.setErrorLimit(errorLimit - errors.size());
+            validationResult = errors.size() < errorLimit ? evaluator.validate(specification) : new ValidationResult();
+        } else {
+            validationResult = evaluator.validate(specification);
+        }
 
         // TODO: We could also provide description here along with getMessage. getMessage is either a "generic" message or specific (e.g. Model 'Cat' has issues).
         //       This would require that we parse the messageList coming from swagger-parser into a better structure.
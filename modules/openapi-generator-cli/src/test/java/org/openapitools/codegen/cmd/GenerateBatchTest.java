@@ -14,6 +14,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -101,6 +102,22 @@ public class GenerateBatchTest {
         fail("Expected an exception when trying to load a YAML include from a JSON file");
     }
 
+    @Test
+    public void testConfigsWithTheSameSpecShareAParse() {
+        CodegenConfigurator first = new CodegenConfigurator().setInputSpec(SPEC_FILE);
+        CodegenConfigurator second = new CodegenConfigurator().setInputSpec(SPEC_FILE);
+        CodegenConfigurator withAuth = new CodegenConfigurator().setInputSpec(SPEC_FILE).setAuth("Authorization:Bearer token");
+        CodegenConfigurator other = new CodegenConfigurator().setInputSpec("batch/specs/other.yaml");
+
+        int specs = GenerateBatch.shareParsedSpecifications(Arrays.asList(first, second, withAuth, other));
+
+        assertEquals(specs, 3);
+        assertNotNull(first.getParsedSpecification());
+        assertSame(first.getParsedSpecification(), second.getParsedSpecification());
+        assertNull(withAuth.getParsedSpecification());
+        assertNull(other.getParsedSpecification());
+    }
+
     private File getIncludesDir() {
         // The includes directory would be "batch" under resources here, as everything is relative to this directory.
         return workingDirectory.toFile();
@@ -46,6 +46,10 @@ public class WorkflowSettings {
     public static final boolean DEFAULT_ENABLE_MINIMAL_UPDATE = false;
     public static final boolean DEFAULT_STRICT_SPEC_BEHAVIOR = true;
     public static final boolean DEFAULT_GENERATE_ALIAS_AS_MODEL = false;
+    public static final int DEFAULT_RENDER_THREADS = 1;
+    public static final int DEFAULT_PROCESSING_THREADS = 1;
+    public static final boolean DEFAULT_ENABLE_INCREMENTAL_GENERATION = false;
+    public static final int DEFAULT_POST_PROCESS_BATCH_SIZE = 0;
     public static final String DEFAULT_TEMPLATING_ENGINE_NAME = null; // this is set by the generator
     public static final Map<String, String> DEFAULT_GLOBAL_PROPERTIES = Collections.unmodifiableMap(new HashMap<>());
 
@@ -61,6 +65,10 @@ public class WorkflowSettings {
     private boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
     private boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
     private boolean generateAliasAsModel = DEFAULT_GENERATE_ALIAS_AS_MODEL;
+    private int renderThreads = DEFAULT_RENDER_THREADS;
+    private int processingThreads = DEFAULT_PROCESSING_THREADS;
+    private boolean enableIncrementalGeneration = DEFAULT_ENABLE_INCREMENTAL_GENERATION;
+    private int postProcessBatchSize = DEFAULT_POST_PROCESS_BATCH_SIZE;
     private String templateDir;
     private String templatingEngineName = DEFAULT_TEMPLATING_ENGINE_NAME;
     private String ignoreFileOverride;
@@ -83,6 +91,10 @@ public class WorkflowSettings {
         this.ignoreFileOverride = builder.ignoreFileOverride;
         this.globalProperties = Collections.unmodifiableMap(builder.globalProperties);
         this.generateAliasAsModel = builder.generateAliasAsModel;
+        this.renderThreads = builder.renderThreads;
+        this.processingThreads = builder.processingThreads;
+        this.enableIncrementalGeneration = builder.enableIncrementalGeneration;
+        this.postProcessBatchSize = builder.postProcessBatchSize;
     }
 
     /**
@@ -111,6 +123,10 @@ public class WorkflowSettings {
         builder.enableMinimalUpdate = copy.isEnableMinimalUpdate();
         builder.generateAliasAsModel = copy.isGenerateAliasAsModel();
         builder.strictSpecBehavior = copy.isStrictSpecBehavior();
+        builder.renderThreads = copy.getRenderThreads();
+        builder.processingThreads = copy.getProcessingThreads();
+        builder.enableIncrementalGeneration = copy.isEnableIncrementalGeneration();
+        builder.postProcessBatchSize = copy.getPostProcessBatchSize();
         builder.templatingEngineName = copy.getTemplatingEngineName();
         builder.ignoreFileOverride = copy.getIgnoreFileOverride();
 
@@ -246,6 +262,56 @@ public class WorkflowSettings {
         return strictSpecBehavior;
     }
 
+    /**
+     * Gets the number of threads used to render templates and write the resulting model, API and webhook files.
+     * Processing of the document is unaffected; files are still reported in the same order as a sequential run.
+     * <p>
+     * NOTE: Values greater than 1 require all templates, lambdas and helpers of the generator to be thread-safe.
+     *
+     * @return the number of render threads. Default: <code>1</code> (render sequentially).
+     */
+    public int getRenderThreads() {
+        return renderThreads;
+    }
+
+    /**
+     * Gets the number of threads used to process the schemas of the document into models, and its operations into
+     * codegen operations. Models are still post-processed together, operations are grouped by tag, and both are
+     * generated in the same order as a sequential run.
+     * <p>
+     * NOTE: Values greater than 1 require the processing of the generator (e.g. fromModel, postProcessModels and fromOperation) to be thread-safe.
+     * Generators which don't declare it process sequentially, which is currently the case of all generators except
+     * markdown, so the setting is experimental and not exposed by the CLI.
+     *
+     * @return the number of processing threads. Default: <code>1</code> (process sequentially).
+     */
+    public int getProcessingThreads() {
+        return processingThreads;
+    }
+
+    /**
+     * Indicates whether model, API and webhook files are only regenerated when their inputs changed since the previous run.
+     * Inputs and outputs of each file are tracked in <code>.openapi-generator/MANIFEST.json</code> in the output directory.
+     *
+     * @return <code>true</code> to skip files whose inputs and contents are unchanged, otherwise <code>false</code>.
+     */
+    public boolean isEnableIncrementalGeneration() {
+        return enableIncrementalGeneration;
+    }
+
+    /**
+     * Gets the maximum number of files passed to a single invocation of a post-processing command (e.g. JAVA_POST_PROCESS_FILE).
+     * When greater than 0, files are collected while generating and post-processed in batches once generation completes,
+     * running batches in parallel. Only applies when {@link #isEnablePostProcessFile()} is <code>true</code>.
+     * <p>
+     * NOTE: The post-processing command must accept multiple files.
+     *
+     * @return the post-process batch size. Default: <code>0</code> (post-process each file as it is generated).
+     */
+    public int getPostProcessBatchSize() {
+        return postProcessBatchSize;
+    }
+
     /**
      * Gets the directory holding templates used in generation. This option allows users to extend or modify built-in templates, or to write their own.
      *
@@ -309,6 +375,10 @@ public class WorkflowSettings {
         private Boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
         private Boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
         private Boolean generateAliasAsModel = DEFAULT_GENERATE_ALIAS_AS_MODEL;
+        private Integer renderThreads = DEFAULT_RENDER_THREADS;
+        private Integer processingThreads = DEFAULT_PROCESSING_THREADS;
+        private Boolean enableIncrementalGeneration = DEFAULT_ENABLE_INCREMENTAL_GENERATION;
+        private Integer postProcessBatchSize = DEFAULT_POST_PROCESS_BATCH_SIZE;
         private String templateDir;
         private String templatingEngineName = DEFAULT_TEMPLATING_ENGINE_NAME;
         private String ignoreFileOverride;
@@ -459,6 +529,50 @@ public class WorkflowSettings {
             return this;
         }
 
+        /**
+         * Sets the {@code renderThreads} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param renderThreads the {@code renderThreads} to set
+         * @return a reference to this Builder
+         */
+        public Builder withRenderThreads(Integer renderThreads) {
+            this.renderThreads = renderThreads != null && renderThreads > 0 ? renderThreads : Integer.valueOf(DEFAULT_RENDER_THREADS);
+            return this;
+        }
+
+        /**
+         * Sets the {@code processingThreads} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param processingThreads the {@code processingThreads} to set
+         * @return a reference to this Builder
+         */
+        public Builder withProcessingThreads(Integer processingThreads) {
+            this.processingThreads = processingThreads != null && processingThreads > 0 ? processingThreads : Integer.valueOf(DEFAULT_PROCESSING_THREADS);
+            return this;
+        }
+
+        /**
+         * Sets the {@code enableIncrementalGeneration} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param enableIncrementalGeneration the {@code enableIncrementalGeneration} to set
+         * @return a reference to this Builder
+         */
+        public Builder withEnableIncrementalGeneration(Boolean enableIncrementalGeneration) {
+            this.enableIncrementalGeneration = enableIncrementalGeneration != null ? enableIncrementalGeneration : Boolean.valueOf(DEFAULT_ENABLE_INCREMENTAL_GENERATION);
+            return this;
+        }
+
+        /**
+         * Sets the {@code postProcessBatchSize} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param postProcessBatchSize the {@code postProcessBatchSize} to set
+         * @return a reference to this Builder
+         */
+        public Builder withPostProcessBatchSize(Integer postProcessBatchSize) {
+            this.postProcessBatchSize = postProcessBatchSize != null && postProcessBatchSize > 0 ? postProcessBatchSize : Integer.valueOf(DEFAULT_POST_PROCESS_BATCH_SIZE);
+            return this;
+        }
+
         /**
          * Sets the {@code templateDir} and returns a reference to this Builder so that the methods can be chained together.
          *
@@ -586,6 +700,10 @@ public class WorkflowSettings {
                 ", ignoreFileOverride='" + ignoreFileOverride + '\'' +
                 ", globalProperties=" + globalProperties +
                 ", generateAliasAsModel=" + generateAliasAsModel +
+                ", renderThreads=" + renderThreads +
+                ", processingThreads=" + processingThreads +
+                ", enableIncrementalGeneration=" + enableIncrementalGeneration +
+                ", postProcessBatchSize=" + postProcessBatchSize +
                 '}';
     }
 
@@ -604,6 +722,10 @@ public class WorkflowSettings {
                 isEnableMinimalUpdate() == that.isEnableMinimalUpdate() &&
                 isStrictSpecBehavior() == that.isStrictSpecBehavior() &&
                 isGenerateAliasAsModel() == that.isGenerateAliasAsModel() &&
+                getRenderThreads() == that.getRenderThreads() &&
+                getProcessingThreads() == that.getProcessingThreads() &&
+                isEnableIncrementalGeneration() == that.isEnableIncrementalGeneration() &&
+                getPostProcessBatchSize() == that.getPostProcessBatchSize() &&
                 Objects.equals(getInputSpec(), that.getInputSpec()) &&
                 Objects.equals(getOutputDir(), that.getOutputDir()) &&
                 Objects.equals(getTemplateDir(), that.getTemplateDir()) &&
@@ -627,6 +749,10 @@ public class WorkflowSettings {
                 isEnablePostProcessFile(),
                 isEnableMinimalUpdate(),
                 isStrictSpecBehavior(),
+                getRenderThreads(),
+                getProcessingThreads(),
+                isEnableIncrementalGeneration(),
+                getPostProcessBatchSize(),
                 getTemplateDir(),
                 getTemplatingEngineName(),
                 getIgnoreFileOverride(),
@@ -18,7 +18,9 @@ package org.openapitools.codegen.validation;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +28,8 @@ import java.util.stream.Collectors;
  */
 public final class ValidationResult {
     private final List<Validated> validations;
+    // the validations of this result, so that addResult adds a validation only once without scanning the list
+    private final Set<Validated> addedValidations = new HashSet<>();
 
     /**
      * Constructs a new {@link ValidationResult} instance, backed by the provided validations (useful for testing).
@@ -34,6 +38,7 @@ public final class ValidationResult {
      */
     private ValidationResult(List<Validated> validations) {
         this.validations = Collections.synchronizedList(validations);
+        this.addedValidations.addAll(validations);
     }
 
     /**
@@ -95,7 +100,7 @@ public final class ValidationResult {
     public void addResult(Validated validated) {
         synchronized (validations) {
             ValidationRule rule = validated.getRule();
-            if (rule != null && !rule.equals(ValidationRule.empty()) && !validations.contains(validated)) {
+            if (rule != null && !rule.equals(ValidationRule.empty()) && addedValidations.add(validated)) {
                 validations.add(validated);
             }
         }
@@ -104,6 +109,7 @@ public final class ValidationResult {
     public ValidationResult consume(ValidationResult other) {
         synchronized (validations) {
             validations.addAll(other.validations);
+            addedValidations.addAll(other.validations);
         }
         return this;
     }
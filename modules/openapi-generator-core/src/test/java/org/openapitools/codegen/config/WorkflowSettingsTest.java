@@ -36,6 +36,10 @@ public class WorkflowSettingsTest {
                 .withEnablePostProcessFile(null)
                 .withEnableMinimalUpdate(null)
                 .withStrictSpecBehavior(null)
+                .withRenderThreads(null)
+                .withProcessingThreads(null)
+                .withEnableIncrementalGeneration(null)
+                .withPostProcessBatchSize(null)
                 .build();
 
         assertEquals(settings.getOutputDir(), ".");
@@ -47,6 +51,10 @@ public class WorkflowSettingsTest {
         assertFalse(settings.isEnablePostProcessFile());
         assertFalse(settings.isEnableMinimalUpdate());
         assertTrue(settings.isStrictSpecBehavior());
+        assertEquals(settings.getRenderThreads(), 1);
+        assertEquals(settings.getProcessingThreads(), 1);
+        assertFalse(settings.isEnableIncrementalGeneration());
+        assertEquals(settings.getPostProcessBatchSize(), 0);
     }
 
     @Test
@@ -79,6 +87,10 @@ public class WorkflowSettingsTest {
                 .withEnablePostProcessFile(true)
                 .withEnableMinimalUpdate(true)
                 .withStrictSpecBehavior(false)
+                .withRenderThreads(4)
+                .withProcessingThreads(8)
+                .withEnableIncrementalGeneration(true)
+                .withPostProcessBatchSize(100)
                 .build();
 
         assertNotEquals(defaultSettings.getOutputDir(), newSettings.getOutputDir());
@@ -107,6 +119,18 @@ public class WorkflowSettingsTest {
 
         assertNotEquals(defaultSettings.isStrictSpecBehavior(), newSettings.isStrictSpecBehavior());
         assertFalse(newSettings.isStrictSpecBehavior());
+
+        assertNotEquals(defaultSettings.getRenderThreads(), newSettings.getRenderThreads());
+        assertEquals(newSettings.getRenderThreads(), 4);
+
+        assertNotEquals(defaultSettings.getProcessingThreads(), newSettings.getProcessingThreads());
+        assertEquals(newSettings.getProcessingThreads(), 8);
+
+        assertNotEquals(defaultSettings.isEnableIncrementalGeneration(), newSettings.isEnableIncrementalGeneration());
+        assertTrue(newSettings.isEnableIncrementalGeneration());
+
+        assertNotEquals(defaultSettings.getPostProcessBatchSize(), newSettings.getPostProcessBatchSize());
+        assertEquals(newSettings.getPostProcessBatchSize(), 100);
     }
 
     @Test
@@ -85,6 +85,8 @@ class OpenApiGeneratorPlugin : Plugin<Project> {
 
                     inputSpec.set(validate.inputSpec)
                     recommend.set(validate.recommend)
+                    threads.set(validate.threads)
+                    errorLimit.set(validate.errorLimit)
                 }
 
                 register("openApiGenerate", GenerateTask::class.java).configure {
@@ -154,6 +156,7 @@ class OpenApiGeneratorPlugin : Plugin<Project> {
                     engine.set(generate.engine)
                     cleanupOutput.set(generate.cleanupOutput)
                     dryRun.set(generate.dryRun)
+                    workerIsolation.set(generate.workerIsolation)
                 }
             }
         }
@@ -407,6 +407,11 @@ open class OpenApiGeneratorGenerateExtension(project: Project) {
      */
     val dryRun = project.objects.property<Boolean>()
 
+    /**
+     * The isolation of the worker which runs the generation: "none", "classloader" (default) or "process".
+     */
+    val workerIsolation = project.objects.property<String>()
+
     init {
         applyDefaults()
     }
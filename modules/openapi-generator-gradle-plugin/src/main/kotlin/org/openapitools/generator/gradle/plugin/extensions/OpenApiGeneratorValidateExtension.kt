@@ -34,4 +34,15 @@ open class OpenApiGeneratorValidateExtension(project: Project) {
      * Whether to offer recommendations related to the validated specification document.
      */
     val recommend = project.objects.property<Boolean>().convention(true)
+
+    /**
+     * The number of threads evaluating the specification document.
+     */
+    val threads = project.objects.property<Int>().convention(1)
+
+    /**
+     * Stop evaluating the specification document once this number of errors is found, including parser errors.
+     * 0 evaluates the whole document.
+     */
+    val errorLimit = project.objects.property<Int>().convention(0)
 }
\ No newline at end of file
@@ -40,10 +40,8 @@ import org.gradle.kotlin.dsl.listProperty
 import org.gradle.kotlin.dsl.mapProperty
 import org.gradle.kotlin.dsl.property
 import org.gradle.util.GradleVersion
-import org.openapitools.codegen.CodegenConstants
-import org.openapitools.codegen.DefaultGenerator
+import org.gradle.workers.WorkerExecutor
 import org.openapitools.codegen.config.CodegenConfigurator
-import org.openapitools.codegen.config.GlobalSettings
 import org.openapitools.codegen.config.MergedSpecBuilder
 
 /**
@@ -57,7 +55,10 @@ import org.openapitools.codegen.config.MergedSpecBuilder
  */
 @Suppress("UnstableApiUsage")
 @CacheableTask
-open class GenerateTask @Inject constructor(private val objectFactory: ObjectFactory) : DefaultTask() {
+open class GenerateTask @Inject constructor(
+    private val objectFactory: ObjectFactory,
+    private val workerExecutor: WorkerExecutor
+) : DefaultTask() {
 
     /**
      * The verbosity of generation
@@ -598,22 +599,13 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
     @Input
     val dryRun = project.objects.property<Boolean>()
 
-    private fun <T : Any?> Property<T>.ifNotEmpty(block: Property<T>.(T) -> Unit) {
-        if (isPresent) {
-            val item: T? = get()
-            if (item != null) {
-                when (get()) {
-                    is String -> if ((get() as String).isNotEmpty()) {
-                        block(get())
-                    }
-                    is String? -> if (true == (get() as String?)?.isNotEmpty()) {
-                        block(get())
-                    }
-                    else -> block(get())
-                }
-            }
-        }
-    }
+    /**
+     * The isolation of the worker which runs the generation: "none", "classloader" (default) or "process".
+     * Generation tasks run concurrently with other work of the build whatever the isolation, but only an isolated
+     * worker has its own generator classes and global settings.
+     */
+    @Internal
+    val workerIsolation = project.objects.property<String>()
 
     protected open fun createDefaultCodegenConfigurator(): CodegenConfigurator = CodegenConfigurator()
 
@@ -661,334 +653,113 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
             }
         }
 
-        val configurator: CodegenConfigurator = if (configFile.isPresent) {
-            CodegenConfigurator.fromFile(configFile.get())
-        } else createDefaultCodegenConfigurator()
-
-        try {
-            if (globalProperties.isPresent) {
-                globalProperties.get().forEach { (key, value) ->
-                    configurator.addGlobalProperty(key, value)
-                }
-            }
-
-            if (supportingFilesConstrainedTo.isPresent && supportingFilesConstrainedTo.get().isNotEmpty()) {
-                GlobalSettings.setProperty(
-                    CodegenConstants.SUPPORTING_FILES,
-                    supportingFilesConstrainedTo.get().joinToString(",")
-                )
-            } else {
-                GlobalSettings.clearProperty(CodegenConstants.SUPPORTING_FILES)
-            }
-
-            if (modelFilesConstrainedTo.isPresent && modelFilesConstrainedTo.get().isNotEmpty()) {
-                GlobalSettings.setProperty(CodegenConstants.MODELS, modelFilesConstrainedTo.get().joinToString(","))
-            } else {
-                GlobalSettings.clearProperty(CodegenConstants.MODELS)
-            }
-
-            if (apiFilesConstrainedTo.isPresent && apiFilesConstrainedTo.get().isNotEmpty()) {
-                GlobalSettings.setProperty(CodegenConstants.APIS, apiFilesConstrainedTo.get().joinToString(","))
-            } else {
-                GlobalSettings.clearProperty(CodegenConstants.APIS)
-            }
-
-            if (generateApiDocumentation.isPresent) {
-                GlobalSettings.setProperty(CodegenConstants.API_DOCS, generateApiDocumentation.get().toString())
-            }
-
-            if (generateModelDocumentation.isPresent) {
-                GlobalSettings.setProperty(CodegenConstants.MODEL_DOCS, generateModelDocumentation.get().toString())
-            }
-
-            if (generateModelTests.isPresent) {
-                GlobalSettings.setProperty(CodegenConstants.MODEL_TESTS, generateModelTests.get().toString())
-            }
-
-            if (generateApiTests.isPresent) {
-                GlobalSettings.setProperty(CodegenConstants.API_TESTS, generateApiTests.get().toString())
-            }
-
-            if (inputSpec.isPresent && remoteInputSpec.isPresent) {
-                logger.warn("Both inputSpec and remoteInputSpec is specified. The remoteInputSpec will take priority over inputSpec.")
-            }
-
-            configurator.setInputSpec(resolvedInputSpec)
-
-            // now override with any specified parameters
-            verbose.ifNotEmpty { value ->
-                configurator.setVerbose(value)
-            }
-
-            validateSpec.ifNotEmpty { value ->
-                configurator.setValidateSpec(value)
-            }
-
-            skipOverwrite.ifNotEmpty { value ->
-                configurator.setSkipOverwrite(value ?: false)
-            }
-
-            generatorName.ifNotEmpty { value ->
-                configurator.setGeneratorName(value)
-            }
-
-            outputDir.ifNotEmpty { value ->
-                configurator.setOutputDir(value)
-            }
-
-            auth.ifNotEmpty { value ->
-                configurator.setAuth(value)
-            }
-
-            templateDir.ifNotEmpty { value ->
-                configurator.setTemplateDir(value)
-            }
-
-            templateResourcePath.ifNotEmpty { value ->
-                templateDir.ifNotEmpty {
-                    logger.warn("Both templateDir and templateResourcePath were configured. templateResourcePath overwrites templateDir.")
-                }
-                configurator.setTemplateDir(value)
-            }
-
-            packageName.ifNotEmpty { value ->
-                configurator.setPackageName(value)
-            }
-
-            apiPackage.ifNotEmpty { value ->
-                configurator.setApiPackage(value)
-            }
-
-            modelPackage.ifNotEmpty { value ->
-                configurator.setModelPackage(value)
-            }
-
-            modelNamePrefix.ifNotEmpty { value ->
-                configurator.setModelNamePrefix(value)
-            }
-
-            modelNameSuffix.ifNotEmpty { value ->
-                configurator.setModelNameSuffix(value)
-            }
-
-            apiNameSuffix.ifNotEmpty { value ->
-                configurator.setApiNameSuffix(value)
-            }
-
-            invokerPackage.ifNotEmpty { value ->
-                configurator.setInvokerPackage(value)
-            }
-
-            groupId.ifNotEmpty { value ->
-                configurator.setGroupId(value)
-            }
-
-            id.ifNotEmpty { value ->
-                configurator.setArtifactId(value)
-            }
-
-            version.ifNotEmpty { value ->
-                configurator.setArtifactVersion(value)
-            }
-
-            library.ifNotEmpty { value ->
-                configurator.setLibrary(value)
-            }
-
-            gitHost.ifNotEmpty { value ->
-                configurator.setGitHost(value)
-            }
-
-            gitUserId.ifNotEmpty { value ->
-                configurator.setGitUserId(value)
-            }
-
-            gitRepoId.ifNotEmpty { value ->
-                configurator.setGitRepoId(value)
-            }
-
-            releaseNote.ifNotEmpty { value ->
-                configurator.setReleaseNote(value)
-            }
-
-            httpUserAgent.ifNotEmpty { value ->
-                configurator.setHttpUserAgent(value)
-            }
-
-            ignoreFileOverride.ifNotEmpty { value ->
-                configurator.setIgnoreFileOverride(value)
-            }
-
-            removeOperationIdPrefix.ifNotEmpty { value ->
-                configurator.setRemoveOperationIdPrefix(value!!)
-            }
-
-            skipOperationExample.ifNotEmpty { value ->
-                configurator.setSkipOperationExample(value!!)
-            }
-
-            logToStderr.ifNotEmpty { value ->
-                configurator.setLogToStderr(value)
-            }
-
-            enablePostProcessFile.ifNotEmpty { value ->
-                configurator.setEnablePostProcessFile(value)
-            }
-
-            skipValidateSpec.ifNotEmpty { value ->
-                configurator.setValidateSpec(!value)
-            }
-
-            generateAliasAsModel.ifNotEmpty { value ->
-                configurator.setGenerateAliasAsModel(value)
-            }
-
-            engine.ifNotEmpty { value ->
-                if ("handlebars".equals(value, ignoreCase = true)) {
-                    configurator.setTemplatingEngineName("handlebars")
-                } else {
-                    configurator.setTemplatingEngineName(value)
-                }
-            }
-
-            if (globalProperties.isPresent) {
-                globalProperties.get().forEach { entry ->
-                    configurator.addGlobalProperty(entry.key, entry.value)
-                }
-            }
-
-            if (instantiationTypes.isPresent) {
-                instantiationTypes.get().forEach { entry ->
-                    configurator.addInstantiationType(entry.key, entry.value)
-                }
-            }
-
-            if (importMappings.isPresent) {
-                importMappings.get().forEach { entry ->
-                    configurator.addImportMapping(entry.key, entry.value)
-                }
-            }
-
-            if (schemaMappings.isPresent) {
-                schemaMappings.get().forEach { entry ->
-                    configurator.addSchemaMapping(entry.key, entry.value)
-                }
-            }
-
-            if (inlineSchemaNameMappings.isPresent) {
-                inlineSchemaNameMappings.get().forEach { entry ->
-                    configurator.addInlineSchemaNameMapping(entry.key, entry.value)
-                }
-            }
-
-            if (inlineSchemaOptions.isPresent) {
-                inlineSchemaOptions.get().forEach { entry ->
-                    configurator.addInlineSchemaOption(entry.key, entry.value)
-                }
-            }
-
-            if (nameMappings.isPresent) {
-                nameMappings.get().forEach { entry ->
-                    configurator.addNameMapping(entry.key, entry.value)
-                }
-            }
-
-            if (parameterNameMappings.isPresent) {
-                parameterNameMappings.get().forEach { entry ->
-                    configurator.addParameterNameMapping(entry.key, entry.value)
-                }
-            }
-
-            if (modelNameMappings.isPresent) {
-                modelNameMappings.get().forEach { entry ->
-                    configurator.addModelNameMapping(entry.key, entry.value)
-                }
-            }
-
-            if (enumNameMappings.isPresent) {
-                enumNameMappings.get().forEach { entry ->
-                    configurator.addEnumNameMapping(entry.key, entry.value)
-                }
-            }
-
-            if (operationIdNameMappings.isPresent) {
-                operationIdNameMappings.get().forEach { entry ->
-                    configurator.addOperationIdNameMapping(entry.key, entry.value)
-                }
-            }
-
-            if (openapiNormalizer.isPresent) {
-                openapiNormalizer.get().forEach { entry ->
-                    configurator.addOpenapiNormalizer(entry.key, entry.value)
-                }
-            }
-
-            if (typeMappings.isPresent) {
-                typeMappings.get().forEach { entry ->
-                    configurator.addTypeMapping(entry.key, entry.value)
-                }
-            }
-
-            if (additionalProperties.isPresent) {
-                additionalProperties.get().forEach { entry ->
-                    configurator.addAdditionalProperty(entry.key, entry.value)
-                }
-            }
-
-            if (serverVariables.isPresent) {
-                serverVariables.get().forEach { entry ->
-                    configurator.addServerVariable(entry.key, entry.value)
-                }
-            }
-
-            if (languageSpecificPrimitives.isPresent) {
-                languageSpecificPrimitives.get().forEach {
-                    configurator.addLanguageSpecificPrimitive(it)
-                }
-            }
-
-            if (openapiGeneratorIgnoreList.isPresent) {
-                openapiGeneratorIgnoreList.get().forEach {
-                    configurator.addOpenapiGeneratorIgnoreList(it)
-                }
-            }
-
-            if (reservedWordsMappings.isPresent) {
-                reservedWordsMappings.get().forEach { entry ->
-                    configurator.addAdditionalReservedWordMapping(entry.key, entry.value)
-                }
-            }
-
-            var dryRunSetting = false
-            dryRun.ifNotEmpty { setting ->
-                dryRunSetting = setting
-            }
-
-            val clientOptInput = configurator.toClientOptInput()
-            val codegenConfig = clientOptInput.config
+        if (inputSpec.isPresent && remoteInputSpec.isPresent) {
+            logger.warn("Both inputSpec and remoteInputSpec is specified. The remoteInputSpec will take priority over inputSpec.")
+        }
 
-            if (configOptions.isPresent) {
-                val userSpecifiedConfigOptions = configOptions.get()
-                codegenConfig.cliOptions().forEach {
-                    if (userSpecifiedConfigOptions.containsKey(it.opt)) {
-                        clientOptInput.config.additionalProperties()[it.opt] = userSpecifiedConfigOptions[it.opt]
-                    }
-                }
-            }
+        if (overridesDefaultCodegenConfigurator()) {
+            // the configurator comes from this task, which cannot be handed to a worker
+            logger.warn(
+                "Task {} overrides createDefaultCodegenConfigurator(), so it generates in the build thread instead of on a worker (workerIsolation is ignored).",
+                path
+            )
+            val configurator: CodegenConfigurator = if (configFile.isPresent) {
+                CodegenConfigurator.fromFile(configFile.get())
+            } else createDefaultCodegenConfigurator()
+            val parameters = objectFactory.newInstance(GenerateWorkParameters::class.java)
+            fillParameters(parameters, resolvedInputSpec)
+            parameters.generate(configurator)
+            return
+        }
 
-            try {
-                val out = services.get(StyledTextOutputFactory::class.java).create("openapi")
-                out.withStyle(StyledTextOutput.Style.Success)
+        val isolation = workerIsolation.getOrElse("classloader")
+        val queue = when {
+            "none".equals(isolation, ignoreCase = true) -> workerExecutor.noIsolation()
+            "classloader".equals(isolation, ignoreCase = true) -> workerExecutor.classLoaderIsolation()
+            "process".equals(isolation, ignoreCase = true) -> workerExecutor.processIsolation()
+            else -> throw GradleException("Unsupported workerIsolation '$isolation', expected one of: none, classloader, process.")
+        }
+        queue.submit(GenerateWorkAction::class.java) {
+            fillParameters(this, resolvedInputSpec)
+        }
+    }
 
-                DefaultGenerator(dryRunSetting).opts(clientOptInput).generate()
+    private fun fillParameters(parameters: GenerateWorkParameters, resolvedInputSpec: String) {
+        parameters.resolvedInputSpec.set(resolvedInputSpec)
+        parameters.configFile.set(configFile)
+        parameters.verbose.set(verbose)
+        parameters.validateSpec.set(validateSpec)
+        parameters.generatorName.set(generatorName)
+        parameters.outputDir.set(outputDir)
+        parameters.templateDir.set(templateDir)
+        parameters.templateResourcePath.set(templateResourcePath)
+        parameters.auth.set(auth)
+        parameters.globalProperties.set(globalProperties)
+        parameters.skipOverwrite.set(skipOverwrite)
+        parameters.packageName.set(packageName)
+        parameters.apiPackage.set(apiPackage)
+        parameters.modelPackage.set(modelPackage)
+        parameters.modelNamePrefix.set(modelNamePrefix)
+        parameters.modelNameSuffix.set(modelNameSuffix)
+        parameters.apiNameSuffix.set(apiNameSuffix)
+        parameters.instantiationTypes.set(instantiationTypes)
+        parameters.typeMappings.set(typeMappings)
+        // generators cast string options, which may be Groovy strings in the build script
+        parameters.additionalProperties.set(additionalProperties.map { properties ->
+            properties.mapValues { (_, value) -> if (value is CharSequence) value.toString() else value }
+        })
+        parameters.serverVariables.set(serverVariables)
+        parameters.languageSpecificPrimitives.set(languageSpecificPrimitives)
+        parameters.openapiGeneratorIgnoreList.set(openapiGeneratorIgnoreList)
+        parameters.importMappings.set(importMappings)
+        parameters.schemaMappings.set(schemaMappings)
+        parameters.inlineSchemaNameMappings.set(inlineSchemaNameMappings)
+        parameters.inlineSchemaOptions.set(inlineSchemaOptions)
+        parameters.nameMappings.set(nameMappings)
+        parameters.parameterNameMappings.set(parameterNameMappings)
+        parameters.modelNameMappings.set(modelNameMappings)
+        parameters.enumNameMappings.set(enumNameMappings)
+        parameters.operationIdNameMappings.set(operationIdNameMappings)
+        parameters.openapiNormalizer.set(openapiNormalizer)
+        parameters.invokerPackage.set(invokerPackage)
+        parameters.groupId.set(groupId)
+        parameters.id.set(id)
+        parameters.version.set(version)
+        parameters.library.set(library)
+        parameters.gitHost.set(gitHost)
+        parameters.gitUserId.set(gitUserId)
+        parameters.gitRepoId.set(gitRepoId)
+        parameters.releaseNote.set(releaseNote)
+        parameters.httpUserAgent.set(httpUserAgent)
+        parameters.reservedWordsMappings.set(reservedWordsMappings)
+        parameters.ignoreFileOverride.set(ignoreFileOverride)
+        parameters.removeOperationIdPrefix.set(removeOperationIdPrefix)
+        parameters.skipOperationExample.set(skipOperationExample)
+        parameters.apiFilesConstrainedTo.set(apiFilesConstrainedTo)
+        parameters.modelFilesConstrainedTo.set(modelFilesConstrainedTo)
+        parameters.supportingFilesConstrainedTo.set(supportingFilesConstrainedTo)
+        parameters.generateModelTests.set(generateModelTests)
+        parameters.generateModelDocumentation.set(generateModelDocumentation)
+        parameters.generateApiTests.set(generateApiTests)
+        parameters.generateApiDocumentation.set(generateApiDocumentation)
+        parameters.logToStderr.set(logToStderr)
+        parameters.enablePostProcessFile.set(enablePostProcessFile)
+        parameters.skipValidateSpec.set(skipValidateSpec)
+        parameters.generateAliasAsModel.set(generateAliasAsModel)
+        parameters.configOptions.set(configOptions)
+        parameters.engine.set(engine)
+        parameters.dryRun.set(dryRun)
+    }
 
-                out.println("Successfully generated code to ${outputDir.get()}")
-            } catch (e: RuntimeException) {
-                throw GradleException("Code generation failed.", e)
+    private fun overridesDefaultCodegenConfigurator(): Boolean {
+        var type: Class<*> = javaClass
+        while (type != GenerateTask::class.java) {
+            if (type.declaredMethods.any { it.name == "createDefaultCodegenConfigurator" && it.parameterCount == 0 }) {
+                return true
             }
-        } finally {
-            GlobalSettings.reset()
+            type = type.superclass
         }
+        return false
     }
 }
 
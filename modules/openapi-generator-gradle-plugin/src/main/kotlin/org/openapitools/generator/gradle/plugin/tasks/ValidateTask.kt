@@ -32,6 +32,7 @@ import org.gradle.api.tasks.options.Option
 import org.gradle.internal.logging.text.StyledTextOutput
 import org.gradle.internal.logging.text.StyledTextOutputFactory
 import org.gradle.kotlin.dsl.property
+import org.openapitools.codegen.validation.ValidationResult
 import org.openapitools.codegen.validations.oas.OpenApiEvaluator
 import org.openapitools.codegen.validations.oas.RuleConfiguration
 
@@ -60,6 +61,13 @@ open class ValidateTask : DefaultTask() {
     @Input
     val recommend = project.objects.property<Boolean>().convention(true)
 
+    @Internal
+    val threads = project.objects.property<Int>().convention(1)
+
+    @Optional
+    @Input
+    val errorLimit = project.objects.property<Int>().convention(0)
+
     @get:Internal
     @set:Option(option = "input", description = "The input specification.")
     var input: String? = null
@@ -87,7 +95,15 @@ open class ValidateTask : DefaultTask() {
         ruleConfiguration.isEnableRecommendations = recommendations
 
         val evaluator = OpenApiEvaluator(ruleConfiguration)
-        val validationResult = evaluator.validate(result.openAPI)
+        evaluator.threads = threads.get()
+        val limit = errorLimit.get()
+        val validationResult = if (limit > 0) {
+            // the errors of the parser count toward the limit
+            evaluator.errorLimit = limit - messages.size
+            if (messages.size < limit) evaluator.validate(result.openAPI) else ValidationResult()
+        } else {
+            evaluator.validate(result.openAPI)
+        }
 
         if (validationResult.warnings.isNotEmpty()) {
             out.withStyle(StyledTextOutput.Style.Info)
@@ -570,4 +570,138 @@ class GenerateTaskDslTest : TestBase() {
             "Dry run results message is missing."
         )
     }
+
+    @Test
+    fun `openApiGenerate should run independent generate tasks on isolated workers`() {
+        // Arrange
+        val projectFiles = mapOf(
+            "spec.yaml" to javaClass.classLoader.getResourceAsStream("specs/petstore-v3.0.yaml")
+        )
+        withProject(
+            """
+        plugins {
+          id 'org.openapi.generator'
+        }
+        tasks.register('generateKotlin', org.openapitools.generator.gradle.plugin.tasks.GenerateTask) {
+            generatorName = "kotlin"
+            inputSpec = file("spec.yaml").absolutePath
+            outputDir = file("build/kotlin").absolutePath
+            workerIsolation = "classloader"
+        }
+        tasks.register('generateJava', org.openapitools.generator.gradle.plugin.tasks.GenerateTask) {
+            generatorName = "java"
+            inputSpec = file("spec.yaml").absolutePath
+            outputDir = file("build/java").absolutePath
+            workerIsolation = "classloader"
+        }
+    """.trimIndent(),
+            projectFiles
+        )
+
+        // Act
+        val result = GradleRunner.create()
+            .withProjectDir(temp)
+            .withArguments("generateKotlin", "generateJava", "--parallel")
+            .withPluginClasspath()
+            .build()
+
+        // Assert
+        assertEquals(TaskOutcome.SUCCESS, result.task(":generateKotlin")?.outcome,
+            "Expected a successful run, but found ${result.task(":generateKotlin")?.outcome}")
+        assertEquals(TaskOutcome.SUCCESS, result.task(":generateJava")?.outcome,
+            "Expected a successful run, but found ${result.task(":generateJava")?.outcome}")
+        assertTrue(File(temp, "build/kotlin/.openapi-generator/FILES").exists(), "Kotlin generation output is missing.")
+        assertTrue(File(temp, "build/java/.openapi-generator/FILES").exists(), "Java generation output is missing.")
+    }
+
+    @Test
+    fun `openApiGenerate should run parallel generate tasks on isolated workers by default`() {
+        // Arrange
+        val projectFiles = mapOf(
+            "spec.yaml" to javaClass.classLoader.getResourceAsStream("specs/petstore-v3.0.yaml")
+        )
+        withProject(
+            """
+        plugins {
+          id 'org.openapi.generator'
+        }
+        tasks.register('generateFirst', org.openapitools.generator.gradle.plugin.tasks.GenerateTask) {
+            generatorName = "java"
+            inputSpec = file("spec.yaml").absolutePath
+            outputDir = file("build/first").absolutePath
+            modelPackage = "org.openapitools.first.model"
+            globalProperties = [models: ""]
+        }
+        tasks.register('generateSecond', org.openapitools.generator.gradle.plugin.tasks.GenerateTask) {
+            generatorName = "java"
+            inputSpec = file("spec.yaml").absolutePath
+            outputDir = file("build/second").absolutePath
+            modelPackage = "org.openapitools.second.model"
+        }
+    """.trimIndent(),
+            projectFiles
+        )
+
+        // Act
+        val result = GradleRunner.create()
+            .withProjectDir(temp)
+            .withArguments("generateFirst", "generateSecond", "--parallel")
+            .withPluginClasspath()
+            .build()
+
+        // Assert
+        assertEquals(TaskOutcome.SUCCESS, result.task(":generateFirst")?.outcome,
+            "Expected a successful run, but found ${result.task(":generateFirst")?.outcome}")
+        assertEquals(TaskOutcome.SUCCESS, result.task(":generateSecond")?.outcome,
+            "Expected a successful run, but found ${result.task(":generateSecond")?.outcome}")
+        // the global properties of the first generation (models only) do not leak into the second one
+        assertTrue(File(temp, "build/first/src/main/java/org/openapitools/first/model/Pet.java").exists(),
+            "Models of the first generation are missing.")
+        assertFalse(File(temp, "build/first/build.gradle").exists(),
+            "Supporting files of the first generation were generated.")
+        assertTrue(File(temp, "build/second/src/main/java/org/openapitools/second/model/Pet.java").exists(),
+            "Models of the second generation are missing.")
+        assertTrue(File(temp, "build/second/build.gradle").exists(),
+            "Supporting files of the second generation are missing.")
+    }
+
+    @Test
+    fun `openApiGenerate should pass additional properties to a worker process`() {
+        // Arrange
+        val projectFiles = mapOf(
+            "spec.yaml" to javaClass.classLoader.getResourceAsStream("specs/petstore-v3.0.yaml")
+        )
+        withProject(
+            """
+        plugins {
+          id 'org.openapi.generator'
+        }
+        def suffix = "client"
+        openApiGenerate {
+            generatorName = "java"
+            inputSpec = file("spec.yaml").absolutePath
+            outputDir = file("build/java").absolutePath
+            workerIsolation = "process"
+            additionalProperties = [
+                    artifactId: "petstore-${'$'}{suffix}",
+                    hideGenerationTimestamp: true
+            ]
+        }
+    """.trimIndent(),
+            projectFiles
+        )
+
+        // Act
+        val result = build {
+            withArguments("openApiGenerate")
+        }
+
+        // Assert
+        assertEquals(TaskOutcome.SUCCESS, result.task(":openApiGenerate")?.outcome,
+            "Expected a successful run, but found ${result.task(":openApiGenerate")?.outcome}")
+        val pom = File(temp, "build/java/pom.xml").readText()
+        assertTrue(pom.contains("<artifactId>petstore-client</artifactId>"), "The GString additional property is missing.")
+        val pet = File(temp, "build/java/src/main/java/org/openapitools/client/model/Pet.java").readText()
+        assertFalse(pet.contains("date = "), "The boolean additional property is missing.")
+    }
 }
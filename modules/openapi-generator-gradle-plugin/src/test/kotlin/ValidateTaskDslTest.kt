@@ -349,4 +349,90 @@ class ValidateTaskDslTest : TestBase() {
             "Expected a successful run, but found ${result.task(":openApiValidate")?.outcome}"
         )
     }
+
+    @Test(dataProvider = "gradle_version_provider")
+    fun `openApiValidate should succeed with recommendations on several threads`(gradleVersion: String?) {
+        // Arrange
+        val projectFiles = mapOf(
+            "spec.yaml" to javaClass.classLoader.getResourceAsStream("specs/petstore-v3.0-recommend.yaml")
+        )
+
+        withProject(
+            """
+            | plugins {
+            |   id 'org.openapi.generator'
+            | }
+            |
+            | openApiValidate {
+            |   inputSpec = file("spec.yaml").absolutePath
+            |   threads = 2
+            |   errorLimit = 1
+            | }
+        """.trimMargin(), projectFiles
+        )
+
+        // Act
+        val result = getGradleRunner(gradleVersion)
+            .withProjectDir(temp)
+            .withArguments("openApiValidate")
+            .withPluginClasspath()
+            .build()
+
+        // Assert
+        assertTrue(
+            result.output.contains("Spec is valid."),
+            "Unexpected/no message presented to the user for a valid spec."
+        )
+        assertTrue(
+            result.output.contains("Spec has issues or recommendations."),
+            "Unexpected/no recommendations message presented to the user for a valid spec."
+        )
+        assertEquals(
+            SUCCESS, result.task(":openApiValidate")?.outcome,
+            "Expected a successful run, but found ${result.task(":openApiValidate")?.outcome}"
+        )
+    }
+
+    @Test(dataProvider = "gradle_version_provider")
+    fun `openApiValidate should stop evaluating once the error limit is reached`(gradleVersion: String?) {
+        // Arrange
+        val projectFiles = mapOf(
+            "spec.yaml" to javaClass.classLoader.getResourceAsStream("specs/petstore-v3.0-recommend-invalid-due-to-missing-info-attribute.yaml")
+        )
+
+        // the parser error reaches the limit, so the recommendations are not evaluated
+        withProject(
+            """
+            | plugins {
+            |   id 'org.openapi.generator'
+            | }
+            |
+            | openApiValidate {
+            |   inputSpec = file("spec.yaml").absolutePath
+            |   errorLimit = 1
+            | }
+        """.trimMargin(), projectFiles
+        )
+
+        // Act
+        val result = getGradleRunner(gradleVersion)
+            .withProjectDir(temp)
+            .withArguments("openApiValidate")
+            .withPluginClasspath()
+            .buildAndFail()
+
+        // Assert
+        assertTrue(
+            result.output.contains("attribute info is missing"),
+            "Spec validation detail"
+        )
+        assertTrue(
+            result.output.contains("Spec has issues or recommendations.").not(),
+            "Unexpected/recommendations message presented to the user once the error limit is reached"
+        )
+        assertEquals(
+            FAILED, result.task(":openApiValidate")?.outcome,
+            "Expected a failed run, but found ${result.task(":openApiValidate")?.outcome}"
+        )
+    }
 }
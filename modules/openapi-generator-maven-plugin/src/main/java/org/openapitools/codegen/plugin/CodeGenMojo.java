@@ -17,6 +17,7 @@
 
 package org.openapitools.codegen.plugin;
 
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
 import io.swagger.parser.OpenAPIParser;
@@ -44,6 +45,7 @@ import org.openapitools.codegen.auth.AuthParser;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.GlobalSettings;
 import org.openapitools.codegen.config.MergedSpecBuilder;
+import org.openapitools.codegen.utils.ImplementationVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonatype.plexus.build.incremental.BuildContext;
@@ -51,6 +53,8 @@ import org.sonatype.plexus.build.incremental.DefaultBuildContext;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -59,6 +63,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.openapitools.codegen.config.CodegenConfiguratorUtils.*;
@@ -68,7 +78,15 @@ import static org.openapitools.codegen.config.CodegenConfiguratorUtils.*;
  */
 @SuppressWarnings({"unused", "MismatchedQueryAndUpdateOfCollection"})
 @Mojo(name = "generate", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
-public class CodeGenMojo extends AbstractMojo {
+public class CodeGenMojo extends AbstractMojo implements Cloneable {
+
+    /**
+     * Fields which do not affect the generated code, and so are left out of the input hash.
+     */
+    private static final Set<String> NON_GENERATION_FIELDS = Set.of(
+            "LOGGER", "buildContext", "skip", "skipIfSpecIsUnchanged", "generationUnits", "parallelism",
+            "cleanupOutput", "collapsedSpec", "includeCollapsedSpecInArtifacts", "addCompileSourceRoot",
+            "addTestCompileSourceRoot", "mavenProject", "mavenProjectHelper", "mojo", "project");
 
     private final Logger LOGGER = LoggerFactory.getLogger(CodeGenMojo.class);
 
@@ -484,11 +502,25 @@ public class CodeGenMojo extends AbstractMojo {
     private Boolean skip;
 
     /**
-     * Skip the execution if the source file is older than the output folder.
+     * Skip the execution if neither the spec (including the files it references), the templates of the template
+     * directory, the generator version nor the configuration changed since the last generation.
      */
     @Parameter(name = "skipIfSpecIsUnchanged", property = "codegen.skipIfSpecIsUnchanged", defaultValue = "false")
     private Boolean skipIfSpecIsUnchanged;
 
+    /**
+     * The generations to run in this execution, each inheriting the configuration of the execution. When set, the
+     * units are generated concurrently in place of the spec configured by inputSpec.
+     */
+    @Parameter(name = "generationUnits")
+    private List<GenerationUnit> generationUnits;
+
+    /**
+     * The maximum number of generation units generated concurrently; 0 uses one thread per available processor.
+     */
+    @Parameter(name = "parallelism", property = "codegen.parallelism", defaultValue = "0")
+    private int parallelism;
+
     /**
      * Add the output directory to the project as a source root, so that the generated java types
      * are compiled and included in the project artifact. Mutually exclusive with {@link #addTestCompileSourceRoot}.
@@ -539,6 +571,111 @@ public class CodeGenMojo extends AbstractMojo {
 
     @Override
     public void execute() throws MojoExecutionException {
+        if (generationUnits != null && !generationUnits.isEmpty()) {
+            executeGenerationUnits();
+            return;
+        }
+
+        prepare();
+        generate();
+    }
+
+    /**
+     * Generates the units concurrently, on at most {@link #parallelism} threads. Everything which updates the Maven
+     * project is done up front, on the calling thread.
+     */
+    private void executeGenerationUnits() throws MojoExecutionException {
+        final List<CodeGenMojo> units = new ArrayList<>(generationUnits.size());
+        final Set<File> outputs = new HashSet<>();
+        for (GenerationUnit generationUnit : generationUnits) {
+            final CodeGenMojo unit = copyFor(generationUnit);
+            unit.prepare();
+            if (!outputs.add(unit.output.getAbsoluteFile())) {
+                throw new MojoExecutionException("Generation units must not share the output directory " + unit.output);
+            }
+            units.add(unit);
+        }
+
+        final int threads = Math.min(units.size(), parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Void>> results = new ArrayList<>(units.size());
+            for (CodeGenMojo unit : units) {
+                results.add(executor.submit(() -> {
+                    // pool threads inherit the global settings of this thread; each unit starts from its own
+                    GlobalSettings.reset();
+                    try {
+                        unit.generate();
+                    } finally {
+                        GlobalSettings.reset();
+                    }
+                    return null;
+                }));
+            }
+
+            MojoExecutionException failure = null;
+            for (Future<Void> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    final MojoExecutionException unitFailure = e.getCause() instanceof MojoExecutionException
+                            ? (MojoExecutionException) e.getCause()
+                            : new MojoExecutionException("Code generation failed. See above for the full exception.", e.getCause());
+                    if (failure == null) {
+                        failure = unitFailure;
+                    } else {
+                        failure.addSuppressed(unitFailure);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Code generation was interrupted.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Copies this execution for a generation unit, with the values set by the unit.
+     */
+    private CodeGenMojo copyFor(GenerationUnit generationUnit) throws MojoExecutionException {
+        final CodeGenMojo unit;
+        try {
+            unit = (CodeGenMojo) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new MojoExecutionException("Failed to configure the generation unit.", e);
+        }
+        unit.generationUnits = null;
+        if (isNotEmpty(generationUnit.getInputSpec())) {
+            unit.inputSpec = generationUnit.getInputSpec();
+        }
+        if (generationUnit.getOutput() != null) {
+            unit.output = generationUnit.getOutput();
+        }
+        if (isNotEmpty(generationUnit.getGeneratorName())) {
+            unit.generatorName = generationUnit.getGeneratorName();
+        }
+        if (generationUnit.getConfigOptions() != null) {
+            final Map<Object, Object> unitConfigOptions = new HashMap<>();
+            if (configOptions != null) {
+                unitConfigOptions.putAll(configOptions);
+            }
+            unitConfigOptions.putAll(generationUnit.getConfigOptions());
+            unit.configOptions = unitConfigOptions;
+        }
+        // updated during generation
+        unit.globalProperties = globalProperties == null ? null : new HashMap<>(globalProperties);
+        return unit;
+    }
+
+    /**
+     * Resolves the spec and the output directory, and registers the output with the Maven project.
+     */
+    private void prepare() throws MojoExecutionException {
         if (StringUtils.isBlank(inputSpec) && StringUtils.isBlank(inputSpecRootDirectory)) {
             LOGGER.error("inputSpec or inputSpecRootDirectory must be specified");
             throw new MojoExecutionException("inputSpec or inputSpecRootDirectory must be specified");
@@ -550,8 +687,6 @@ public class CodeGenMojo extends AbstractMojo {
             LOGGER.info("Merge input spec would be used - {}", inputSpec);
         }
 
-        File inputSpecFile = new File(inputSpec);
-
         if (output == null) {
             output = new File(project.getBuild().getDirectory(),
                     LifecyclePhase.GENERATE_TEST_SOURCES.id().equals(mojo.getLifecyclePhase()) ?
@@ -570,6 +705,10 @@ public class CodeGenMojo extends AbstractMojo {
         }
 
         addCompileSourceRootIfConfigured();
+    }
+
+    private void generate() throws MojoExecutionException {
+        File inputSpecFile = new File(inputSpec);
 
         try {
             if (Boolean.TRUE.equals(skip)) {
@@ -587,11 +726,12 @@ public class CodeGenMojo extends AbstractMojo {
                 }
             }
 
+            final String inputHash = calculateInputHash();
             if (Boolean.TRUE.equals(skipIfSpecIsUnchanged)) {
                 final File storedInputSpecHashFile = getHashFile(inputSpecFile);
                 if (storedInputSpecHashFile.exists()) {
                     String storedInputSpecHash = Files.asCharSource(storedInputSpecHashFile, StandardCharsets.UTF_8).read();
-                    if (storedInputSpecHash.equals(calculateInputSpecHash(inputSpec))) {
+                    if (storedInputSpecHash.equals(inputHash)) {
                         getLog().info("Code generation is skipped because input was unchanged");
                         return;
                     }
@@ -983,7 +1123,7 @@ public class CodeGenMojo extends AbstractMojo {
                 }
             }
 
-            Files.asCharSink(storedInputSpecHashFile, StandardCharsets.UTF_8).write(calculateInputSpecHash(inputSpec));
+            Files.asCharSink(storedInputSpecHashFile, StandardCharsets.UTF_8).write(inputHash);
         } catch (Exception e) {
             // Maven logs exceptions thrown by plugins only if invoked with -e
             // I find it annoying to jump through hoops to get basic diagnostic information,
@@ -997,6 +1137,52 @@ public class CodeGenMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Calculate an SHA256 hash of everything the generated code depends on: the openapi specification, the templates
+     * of the template directory, the generator version and the configuration of this execution.
+     *
+     * @return input hash
+     * @throws IOException if the template directory cannot be read
+     */
+    private String calculateInputHash() throws IOException {
+        final Hasher hasher = Hashing.sha256().newHasher()
+                .putString(calculateInputSpecHash(inputSpec), StandardCharsets.UTF_8)
+                .putString(ImplementationVersion.read(), StandardCharsets.UTF_8);
+
+        // the parameter annotations are not retained at runtime, so all the other fields make up the configuration
+        for (Field field : CodeGenMojo.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || NON_GENERATION_FIELDS.contains(field.getName())) {
+                continue;
+            }
+            Object value;
+            try {
+                value = field.get(this);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+            if (value instanceof Map) {
+                final Map<String, String> sorted = new TreeMap<>();
+                ((Map<?, ?>) value).forEach((k, v) -> sorted.put(String.valueOf(k), String.valueOf(v)));
+                value = sorted;
+            }
+            hasher.putString(field.getName(), StandardCharsets.UTF_8)
+                    .putString(String.valueOf(value), StandardCharsets.UTF_8);
+        }
+
+        if (templateDirectory != null && templateDirectory.isDirectory()) {
+            final Path root = templateDirectory.toPath();
+            final List<Path> templates;
+            try (Stream<Path> files = java.nio.file.Files.walk(root)) {
+                templates = files.filter(java.nio.file.Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            for (Path template : templates) {
+                hasher.putString(root.relativize(template).toString(), StandardCharsets.UTF_8)
+                        .putBytes(java.nio.file.Files.readAllBytes(template));
+            }
+        }
+        return hasher.hash().toString();
+    }
+
     /**
      * Calculate an SHA256 hash for the openapi specification.
      * If the specification is hosted on a remote resource it is downloaded first.
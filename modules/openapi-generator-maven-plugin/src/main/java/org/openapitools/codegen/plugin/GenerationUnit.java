@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.plugin;
+
+import java.io.File;
+import java.util.Map;
+
+/**
+ * One of the generations of a {@link CodeGenMojo} execution configured with {@code generationUnits}.
+ * <p>
+ * A unit inherits the configuration of the execution and overrides the values it sets.
+ */
+public class GenerationUnit {
+    /**
+     * Location of the OpenAPI spec, as URL or file.
+     */
+    private String inputSpec;
+
+    /**
+     * Location of the output directory, which must differ between the units of an execution.
+     */
+    private File output;
+
+    /**
+     * The name of the generator to use.
+     */
+    private String generatorName;
+
+    /**
+     * Language-specific parameters, added to (and overriding) the configOptions of the execution.
+     */
+    private Map<?, ?> configOptions;
+
+    public String getInputSpec() {
+        return inputSpec;
+    }
+
+    public void setInputSpec(String inputSpec) {
+        this.inputSpec = inputSpec;
+    }
+
+    public File getOutput() {
+        return output;
+    }
+
+    public void setOutput(File output) {
+        this.output = output;
+    }
+
+    public String getGeneratorName() {
+        return generatorName;
+    }
+
+    public void setGeneratorName(String generatorName) {
+        this.generatorName = generatorName;
+    }
+
+    public Map<?, ?> getConfigOptions() {
+        return configOptions;
+    }
+
+    public void setConfigOptions(Map<?, ?> configOptions) {
+        this.configOptions = configOptions;
+    }
+}
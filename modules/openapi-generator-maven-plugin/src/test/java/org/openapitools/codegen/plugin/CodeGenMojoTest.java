@@ -255,6 +255,44 @@ public class CodeGenMojoTest extends BaseTestCase {
         assertTrue("Src directory should have been regenerated", Files.exists(generatedDir.resolve("src")));
     }
 
+    public void test_skipIfSpecIsUnchanged_recognizesUpdatesInTemplateDirectory() throws Exception {
+        //GIVEN
+        final Path tempDir = newTempFolder();
+        final Path generatedDir = tempDir.resolve("target/generated-sources/issue-16489");
+        final Path template = tempDir.resolve("templates/licenseInfo.mustache");
+        Files.createDirectories(template.getParent());
+        Files.writeString(template, "/* first */");
+        final CodeGenMojo mojo = loadMojo(tempDir, "src/test/resources/issue-16489", null);
+        setVariableValueToObject(mojo, "templateDirectory", template.getParent().toFile());
+        mojo.execute(); // Perform an initial generation
+        FileUtils.deleteDirectory(generatedDir.resolve("src").toFile());    // Remove the generated source
+        mojo.execute(); // Execute the mojo again, unchanged
+        assertFalse("Src directory should not have been regenerated", Files.exists(generatedDir.resolve("src")));
+        Files.writeString(template, "/* second */");   // change a template
+
+        // WHEN
+        mojo.execute(); // Execute the mojo again
+
+        // THEN
+        assertTrue("Src directory should have been regenerated", Files.exists(generatedDir.resolve("src")));
+    }
+
+    public void testGenerationUnitsAreGeneratedIntoTheirOutputs() throws Exception {
+        // GIVEN
+        final Path tempDir = newTempFolder();
+        final CodeGenMojo mojo = loadMojo(tempDir, "src/test/resources/generation-units", null);
+
+        // WHEN
+        mojo.execute();
+
+        // THEN
+        final Path generatedDir = tempDir.resolve("target/generated-sources");
+        assertTrue(Files.exists(generatedDir.resolve("java/.openapi-generator/petstore.yaml-default.sha256")));
+        assertTrue(Files.exists(generatedDir.resolve("kotlin/.openapi-generator/petstore.yaml-default.sha256")));
+        assertTrue(Files.exists(generatedDir.resolve("java/src/main/java/org/openapitools/client/model/Pet.java")));
+        assertTrue(Files.exists(generatedDir.resolve("kotlin/src/main/kotlin/org/openapitools/client/models/Pet.kt")));
+    }
+
     protected CodeGenMojo loadMojo(Path temporaryFolder, String projectRoot, String profile) throws Exception {
         return loadMojo(temporaryFolder, projectRoot, profile, "default");
     }
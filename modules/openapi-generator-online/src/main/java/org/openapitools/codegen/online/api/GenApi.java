@@ -25,6 +25,8 @@ package org.openapitools.codegen.online.api;
 import io.swagger.annotations.*;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobMetrics;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
@@ -83,6 +85,53 @@ public interface GenApi {
     }
 
 
+    @ApiOperation(value = "Submits the generation of a client library", nickname = "submitClientJob", notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The generation runs asynchronously, its status is available at the returned `link`, and its result can be downloaded once completed.", response = JobStatus.class, tags = {"clients", "jobs",})
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "generation queued", response = JobStatus.class),
+            @ApiResponse(code = 503, message = "too many generations in progress")})
+    @RequestMapping(value = "/gen/jobs/clients/{language}",
+            produces = {"application/json"},
+            method = RequestMethod.POST)
+    default ResponseEntity<JobStatus> submitClientJob(@ApiParam(value = "The target language for the client library", required = true) @PathVariable("language") String language, @ApiParam(value = "Configuration for building the client library", required = true) @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().submitClientJob(language, generatorInput);
+    }
+
+
+    @ApiOperation(value = "Submits the generation of a server library", nickname = "submitServerJob", notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The generation runs asynchronously, its status is available at the returned `link`, and its result can be downloaded once completed.", response = JobStatus.class, tags = {"servers", "jobs",})
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "generation queued", response = JobStatus.class),
+            @ApiResponse(code = 503, message = "too many generations in progress")})
+    @RequestMapping(value = "/gen/jobs/servers/{framework}",
+            produces = {"application/json"},
+            method = RequestMethod.POST)
+    default ResponseEntity<JobStatus> submitServerJob(@ApiParam(value = "framework", required = true) @PathVariable("framework") String framework, @ApiParam(value = "parameters", required = true) @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().submitServerJob(framework, generatorInput);
+    }
+
+
+    @ApiOperation(value = "Returns the status of a generation", nickname = "getJobStatus", notes = "", response = JobStatus.class, tags = {"jobs",})
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "successful operation", response = JobStatus.class),
+            @ApiResponse(code = 404, message = "unknown, downloaded or expired job")})
+    @RequestMapping(value = "/gen/jobs/{jobId}",
+            produces = {"application/json"},
+            method = RequestMethod.GET)
+    default ResponseEntity<JobStatus> getJobStatus(@ApiParam(value = "", required = true) @PathVariable("jobId") String jobId) {
+        return getDelegate().getJobStatus(jobId);
+    }
+
+
+    @ApiOperation(value = "Returns metrics of the generation queue", nickname = "getJobMetrics", notes = "", response = JobMetrics.class, tags = {"jobs",})
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "successful operation", response = JobMetrics.class)})
+    @RequestMapping(value = "/gen/jobs/metrics",
+            produces = {"application/json"},
+            method = RequestMethod.GET)
+    default ResponseEntity<JobMetrics> getJobMetrics() {
+        return getDelegate().getJobMetrics();
+    }
+
+
     @ApiOperation(value = "Returns options for a client library", nickname = "getClientOptions", notes = "", tags = {"clients",})
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "successful operation")})
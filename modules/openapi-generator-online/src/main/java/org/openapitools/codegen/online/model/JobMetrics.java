@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.model;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+public class JobMetrics {
+    @ApiModelProperty(value = "Jobs waiting for a generation thread")
+    private int queueDepth;
+    @ApiModelProperty(value = "Maximum number of waiting jobs, further jobs are rejected")
+    private int queueCapacity;
+    @ApiModelProperty(value = "Jobs being generated")
+    private int activeJobs;
+    @ApiModelProperty(value = "Maximum number of jobs generated concurrently")
+    private int threads;
+    @ApiModelProperty(value = "Jobs rejected because the queue was full")
+    private long rejectedJobs;
+    @ApiModelProperty(value = "Jobs and results held by the result store")
+    private long storedJobs;
+    @ApiModelProperty(value = "Generation times by generator name")
+    private Map<String, GeneratorTimings> generators;
+
+    @Getter
+    @Setter
+    public static class GeneratorTimings {
+        @ApiModelProperty(value = "Completed and failed generations")
+        private long count;
+        @ApiModelProperty(value = "Average generation time, in milliseconds")
+        private long averageMillis;
+        @ApiModelProperty(value = "Longest generation time, in milliseconds")
+        private long maxMillis;
+    }
+}
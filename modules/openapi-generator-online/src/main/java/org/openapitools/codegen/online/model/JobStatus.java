@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.model;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class JobStatus {
+    @ApiModelProperty(value = "Job id, also used as the file download code once completed",
+            example = "d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    private String id;
+    @ApiModelProperty(value = "Generator name", example = "java")
+    private String generator;
+    @ApiModelProperty(value = "Job state", allowableValues = "QUEUED, RUNNING, COMPLETED, FAILED")
+    private String state;
+    @ApiModelProperty(value = "Reason of the failure of a failed job")
+    private String error;
+    @ApiModelProperty(value = "Jobs queued ahead of this job, while queued")
+    private Integer queuePosition;
+    @ApiModelProperty(value = "URL for fetching the status of the job",
+            example = "http://localhost:8080/api/gen/jobs/d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    private String link;
+    @ApiModelProperty(value = "URL for fetching the generated code, once completed",
+            example = "http://localhost:8080/api/gen/download/d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    private String downloadLink;
+}
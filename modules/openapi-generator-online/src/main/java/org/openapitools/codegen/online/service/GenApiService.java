@@ -17,17 +17,21 @@
 
 package org.openapitools.codegen.online.service;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenType;
+import org.openapitools.codegen.config.ParsedSpecificationCache;
 import org.openapitools.codegen.online.api.GenApiDelegate;
-import org.openapitools.codegen.online.model.Generated;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobMetrics;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
@@ -39,20 +43,14 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
 
 @Service
 public class GenApiService implements GenApiDelegate {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenApiService.class);
 
     private static List<String> clients = new ArrayList<>();
     private static List<String> servers = new ArrayList<>();
-    private static Map<String, Generated> fileMap = new HashMap<>();
 
     static {
         List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
@@ -72,6 +70,16 @@ public class GenApiService implements GenApiDelegate {
     @Autowired
     private NativeWebRequest request;
 
+    @Autowired
+    private GenerationJobService jobs;
+
+    // parsed specifications are only cached when a size is configured
+    private final ParsedSpecificationCache specifications;
+
+    public GenApiService(@Value("${generator.spec-cache.size:0}") int specCacheSize) {
+        this.specifications = specCacheSize > 0 ? new ParsedSpecificationCache(specCacheSize) : null;
+    }
+
     @Override
     public Optional<NativeWebRequest> getRequest() {
         return Optional.ofNullable(request);
@@ -79,30 +87,25 @@ public class GenApiService implements GenApiDelegate {
 
     @Override
     public ResponseEntity<Resource> downloadFile(String fileId) {
-        Generated g = fileMap.get(fileId);
-        System.out.println("looking for fileId " + fileId);
-        System.out.println("got filename " + g.getFilename());
-
-        File file = new File(g.getFilename());
-        Path path = Paths.get(file.getAbsolutePath());
-        ByteArrayResource resource;
-        try {
-            resource = new ByteArrayResource(Files.readAllBytes(path));
-        } catch (FileNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found", e);
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "I/O error while reading file", e);
+        LOGGER.debug("Looking for file {}", fileId);
+        GenerationJob job = jobs.get(fileId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found");
+        }
+        if (job.getState() != GenerationJob.State.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Generation is " + job.getState().name().toLowerCase(Locale.ROOT));
         }
-        try {
-            FileUtils.deleteDirectory(file.getParentFile());
-        } catch (IOException e) {
-            System.out.println("failed to delete file " + file.getAbsolutePath());
+        // generated archives are only kept until downloaded
+        if (jobs.remove(fileId) == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found");
         }
+
+        ByteArrayResource resource = new ByteArrayResource(job.getContents());
         return ResponseEntity
                 .ok()
                 .contentType(MediaType.valueOf("application/zip"))
                 .header("Content-Disposition",
-                        "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
+                        "attachment; filename=\"" + job.getFriendlyName() + "-generated.zip\"")
                 .header("Accept-Range", "bytes")
                 //.header("Content-Length", bytes.length)
                 .body(resource);
@@ -110,8 +113,8 @@ public class GenApiService implements GenApiDelegate {
 
     @Override
     public ResponseEntity<ResponseCode> generateClient(String language, GeneratorInput generatorInput) {
-        String filename = Generator.generateClient(language, generatorInput);
-        return getResponse(filename, language + "-client");
+        GenerationJob job = jobs.generate(language, language + "-client", () -> Generator.generateClient(language, generatorInput, specifications));
+        return getResponse(job);
     }
 
     @Override
@@ -151,34 +154,65 @@ public class GenApiService implements GenApiDelegate {
         if (framework == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Framework is required");
         }
-        String filename = Generator.generateServer(framework, generatorInput);
-        System.out.println("generated name: " + filename);
+        GenerationJob job = jobs.generate(framework, framework + "-server", () -> Generator.generateServer(framework, generatorInput, specifications));
+        return getResponse(job);
+    }
+
+    @Override
+    public ResponseEntity<JobStatus> submitClientJob(String language, GeneratorInput generatorInput) {
+        GenerationJob job = jobs.submit(language, language + "-client", () -> Generator.generateClient(language, generatorInput, specifications));
+        return ResponseEntity.accepted().body(getStatus(job));
+    }
 
-        return getResponse(filename, framework + "-server");
+    @Override
+    public ResponseEntity<JobStatus> submitServerJob(String framework, GeneratorInput generatorInput) {
+        GenerationJob job = jobs.submit(framework, framework + "-server", () -> Generator.generateServer(framework, generatorInput, specifications));
+        return ResponseEntity.accepted().body(getStatus(job));
     }
 
-    private ResponseEntity<ResponseCode> getResponse(String filename, String friendlyName) {
+    @Override
+    public ResponseEntity<JobStatus> getJobStatus(String jobId) {
+        GenerationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found");
+        }
+        return ResponseEntity.ok().body(getStatus(job));
+    }
+
+    @Override
+    public ResponseEntity<JobMetrics> getJobMetrics() {
+        return ResponseEntity.ok().body(jobs.getMetrics());
+    }
+
+    private UriComponentsBuilder getUriBuilder() {
         String host = System.getenv("GENERATOR_HOST");
 
-        UriComponentsBuilder uriBuilder;
         if (!StringUtils.isBlank(host)) {
-            uriBuilder = UriComponentsBuilder.fromUriString(host);
+            return UriComponentsBuilder.fromUriString(host);
         } else {
-            uriBuilder = ServletUriComponentsBuilder.fromCurrentContextPath();
+            return ServletUriComponentsBuilder.fromCurrentContextPath();
         }
+    }
 
-        if (filename != null) {
-            String code = UUID.randomUUID().toString();
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(friendlyName);
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
-            String link = uriBuilder.path("/api/gen/download/").path(code).toUriString();
-            return ResponseEntity.ok().body(new ResponseCode(code, link));
-        } else {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    private JobStatus getStatus(GenerationJob job) {
+        JobStatus status = new JobStatus();
+        status.setId(job.getId());
+        status.setGenerator(job.getGenerator());
+        status.setState(job.getState().name());
+        status.setError(job.getError());
+        status.setQueuePosition(jobs.getQueuePosition(job));
+        status.setLink(getUriBuilder().path("/api/gen/jobs/").path(job.getId()).toUriString());
+        if (job.getState() == GenerationJob.State.COMPLETED) {
+            status.setDownloadLink(getUriBuilder().path("/api/gen/download/").path(job.getId()).toUriString());
         }
+        return status;
+    }
+
+    private ResponseEntity<ResponseCode> getResponse(GenerationJob job) {
+        String code = job.getId();
+        LOGGER.debug("Generated {} as {}", job.getFriendlyName(), code);
+        String link = getUriBuilder().path("/api/gen/download/").path(code).toUriString();
+        return ResponseEntity.ok().body(new ResponseCode(code, link));
     }
 
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A generation submitted to the {@link GenerationJobService}, and its result once completed.
+ */
+@Getter
+public class GenerationJob {
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final String generator;
+    private final String friendlyName;
+    private final Instant submitted = Instant.now();
+    private volatile State state = State.QUEUED;
+    private volatile Instant started;
+    private volatile Instant finished;
+    private volatile byte[] contents;
+    private volatile String error;
+    // completes with the job, whether it succeeded or not
+    @Getter(AccessLevel.PACKAGE)
+    private final CompletableFuture<GenerationJob> completion = new CompletableFuture<>();
+
+    GenerationJob(String id, String generator, String friendlyName) {
+        this.id = id;
+        this.generator = generator;
+        this.friendlyName = friendlyName;
+    }
+
+    void start() {
+        started = Instant.now();
+        state = State.RUNNING;
+    }
+
+    void complete(byte[] contents) {
+        this.contents = contents;
+        finished = Instant.now();
+        state = State.COMPLETED;
+        completion.complete(this);
+    }
+
+    void fail(Throwable cause) {
+        error = cause.getMessage();
+        finished = Instant.now();
+        state = State.FAILED;
+        completion.completeExceptionally(cause);
+    }
+
+    /**
+     * @return the size of the generated archive, or 0 until the job is completed
+     */
+    int size() {
+        byte[] current = contents;
+        return current == null ? 0 : current.length;
+    }
+}
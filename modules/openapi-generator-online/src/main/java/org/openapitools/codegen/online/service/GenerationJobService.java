@@ -0,0 +1,245 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openapitools.codegen.CodegenConfigLoader;
+import org.openapitools.codegen.GeneratorNotFoundException;
+import org.openapitools.codegen.online.model.JobMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs generations on a bounded pool of threads, and holds their results until they are downloaded.
+ * <p>
+ * Jobs wait in a queue of limited capacity when all threads are busy, and are rejected once the queue is full. Jobs
+ * and their results are kept in a store which evicts them after a time to live, or earlier once the total size of the
+ * stored results exceeds its limit. Synchronous generations wait for their job for a limited time, after which the job
+ * keeps running and can still be downloaded.
+ */
+@Service
+public class GenerationJobService implements DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationJobService.class);
+
+    private final int threads;
+    private final int queueCapacity;
+    private final long syncTimeoutSeconds;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, GenerationJob> jobs;
+    private final AtomicLong rejected = new AtomicLong();
+    private final Map<String, Timings> timings = new ConcurrentHashMap<>();
+
+    public GenerationJobService(@Value("${generator.jobs.threads:4}") int threads,
+                                @Value("${generator.jobs.queue-capacity:100}") int queueCapacity,
+                                @Value("${generator.jobs.ttl-minutes:30}") long ttlMinutes,
+                                @Value("${generator.jobs.max-stored-megabytes:512}") long maxStoredMegabytes,
+                                @Value("${generator.jobs.sync-timeout-seconds:300}") long syncTimeoutSeconds) {
+        this.threads = Math.max(1, threads);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.syncTimeoutSeconds = Math.max(1, syncTimeoutSeconds);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(this.threads, this.threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "generator-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        // weighed in kilobytes, so that the limit is on the size of the stored archives rather than their number
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumWeight(maxStoredMegabytes * 1024)
+                .<String, GenerationJob>weigher((id, job) -> 1 + job.size() / 1024)
+                .build();
+    }
+
+    /**
+     * Queues a generation.
+     *
+     * @param generator    the name of the generator
+     * @param friendlyName the name of the generated archive
+     * @param generation   generates the archive
+     * @return the queued job
+     * @throws ResponseStatusException with status 400 if there is no such generator, or 503 if the queue is full
+     */
+    public GenerationJob submit(String generator, String friendlyName, Supplier<byte[]> generation) {
+        // rejected before taking a place in the queue, and before being recorded in the timings of the generators
+        try {
+            CodegenConfigLoader.forName(generator);
+        } catch (GeneratorNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported target " + generator + " supplied");
+        }
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), generator, friendlyName);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, generation));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            rejected.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many generations in progress, please retry later");
+        }
+        return job;
+    }
+
+    /**
+     * Queues a generation, and waits for it to complete.
+     *
+     * @param generator    the name of the generator
+     * @param friendlyName the name of the generated archive
+     * @param generation   generates the archive
+     * @return the completed job
+     * @throws ResponseStatusException with status 503 if the queue is full, 504 if the job did not complete in time, or
+     *                                 the exception of a failed generation
+     */
+    public GenerationJob generate(String generator, String friendlyName, Supplier<byte[]> generation) {
+        GenerationJob job = submit(generator, friendlyName, generation);
+        try {
+            return job.getCompletion().get(syncTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ResponseStatusException) {
+                throw (ResponseStatusException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Unable to build target: " + e.getCause(), e.getCause());
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unable to build target: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                    "Generation did not complete within " + syncTimeoutSeconds + " seconds, its status is available as job " + job.getId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Generation interrupted", e);
+        }
+    }
+
+    private void run(GenerationJob job, Supplier<byte[]> generation) {
+        job.start();
+        long start = System.nanoTime();
+        try {
+            job.complete(generation.get());
+        } catch (RuntimeException e) {
+            LOGGER.debug("Generation {} with {} failed", job.getId(), job.getGenerator(), e);
+            job.fail(e);
+        } catch (Throwable e) {
+            // e.g. an OutOfMemoryError, which must not leave the job running forever
+            LOGGER.error("Generation {} with {} failed", job.getId(), job.getGenerator(), e);
+            job.fail(e);
+            throw e;
+        } finally {
+            timings.computeIfAbsent(job.getGenerator(), k -> new Timings())
+                    .record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            // store again, so that the job is weighed with its result (unless it has been evicted meanwhile)
+            jobs.asMap().replace(job.getId(), job, job);
+        }
+    }
+
+    /**
+     * @param id the id of a job
+     * @return the job, or null if there is no such job or it has been evicted
+     */
+    public GenerationJob get(String id) {
+        return jobs.getIfPresent(id);
+    }
+
+    /**
+     * Removes a job from the store.
+     *
+     * @param id the id of a job
+     * @return the removed job, or null if there is no such job or it has been evicted
+     */
+    public GenerationJob remove(String id) {
+        return jobs.asMap().remove(id);
+    }
+
+    /**
+     * @param job a job
+     * @return the number of jobs queued ahead of the job, or null if the job is not queued
+     */
+    public Integer getQueuePosition(GenerationJob job) {
+        if (job.getState() != GenerationJob.State.QUEUED) {
+            return null;
+        }
+        int position = 0;
+        for (GenerationJob queued : jobs.asMap().values()) {
+            if (queued.getState() == GenerationJob.State.QUEUED && queued.getSubmitted().isBefore(job.getSubmitted())) {
+                position++;
+            }
+        }
+        return position;
+    }
+
+    public JobMetrics getMetrics() {
+        JobMetrics metrics = new JobMetrics();
+        metrics.setQueueDepth(executor.getQueue().size());
+        metrics.setQueueCapacity(queueCapacity);
+        metrics.setActiveJobs(executor.getActiveCount());
+        metrics.setThreads(threads);
+        metrics.setRejectedJobs(rejected.get());
+        metrics.setStoredJobs(jobs.estimatedSize());
+
+        Map<String, JobMetrics.GeneratorTimings> generators = new TreeMap<>();
+        timings.forEach((name, values) -> generators.put(name, values.snapshot()));
+        metrics.setGenerators(generators);
+        return metrics;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Count, total and longest duration of the generations of a generator.
+     */
+    private static class Timings {
+        private long count;
+        private long totalMillis;
+        private long maxMillis;
+
+        synchronized void record(long millis) {
+            count++;
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+        }
+
+        synchronized JobMetrics.GeneratorTimings snapshot() {
+            JobMetrics.GeneratorTimings result = new JobMetrics.GeneratorTimings();
+            result.setCount(count);
+            result.setAverageMillis(count == 0 ? 0 : totalMillis / count);
+            result.setMaxMillis(maxMillis);
+            return result;
+        }
+    }
+}
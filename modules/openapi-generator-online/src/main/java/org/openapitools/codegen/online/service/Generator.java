@@ -23,14 +23,16 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import org.openapitools.codegen.*;
+import org.openapitools.codegen.config.ParsedSpecificationCache;
 import org.openapitools.codegen.online.model.GeneratorInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.*;
 
 public class Generator {
@@ -65,15 +67,21 @@ public class Generator {
         }
     }
 
-    public static String generateClient(String language, GeneratorInput opts) {
-        return generate(language, opts, Type.CLIENT);
+    public static byte[] generateClient(String language, GeneratorInput opts, ParsedSpecificationCache specifications) {
+        return generate(language, opts, Type.CLIENT, specifications);
     }
 
-    public static String generateServer(String language, GeneratorInput opts) {
-        return generate(language, opts, Type.SERVER);
+    public static byte[] generateServer(String language, GeneratorInput opts, ParsedSpecificationCache specifications) {
+        return generate(language, opts, Type.SERVER, specifications);
     }
 
-    private static String generate(String language, GeneratorInput opts, Type type) {
+    /**
+     * Generates files in memory, and archives them. The specification is read through the given cache, if any, as
+     * the same specifications tend to be generated into several languages.
+     *
+     * @return the ZIP archive of the generated files, all within a folder named after the language and type
+     */
+    private static byte[] generate(String language, GeneratorInput opts, Type type, ParsedSpecificationCache specifications) {
         LOGGER.debug(String.format(Locale.ROOT, "generate %s for %s", type.getTypeName(), language));
         if (opts == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No options were supplied");
@@ -86,25 +94,20 @@ public class Generator {
         OpenAPI openapi;
         ParseOptions parseOptions = new ParseOptions();
         parseOptions.setResolve(true);
+        List<AuthorizationValue> authorizationValues = opts.getAuthorizationValue() == null
+                ? null : Collections.singletonList(opts.getAuthorizationValue());
         if (node == null) {
             if (opts.getOpenAPIUrl() != null) {
-                if (opts.getAuthorizationValue() != null) {
-                    List<AuthorizationValue> authorizationValues = new ArrayList<>();
-                    authorizationValues.add(opts.getAuthorizationValue());
-                    openapi = new OpenAPIParser().readLocation(opts.getOpenAPIUrl(), authorizationValues, parseOptions).getOpenAPI();
-                } else {
-                    openapi = new OpenAPIParser().readLocation(opts.getOpenAPIUrl(), null, parseOptions).getOpenAPI();
-                }
+                openapi = (specifications == null
+                        ? new OpenAPIParser().readLocation(opts.getOpenAPIUrl(), authorizationValues, parseOptions)
+                        : specifications.readLocation(opts.getOpenAPIUrl(), authorizationValues, parseOptions)).getOpenAPI();
             } else {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No OpenAPI specification was supplied");
             }
-        } else if (opts.getAuthorizationValue() != null) {
-            List<AuthorizationValue> authorizationValues = new ArrayList<>();
-            authorizationValues.add(opts.getAuthorizationValue());
-            openapi = new OpenAPIParser().readContents(node.toString(), authorizationValues, parseOptions).getOpenAPI();
-
         } else {
-            openapi = new OpenAPIParser().readContents(node.toString(), null, parseOptions).getOpenAPI();
+            openapi = (specifications == null
+                    ? new OpenAPIParser().readContents(node.toString(), authorizationValues, parseOptions)
+                    : specifications.readContents(node.toString(), authorizationValues, parseOptions)).getOpenAPI();
         }
         if (openapi == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The OpenAPI specification supplied was not valid");
@@ -116,8 +119,8 @@ public class Generator {
         String destPath = language + "-" + type.getTypeName();
 
         ClientOptInput clientOptInput = new ClientOptInput();
-        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + destPath;
-        String outputFilename = outputFolder + "-bundle.zip";
+        // files are kept in memory, so this folder is never created
+        String outputFolder = Paths.get(System.getProperty("java.io.tmpdir"), "codegen-" + UUID.randomUUID(), destPath).toString();
 
         clientOptInput.openAPI(openapi);
 
@@ -148,43 +151,19 @@ public class Generator {
         clientOptInput.config(codegenConfig);
 
         try {
-            List<File> files = new DefaultGenerator().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<>();
-                LOGGER.debug("adding to {}", outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
-            } else {
+            DefaultGenerator generator = new DefaultGenerator();
+            generator.setInMemory(true);
+            List<File> files = generator.opts(clientOptInput).generate();
+            if (files.isEmpty()) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                         "A target generation was attempted, but no files were created!");
             }
-            for (File file : files) {
-                try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath(), e);
-                }
-            }
-            try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder, e);
-            }
+            LOGGER.debug("archiving {} files of {}", files.size(), outputFolder);
+            ByteArrayOutputStream zip = new ByteArrayOutputStream();
+            ((InMemoryTemplateManager) generator.getTemplateProcessor()).writeZip(outputFolder, destPath + "/", zip);
+            return zip.toByteArray();
         } catch (Exception e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unable to build target: " + e.getMessage(), e);
         }
-        return outputFilename;
-    }
-
-    private static File getTmpFolder() {
-        try {
-            File outputFolder = Files.createTempDirectory("codegen-tmp").toFile();
-            outputFolder.deleteOnExit();
-            return outputFolder;
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new RuntimeException("Cannot access tmp folder");
-        }
     }
 }
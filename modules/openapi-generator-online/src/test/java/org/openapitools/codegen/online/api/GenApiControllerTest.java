@@ -12,6 +12,12 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.util.Assert;
 
+import java.io.ByteArrayInputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.text.MatchesPattern.matchesPattern;
@@ -26,6 +32,11 @@ public class GenApiControllerTest {
     private static final String OPENAPI_URL = "https://raw.githubusercontent.com/OpenAPITools/openapi-generator/v4.3.1/modules/openapi-generator/src/test/resources/petstore.json";
     private static final String UUID_REGEX = "[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-4[a-fA-F0-9]{3}-[89aAbB][a-fA-F0-9]{3}-[a-fA-F0-9]{12}";
 
+    private static final String PING_SPEC = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"ping\",\"version\":\"1.0\"},"
+            + "\"paths\":{\"/ping\":{\"get\":{\"operationId\":\"ping\",\"responses\":{\"200\":{\"description\":\"OK\","
+            + "\"content\":{\"application/json\":{\"schema\":{\"$ref\":\"#/components/schemas/Pong\"}}}}}}}},"
+            + "\"components\":{\"schemas\":{\"Pong\":{\"type\":\"object\",\"properties\":{\"time\":{\"type\":\"string\"}}}}}}";
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -126,6 +137,67 @@ public class GenApiControllerTest {
                 .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, not(0)));
     }
 
+    @Test
+    public void generateFromSpecAndDownloadArchive() throws Exception {
+        String result = mockMvc.perform(post("http://test.com:1234/api/gen/clients/java")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"spec\": " + PING_SPEC + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String code = new ObjectMapper().readValue(result, ResponseCode.class).getCode();
+
+        byte[] zip = mockMvc.perform(get("http://test.com:1234/api/gen/download/" + code))
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Set<String> entries = new HashSet<>();
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            for (ZipEntry entry = zis.getNextEntry(); entry != null; entry = zis.getNextEntry()) {
+                entries.add(entry.getName());
+            }
+        }
+        Assert.isTrue(entries.contains("java-client/src/main/java/org/openapitools/client/model/Pong.java"), "Archive should contain the model: " + entries);
+        Assert.isTrue(entries.contains("java-client/.openapi-generator/FILES"), "Archive should contain metadata: " + entries);
+
+        // archives are only kept until downloaded
+        mockMvc.perform(get("http://test.com:1234/api/gen/download/" + code))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void submitJobAndDownloadArchive() throws Exception {
+        String result = mockMvc.perform(post("http://test.com:1234/api/gen/jobs/clients/java")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"spec\": " + PING_SPEC + "}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(matchesPattern(UUID_REGEX)))
+                .andExpect(jsonPath("$.link").value(matchesPattern("http\\:\\/\\/test.com\\:1234\\/api\\/gen\\/jobs\\/" + UUID_REGEX)))
+                .andReturn().getResponse().getContentAsString();
+        String id = new ObjectMapper().readTree(result).get("id").asText();
+
+        String state = "QUEUED";
+        for (int i = 0; i < 600 && !"COMPLETED".equals(state) && !"FAILED".equals(state); i++) {
+            Thread.sleep(100);
+            String status = mockMvc.perform(get("http://test.com:1234/api/gen/jobs/" + id))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            state = new ObjectMapper().readTree(status).get("state").asText();
+        }
+        Assert.isTrue("COMPLETED".equals(state), "Job should complete, but was " + state);
+
+        mockMvc.perform(get("http://test.com:1234/api/gen/download/" + id))
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("http://test.com:1234/api/gen/jobs/" + id))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("http://test.com:1234/api/gen/jobs/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.queueCapacity").value(100))
+                .andExpect(jsonPath("$.generators.java.count").isNumber());
+    }
+
     @Test
     public void generateClientWithInvalidOpenAPIUrl() throws Exception {
         final String invalidOpenAPIUrl = "https://[::1]/invalid_openapi.json";
@@ -0,0 +1,126 @@
+package org.openapitools.codegen.online.service;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.codegen.online.model.JobMetrics;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenerationJobServiceTest {
+
+    @Test
+    public void rejectsJobsOnceTheQueueIsFull() throws Exception {
+        GenerationJobService service = new GenerationJobService(1, 1, 30, 512, 300);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            GenerationJob running = service.submit("java", "java-client", () -> {
+                started.countDown();
+                await(release);
+                return new byte[]{1};
+            });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            GenerationJob queued = service.submit("java", "java-client", () -> new byte[]{2});
+
+            ResponseStatusException rejected = assertThrows(ResponseStatusException.class,
+                    () -> service.submit("java", "java-client", () -> new byte[]{3}));
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatus());
+
+            assertEquals(GenerationJob.State.RUNNING, running.getState());
+            assertEquals(GenerationJob.State.QUEUED, queued.getState());
+            assertEquals(0, service.getQueuePosition(queued));
+            JobMetrics metrics = service.getMetrics();
+            assertEquals(1, metrics.getQueueDepth());
+            assertEquals(1, metrics.getActiveJobs());
+            assertEquals(1, metrics.getRejectedJobs());
+
+            release.countDown();
+            assertArrayEquals(new byte[]{2}, queued.getCompletion().get(10, TimeUnit.SECONDS).getContents());
+            assertEquals(GenerationJob.State.COMPLETED, running.getState());
+            assertEquals(2, service.getMetrics().getGenerators().get("java").getCount());
+        } finally {
+            release.countDown();
+            service.destroy();
+        }
+    }
+
+    @Test
+    public void reportsFailedJobs() {
+        GenerationJobService service = new GenerationJobService(1, 1, 30, 512, 300);
+        try {
+            ResponseStatusException failure = assertThrows(ResponseStatusException.class,
+                    () -> service.generate("java", "java-client", () -> {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid spec");
+                    }));
+            assertEquals(HttpStatus.BAD_REQUEST, failure.getStatus());
+
+            GenerationJob job = service.submit("java", "java-client", () -> {
+                throw new IllegalStateException("boom");
+            });
+            assertThrows(Exception.class, () -> job.getCompletion().get(10, TimeUnit.SECONDS));
+            assertEquals(GenerationJob.State.FAILED, job.getState());
+            assertEquals("boom", job.getError());
+            assertSame(job, service.get(job.getId()));
+        } finally {
+            service.destroy();
+        }
+    }
+
+    @Test
+    public void failsJobsOnErrors() {
+        GenerationJobService service = new GenerationJobService(1, 1, 30, 512, 300);
+        try {
+            ResponseStatusException failure = assertThrows(ResponseStatusException.class,
+                    () -> service.generate("java", "java-client", () -> {
+                        throw new StackOverflowError("too deep");
+                    }));
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, failure.getStatus());
+            assertEquals(1, service.getMetrics().getGenerators().get("java").getCount());
+        } finally {
+            service.destroy();
+        }
+    }
+
+    @Test
+    public void stopsWaitingForSlowJobs() {
+        GenerationJobService service = new GenerationJobService(1, 1, 30, 512, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            ResponseStatusException timeout = assertThrows(ResponseStatusException.class,
+                    () -> service.generate("java", "java-client", () -> {
+                        await(release);
+                        return new byte[]{1};
+                    }));
+            assertEquals(HttpStatus.GATEWAY_TIMEOUT, timeout.getStatus());
+        } finally {
+            release.countDown();
+            service.destroy();
+        }
+    }
+
+    @Test
+    public void rejectsUnknownGeneratorsBeforeQueueingThem() {
+        GenerationJobService service = new GenerationJobService(1, 1, 30, 512, 300);
+        try {
+            ResponseStatusException unknown = assertThrows(ResponseStatusException.class,
+                    () -> service.submit("unknown", "unknown-client", () -> new byte[]{1}));
+            assertEquals(HttpStatus.BAD_REQUEST, unknown.getStatus());
+            assertEquals(0, service.getMetrics().getStoredJobs());
+            assertTrue(service.getMetrics().getGenerators().isEmpty());
+        } finally {
+            service.destroy();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
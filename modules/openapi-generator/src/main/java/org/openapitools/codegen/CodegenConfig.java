@@ -313,10 +313,16 @@ public interface CodegenConfig {
 
     void postProcessFile(File file, String fileType);
 
+    void executeBatchedPostProcessors();
+
     boolean isEnablePostProcessFile();
 
     void setEnablePostProcessFile(boolean isEnablePostProcessFile);
 
+    int getPostProcessBatchSize();
+
+    void setPostProcessBatchSize(int postProcessBatchSize);
+
     /**
      * Set the OpenAPI instance. This method needs to be called right after the instantiation of the Codegen class.
      *
@@ -332,6 +338,31 @@ public interface CodegenConfig {
 
     public void setEnableMinimalUpdate(boolean isEnableMinimalUpdate);
 
+    int getRenderThreads();
+
+    void setRenderThreads(int renderThreads);
+
+    int getProcessingThreads();
+
+    void setProcessingThreads(int processingThreads);
+
+    /**
+     * Whether schemas and operations can be processed concurrently, i.e. {@link #fromModel},
+     * {@link #postProcessModels} and {@link #fromOperation} don't change the state of the generator (such as its
+     * additional properties). {@link #getProcessingThreads()} is ignored otherwise.
+     * <p>
+     * Operations are created concurrently, including for operations sharing a path, so {@link #fromOperation} must
+     * also not rely on the operations created before it (e.g. to deduplicate operation ids). Tags, grouping and
+     * post-processing still happen sequentially, in the order of the document.
+     *
+     * @return true if the generator supports parallel processing
+     */
+    boolean supportsParallelProcessing();
+
+    boolean isEnableIncrementalGeneration();
+
+    void setEnableIncrementalGeneration(boolean enableIncrementalGeneration);
+
     boolean isStrictSpecBehavior();
 
     void setStrictSpecBehavior(boolean strictSpecBehavior);
@@ -17,11 +17,31 @@
 
 package org.openapitools.codegen;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.ServiceLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
 
 public class CodegenConfigLoader {
+    /**
+     * Location of the generator index: a properties file mapping the name of each generator to its class, written at
+     * build time by {@link #main(String[])}. Generators without an index (e.g. custom generators) are still found
+     * through SPI, but have to be instantiated to learn their name.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/openapi-generator/generators.properties";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CodegenConfigLoader.class);
+
+    // Built on first use, as the set of providers visible to the class loader of CodegenConfig does not change.
+    private static volatile Registry registry;
+
     /**
      * Tries to load config class with SPI first, then with class name directly from classpath
      *
@@ -29,32 +49,139 @@ public class CodegenConfigLoader {
      * @return config class
      */
     public static CodegenConfig forName(String name) {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
+        Registry configs = getRegistry();
 
-        StringBuilder availableConfigs = new StringBuilder();
-
-        for (CodegenConfig config : loader) {
-            if (config.getName().equals(name)) {
-                return config;
-            }
-
-            availableConfigs.append(config.getName()).append("\n");
+        ServiceLoader.Provider<CodegenConfig> provider = configs.find(name);
+        if (provider != null) {
+            return provider.get();
         }
 
         // else try to load directly
         try {
             return (CodegenConfig) Class.forName(name).getDeclaredConstructor().newInstance();
         } catch (Exception e) {
+            StringBuilder availableConfigs = new StringBuilder();
+            for (String available : configs.getNames()) {
+                availableConfigs.append(available).append("\n");
+            }
             throw new GeneratorNotFoundException("Can't load config class with name '".concat(name) + "'\nAvailable:\n" + availableConfigs, e);
         }
     }
 
     public static List<CodegenConfig> getAll() {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
-        List<CodegenConfig> output = new ArrayList<CodegenConfig>();
-        for (CodegenConfig aLoader : loader) {
-            output.add(aLoader);
+        return getRegistry().providers.stream()
+                .map(ServiceLoader.Provider::get)
+                .collect(Collectors.toList());
+    }
+
+    private static Registry getRegistry() {
+        Registry result = registry;
+        if (result == null) {
+            synchronized (CodegenConfigLoader.class) {
+                result = registry;
+                if (result == null) {
+                    result = new Registry(CodegenConfig.class.getClassLoader());
+                    registry = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes the generator index of all generators found through SPI.
+     *
+     * @param args the directory to write {@link #INDEX_RESOURCE} to, usually the build output directory
+     * @throws IOException if the index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: CodegenConfigLoader <output directory>");
+        }
+
+        Map<String, String> index = new TreeMap<>();
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader())) {
+            index.putIfAbsent(config.getName(), config.getClass().getName());
+        }
+
+        Path target = Paths.get(args[0], INDEX_RESOURCE);
+        Files.createDirectories(target.getParent());
+        try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            // written line by line, as Properties#store adds a timestamp which would make the build output unstable
+            writer.write("# Generated by " + CodegenConfigLoader.class.getName() + ", do not edit.\n");
+            for (Map.Entry<String, String> entry : index.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+    }
+
+    /**
+     * Generators available through SPI, indexed by name. Providers listed in the index are looked up without
+     * instantiating any generator, the others are instantiated once, on the first lookup of a name missing from the
+     * index.
+     */
+    private static class Registry {
+        private final List<ServiceLoader.Provider<CodegenConfig>> providers;
+        private final Map<String, ServiceLoader.Provider<CodegenConfig>> byName = new LinkedHashMap<>();
+        private List<ServiceLoader.Provider<CodegenConfig>> unindexed = new ArrayList<>();
+
+        private Registry(ClassLoader classLoader) {
+            this.providers = ServiceLoader.load(CodegenConfig.class, classLoader).stream().collect(Collectors.toList());
+
+            Properties index = readIndex(classLoader);
+            Map<String, String> nameByClass = new HashMap<>();
+            for (String name : index.stringPropertyNames()) {
+                nameByClass.putIfAbsent(index.getProperty(name), name);
+            }
+
+            for (ServiceLoader.Provider<CodegenConfig> provider : providers) {
+                String name = nameByClass.get(provider.type().getName());
+                if (name == null) {
+                    unindexed.add(provider);
+                } else {
+                    byName.putIfAbsent(name, provider);
+                }
+            }
+            LOGGER.debug("Indexed {} generators, {} generators without index", byName.size(), unindexed.size());
+        }
+
+        private static Properties readIndex(ClassLoader classLoader) {
+            Properties index = new Properties();
+            try {
+                Enumeration<URL> resources = classLoader.getResources(INDEX_RESOURCE);
+                while (resources.hasMoreElements()) {
+                    URL resource = resources.nextElement();
+                    try (Reader reader = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
+                        Properties properties = new Properties();
+                        properties.load(reader);
+                        properties.stringPropertyNames().forEach(name -> index.putIfAbsent(name, properties.getProperty(name)));
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Unable to read the generator index, generators will be instantiated to be looked up: {}", e.getMessage());
+            }
+            return index;
+        }
+
+        private synchronized ServiceLoader.Provider<CodegenConfig> find(String name) {
+            ServiceLoader.Provider<CodegenConfig> provider = byName.get(name);
+            if (provider == null && !unindexed.isEmpty()) {
+                indexRemaining();
+                provider = byName.get(name);
+            }
+            return provider;
+        }
+
+        private synchronized Collection<String> getNames() {
+            indexRemaining();
+            return new ArrayList<>(byName.keySet());
+        }
+
+        private void indexRemaining() {
+            for (ServiceLoader.Provider<CodegenConfig> provider : unindexed) {
+                byName.putIfAbsent(provider.get().getName(), provider);
+            }
+            unindexed = Collections.emptyList();
         }
-        return output;
     }
 }
@@ -80,6 +80,7 @@ public class CodegenDiscriminator {
         @Getter @Setter
         private CodegenModel model;
 
+        @Getter
         private final boolean explicitMapping;
 
         public MappedModel(String mappingName, String modelName, boolean explicitMapping) {
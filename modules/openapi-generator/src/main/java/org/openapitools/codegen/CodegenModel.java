@@ -77,7 +77,9 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
     @Getter @Setter
     public String title;
     @Getter @Setter
-    public String description, classVarName, modelJson, dataType, xmlPrefix, xmlNamespace, xmlName;
+    public String description, classVarName, dataType, xmlPrefix, xmlNamespace, xmlName;
+    // rendered on first access, see getModelJson()
+    LazyJson modelJson;
     @Getter @Setter
     public String classFilename; // store the class file name, mainly used for import
     @Getter @Setter
@@ -258,7 +260,6 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
     private CodegenProperty items;
     private CodegenProperty additionalProperties;
     private boolean isModel;
-    private boolean hasRequiredVars;
     private boolean hasDiscriminatorWithNonEmptyMapping;
     private boolean isAnyType;
     private boolean isUuid;
@@ -873,6 +874,34 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
         this.isEnum = isEnum;
     }
 
+    /**
+     * @return the JSON representation of the model, rendered on first access
+     */
+    public String getModelJson() {
+        return modelJson == null ? null : modelJson.get();
+    }
+
+    public void setModelJson(String modelJson) {
+        this.modelJson = LazyJson.ofJson(modelJson);
+    }
+
+    /**
+     * Sets the JSON representation of the model to be rendered when it is first accessed, e.g. by a template which
+     * uses it, rather than when the model is created.
+     *
+     * @param modelJson the JSON representation, rendered when first accessed
+     */
+    public void setLazyModelJson(LazyJson modelJson) {
+        this.modelJson = modelJson;
+    }
+
+    /**
+     * @return the JSON representation of the model, without rendering it
+     */
+    public LazyJson getLazyModelJson() {
+        return modelJson;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -990,7 +1019,7 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
     public int hashCode() {
         return Objects.hash(getParent(), getParentSchema(), getInterfaces(), getAllParents(), getParentModel(),
                 getInterfaceModels(), getChildren(), permits, anyOf, oneOf, allOf, getName(), getSchemaName(), getClassname(), getTitle(),
-                getDescription(), getClassVarName(), getModelJson(), getDataType(), getXmlPrefix(), getXmlNamespace(),
+                getDescription(), getClassVarName(), modelJson, getDataType(), getXmlPrefix(), getXmlNamespace(),
                 getXmlName(), getClassFilename(), getUnescapedDescription(), getDiscriminator(), getDefaultValue(),
                 getArrayModelType(), isAlias, isString, isInteger, isLong, isNumber, isNumeric, isFloat, isDouble,
                 isDate, isDateTime, isNull, hasValidation, isShort, isUnboundedInteger, isBoolean,
@@ -1027,7 +1056,7 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
         sb.append(", title='").append(title).append('\'');
         sb.append(", description='").append(description).append('\'');
         sb.append(", classVarName='").append(classVarName).append('\'');
-        sb.append(", modelJson='").append(modelJson).append('\'');
+        sb.append(", modelJson='").append(getModelJson()).append('\'');
         sb.append(", dataType='").append(dataType).append('\'');
         sb.append(", xmlPrefix='").append(xmlPrefix).append('\'');
         sb.append(", xmlNamespace='").append(xmlNamespace).append('\'');
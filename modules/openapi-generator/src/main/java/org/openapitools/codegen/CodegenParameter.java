@@ -41,7 +41,8 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
     public String nameInSnakeCase; // property name in upper snake case
     public String example; // example value (x-example)
     public Map<String, Example> examples;
-    public String jsonSchema;
+    // rendered on first access, see getJsonSchema()
+    LazyJson jsonSchema;
     public boolean isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isDecimal, isByteArray, isBinary,
             isBoolean, isDate, isDateTime, isUuid, isUri, isEmail, isPassword, isFreeFormObject, isAnyType, isShort, isUnboundedInteger;
     public boolean isArray, isMap;
@@ -295,6 +296,34 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
                 nameInPascalCase, nameInCamelCase, nameInLowerCase, nameInSnakeCase);
     }
 
+    /**
+     * @return the JSON representation of the parameter, rendered on first access
+     */
+    public String getJsonSchema() {
+        return jsonSchema == null ? null : jsonSchema.get();
+    }
+
+    public void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = LazyJson.ofJson(jsonSchema);
+    }
+
+    /**
+     * Sets the JSON representation of the parameter to be rendered when it is first accessed, e.g. by a template which
+     * uses it, rather than when the parameter is created.
+     *
+     * @param jsonSchema the JSON representation, rendered when first accessed
+     */
+    public void setLazyJsonSchema(LazyJson jsonSchema) {
+        this.jsonSchema = jsonSchema;
+    }
+
+    /**
+     * @return the JSON representation of the parameter, without rendering it
+     */
+    public LazyJson getLazyJsonSchema() {
+        return jsonSchema;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -444,7 +473,7 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
         sb.append(", allowEmptyValue='").append(isAllowEmptyValue).append('\'');
         sb.append(", example='").append(example).append('\'');
         sb.append(", examples='").append(examples).append('\'');
-        sb.append(", jsonSchema='").append(jsonSchema).append('\'');
+        sb.append(", jsonSchema='").append(getJsonSchema()).append('\'');
         sb.append(", isString=").append(isString);
         sb.append(", isNumeric=").append(isNumeric);
         sb.append(", isInteger=").append(isInteger);
@@ -99,8 +99,8 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
     @Getter @Setter
     public String example;
 
-    @Getter @Setter
-    public String jsonSchema;
+    // rendered on first access, see getJsonSchema()
+    LazyJson jsonSchema;
     /**
      * The value of the 'minimum' attribute in the OpenAPI schema.
      * The value of "minimum" MUST be a number, representing an inclusive lower limit for a numeric instance.
@@ -988,7 +988,7 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
         sb.append(", minLength=").append(minLength);
         sb.append(", pattern='").append(pattern).append('\'');
         sb.append(", example='").append(example).append('\'');
-        sb.append(", jsonSchema='").append(jsonSchema).append('\'');
+        sb.append(", jsonSchema='").append(getJsonSchema()).append('\'');
         sb.append(", minimum='").append(minimum).append('\'');
         sb.append(", maximum='").append(maximum).append('\'');
         sb.append(", exclusiveMinimum=").append(exclusiveMinimum);
@@ -1083,6 +1083,34 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
         return sb.toString();
     }
 
+    /**
+     * @return the JSON representation of the property, rendered on first access
+     */
+    public String getJsonSchema() {
+        return jsonSchema == null ? null : jsonSchema.get();
+    }
+
+    public void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = LazyJson.ofJson(jsonSchema);
+    }
+
+    /**
+     * Sets the JSON representation of the property to be rendered when it is first accessed, e.g. by a template which
+     * uses it, rather than when the property is created.
+     *
+     * @param jsonSchema the JSON representation, rendered when first accessed
+     */
+    public void setLazyJsonSchema(LazyJson jsonSchema) {
+        this.jsonSchema = jsonSchema;
+    }
+
+    /**
+     * @return the JSON representation of the property, without rendering it
+     */
+    public LazyJson getLazyJsonSchema() {
+        return jsonSchema;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -73,7 +73,8 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
     public boolean isNull;
     public boolean isVoid = false;
     public Object schema;
-    public String jsonSchema;
+    // rendered on first access, see getJsonSchema()
+    LazyJson jsonSchema;
     public Map<String, Object> vendorExtensions = new HashMap<String, Object>();
     private Integer maxProperties;
     private Integer minProperties;
@@ -121,6 +122,34 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
                 requiredVarsMap, ref, uniqueItemsBoolean, schemaIsFromAdditionalProperties);
     }
 
+    /**
+     * @return the JSON representation of the response, rendered on first access
+     */
+    public String getJsonSchema() {
+        return jsonSchema == null ? null : jsonSchema.get();
+    }
+
+    public void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = LazyJson.ofJson(jsonSchema);
+    }
+
+    /**
+     * Sets the JSON representation of the response to be rendered when it is first accessed, e.g. by a template which
+     * uses it, rather than when the response is created.
+     *
+     * @param jsonSchema the JSON representation, rendered when first accessed
+     */
+    public void setLazyJsonSchema(LazyJson jsonSchema) {
+        this.jsonSchema = jsonSchema;
+    }
+
+    /**
+     * @return the JSON representation of the response, without rendering it
+     */
+    public LazyJson getLazyJsonSchema() {
+        return jsonSchema;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -608,7 +637,7 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
         sb.append(", isBinary=").append(isBinary);
         sb.append(", isFile=").append(isFile);
         sb.append(", schema=").append(schema);
-        sb.append(", jsonSchema='").append(jsonSchema).append('\'');
+        sb.append(", jsonSchema='").append(getJsonSchema()).append('\'');
         sb.append(", vendorExtensions=").append(vendorExtensions);
         sb.append(", maxProperties=").append(maxProperties);
         sb.append(", minProperties=").append(minProperties);
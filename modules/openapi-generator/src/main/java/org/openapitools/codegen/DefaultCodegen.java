@@ -20,6 +20,7 @@ package org.openapitools.codegen;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.ImmutableMap;
 import com.samskivert.mustache.Mustache;
@@ -70,13 +71,12 @@ import org.openapitools.codegen.utils.OneOfImplementorAdditionalData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -96,6 +96,8 @@ public class DefaultCodegen implements CodegenConfig {
 
     public static FeatureSet DefaultFeatureSet;
 
+    public static final String PROPERTY_CACHE_SIZE_PROPERTY = "org.openapitools.codegen.propertycache.size";
+
     // A cache of sanitized words. The sanitizeName() method is invoked many times with the same
     // arguments, this cache is used to optimized performance.
     private static final Cache<SanitizeNameOptions, String> sanitizedNameCache;
@@ -294,6 +296,19 @@ public class DefaultCodegen implements CodegenConfig {
     // flag to indicate whether to only update files whose contents have changed
     protected boolean enableMinimalUpdate = false;
 
+    // maximum number of files passed to one invocation of a post-processing command (0 = one invocation per file)
+    protected int postProcessBatchSize = 0;
+    private PostProcessCommandRunner postProcessCommandRunner;
+
+    // number of threads rendering model, api and webhook templates (1 = sequential)
+    protected int renderThreads = 1;
+
+    // number of threads processing schemas into models and operations (1 = sequential)
+    protected int processingThreads = 1;
+
+    // flag to indicate whether to skip model, api and webhook files whose inputs have not changed since the last run
+    protected boolean enableIncrementalGeneration = false;
+
     // acts strictly upon a spec, potentially modifying it to have consistent behavior across generators.
     protected boolean strictSpecBehavior = true;
     // flag to indicate whether enum value prefixes are removed
@@ -315,10 +330,11 @@ public class DefaultCodegen implements CodegenConfig {
     protected OpenAPI openAPI;
 
     // A cache to efficiently lookup a Schema instance based on the return value of `toModelName()`.
-    private Map<String, Schema> modelNameToSchemaCache;
+    // Volatile, as models may be processed concurrently (see processingThreads)
+    private volatile Map<String, Schema> modelNameToSchemaCache;
 
     // A cache to efficiently lookup schema `toModelName()` based on the schema Key
-    private final Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private final Map<String, String> schemaKeyToModelNameCache = new ConcurrentHashMap<>();
 
     protected boolean loadDeepObjectIntoItems = true;
 
@@ -564,13 +580,16 @@ public class DefaultCodegen implements CodegenConfig {
      * @return map from model name to Schema.
      */
     protected Map<String, Schema> getModelNameToSchemaCache() {
-        if (modelNameToSchemaCache == null) {
+        Map<String, Schema> cache = modelNameToSchemaCache;
+        if (cache == null) {
             // Create a cache to efficiently lookup schema based on model name.
+            // Concurrent callers may each build it once, as the result is the same.
             Map<String, Schema> m = new HashMap<>();
             ModelUtils.getSchemas(openAPI).forEach((key, schema) -> m.put(toModelName(key), schema));
-            modelNameToSchemaCache = Collections.unmodifiableMap(m);
+            cache = Collections.unmodifiableMap(m);
+            modelNameToSchemaCache = cache;
         }
-        return modelNameToSchemaCache;
+        return cache;
     }
 
     /**
@@ -620,13 +639,17 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         // Let parent know about all its children
+        // permits and names of the children of each parent, to avoid scanning the lists for each child
+        Map<CodegenModel, Set<String>> permits = new IdentityHashMap<>();
+        Map<CodegenModel, Set<String>> childNames = new IdentityHashMap<>();
         for (Map.Entry<String, CodegenModel> allModelsEntry : allModels.entrySet()) {
             CodegenModel cm = allModelsEntry.getValue();
             CodegenModel parent = allModels.get(cm.getParent());
             if (parent != null) {
-                if (!parent.permits.contains(cm.classname) && parent.permits.stream()
-                        .noneMatch(name -> name.equals(cm.getName()))) {
+                Set<String> parentPermits = permits.computeIfAbsent(parent, p -> new HashSet<>(p.permits));
+                if (!parentPermits.contains(cm.classname) && !parentPermits.contains(cm.getName())) {
                     parent.permits.add(cm.classname);
+                    parentPermits.add(cm.classname);
                 }
             }
             // if a discriminator exists on the parent, don't add this child to the inheritance hierarchy
@@ -635,8 +658,9 @@ public class DefaultCodegen implements CodegenConfig {
                 if (parent.getChildren() == null) {
                     parent.setChildren(new ArrayList<>());
                 }
-                if (parent.getChildren().stream().map(CodegenModel::getName)
-                        .noneMatch(name -> name.equals(cm.getName()))) {
+                Set<String> parentChildNames = childNames.computeIfAbsent(parent, p -> p.getChildren().stream()
+                        .map(CodegenModel::getName).collect(Collectors.toCollection(HashSet::new)));
+                if (parentChildNames.add(cm.getName())) {
                     parent.getChildren().add(cm);
                 }
 
@@ -711,13 +735,13 @@ public class DefaultCodegen implements CodegenConfig {
         final Map<String, List<CodegenProperty>> allVarsDependencyMap = models.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getAllVars())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, allVarsDependencyMap));
+        setCircularReferences(models.keySet(), allVarsDependencyMap);
 
         // for vars
         final Map<String, List<CodegenProperty>> varsDependencyMap = models.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getVars())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, varsDependencyMap));
+        setCircularReferences(models.keySet(), varsDependencyMap);
 
         // for oneOf
         final Map<String, List<CodegenProperty>> oneOfDependencyMap = models.entrySet().stream()
@@ -725,7 +749,7 @@ public class DefaultCodegen implements CodegenConfig {
                         (entry.getValue().getComposedSchemas() != null && entry.getValue().getComposedSchemas().getOneOf() != null)
                                 ? entry.getValue().getComposedSchemas().getOneOf() : new ArrayList<CodegenProperty>())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, oneOfDependencyMap));
+        setCircularReferences(models.keySet(), oneOfDependencyMap);
     }
 
     private List<CodegenProperty> getModelDependencies(List<CodegenProperty> vars) {
@@ -740,35 +764,46 @@ public class DefaultCodegen implements CodegenConfig {
                 .collect(Collectors.toList());
     }
 
-    private void setCircularReferencesOnProperties(final String root,
-                                                   final Map<String, List<CodegenProperty>> dependencyMap) {
-        dependencyMap.getOrDefault(root, new ArrayList<>())
-                .forEach(prop -> {
-                    final List<String> unvisited =
-                            Collections.singletonList(prop.isContainer ? prop.items.dataType : prop.dataType);
-                    prop.isCircularReference = isCircularReference(root,
-                            new HashSet<>(),
-                            new ArrayList<>(unvisited),
-                            dependencyMap);
-                });
-    }
-
-    private boolean isCircularReference(final String root,
-                                        final Set<String> visited,
-                                        final List<String> unvisited,
-                                        final Map<String, List<CodegenProperty>> dependencyMap) {
-        for (int i = 0; i < unvisited.size(); i++) {
-            final String next = unvisited.get(i);
-            if (!visited.contains(next)) {
-                if (next.equals(root)) {
-                    return true;
+    private static String getDependencyType(CodegenProperty prop) {
+        return prop.isContainer ? prop.items.dataType : prop.dataType;
+    }
+
+    /**
+     * Marks the properties of each model which (directly or through other models) reference the model itself.
+     *
+     * @param roots         the names of the models
+     * @param dependencyMap the properties of each model referencing other types
+     */
+    private void setCircularReferences(final Set<String> roots,
+                                       final Map<String, List<CodegenProperty>> dependencyMap) {
+        // type -> models with a property of that type, to search from each model for the models referencing it
+        final Map<String, Set<String>> dependents = new HashMap<>();
+        dependencyMap.forEach((name, props) -> props.forEach(prop ->
+                dependents.computeIfAbsent(getDependencyType(prop), k -> new HashSet<>()).add(name)));
+
+        for (String root : roots) {
+            final Set<String> referencingRoot = getReferencingModels(root, dependents);
+            dependencyMap.getOrDefault(root, Collections.emptyList())
+                    .forEach(prop -> prop.isCircularReference = referencingRoot.contains(getDependencyType(prop)));
+        }
+    }
+
+    /**
+     * @return the root and all models referencing it, directly or through other models
+     */
+    private Set<String> getReferencingModels(final String root, final Map<String, Set<String>> dependents) {
+        final Set<String> visited = new HashSet<>();
+        final Deque<String> unvisited = new ArrayDeque<>();
+        visited.add(root);
+        unvisited.add(root);
+        while (!unvisited.isEmpty()) {
+            for (String dependent : dependents.getOrDefault(unvisited.poll(), Collections.emptySet())) {
+                if (visited.add(dependent)) {
+                    unvisited.add(dependent);
                 }
-                dependencyMap.getOrDefault(next, new ArrayList<>())
-                        .forEach(prop -> unvisited.add(prop.isContainer ? prop.items.dataType : prop.dataType));
-                visited.add(next);
             }
         }
-        return false;
+        return visited;
     }
 
     // override with any special post-processing
@@ -945,6 +980,9 @@ public class DefaultCodegen implements CodegenConfig {
         if (specVersionGreaterThanOrEqualTo310(openAPI)) {
             LOGGER.warn(UNSUPPORTED_V310_SPEC_MSG);
         }
+        if (this.openAPI != openAPI) {
+            schemaCodegenPropertyCache.invalidateAll();
+        }
         this.openAPI = openAPI;
         // Set global settings such that helper functions in ModelUtils can lookup the value
         // of the CLI option.
@@ -2596,8 +2634,9 @@ public class DefaultCodegen implements CodegenConfig {
             return modelNameMapping.get(name);
         }
 
-        if (schemaKeyToModelNameCache.containsKey(name)) {
-            return schemaKeyToModelNameCache.get(name);
+        String cachedName = schemaKeyToModelNameCache.get(name);
+        if (cachedName != null) {
+            return cachedName;
         }
 
         String camelizedName = camelize(modelNamePrefix + "_" + name + "_" + modelNameSuffix);
@@ -2605,6 +2644,10 @@ public class DefaultCodegen implements CodegenConfig {
         return camelizedName;
     }
 
+    /**
+     * Key of the cache of properties. Schemas are compared by identity, as {@link Schema#hashCode()} and
+     * {@link Schema#equals(Object)} traverse the whole schema.
+     */
     private static class NamedSchema {
         private NamedSchema(String name, Schema s, boolean required, boolean schemaIsFromAdditionalProperties) {
             this.name = name;
@@ -2623,19 +2666,40 @@ public class DefaultCodegen implements CodegenConfig {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             NamedSchema that = (NamedSchema) o;
-            return Objects.equals(required, that.required) &&
+            return required == that.required &&
                     Objects.equals(name, that.name) &&
-                    Objects.equals(schema, that.schema) &&
-                    Objects.equals(schemaIsFromAdditionalProperties, that.schemaIsFromAdditionalProperties);
+                    schema == that.schema &&
+                    schemaIsFromAdditionalProperties == that.schemaIsFromAdditionalProperties;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(name, schema, required, schemaIsFromAdditionalProperties);
+            return Objects.hash(name, System.identityHashCode(schema), required, schemaIsFromAdditionalProperties);
         }
     }
 
-    Map<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = new HashMap<>();
+    // properties created by fromProperty, for the document set by setOpenAPI
+    final Cache<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = Caffeine.newBuilder()
+            .maximumSize(Integer.parseInt(GlobalSettings.getProperty(PROPERTY_CACHE_SIZE_PROPERTY, "10000")))
+            .recordStats()
+            .build();
+
+    /**
+     * Gets the statistics of the cache of properties created by {@link #fromProperty(String, Schema, boolean, boolean)},
+     * e.g. to tune its size with the {@value #PROPERTY_CACHE_SIZE_PROPERTY} global property.
+     *
+     * @return the hit and miss counts, and the number of evictions
+     */
+    public CacheStats getPropertyCacheStats() {
+        return schemaCodegenPropertyCache.stats();
+    }
+
+    /**
+     * @return the approximate number of cached properties
+     */
+    public long getPropertyCacheSize() {
+        return schemaCodegenPropertyCache.estimatedSize();
+    }
 
     protected void updateModelForComposedSchema(CodegenModel m, Schema schema, Map<String, Schema> allDefinitions) {
         final Schema composed = schema;
@@ -3037,7 +3101,7 @@ public class DefaultCodegen implements CodegenConfig {
         m.classname = toModelName(name);
         m.classVarName = toVarName(name);
         m.classFilename = toModelFilename(name);
-        m.modelJson = Json.pretty(schema);
+        m.setLazyModelJson(LazyJson.of(schema, Json::pretty));
         m.externalDocumentation = schema.getExternalDocs();
         if (schema.getExtensions() != null && !schema.getExtensions().isEmpty()) {
             m.getVendorExtensions().putAll(schema.getExtensions());
@@ -3929,7 +3993,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
         LOGGER.debug("debugging fromProperty for {}: {}", name, p);
         NamedSchema ns = new NamedSchema(name, p, required, schemaIsFromAdditionalProperties);
-        CodegenProperty cpc = schemaCodegenPropertyCache.get(ns);
+        CodegenProperty cpc = schemaCodegenPropertyCache.getIfPresent(ns);
         if (cpc != null) {
             LOGGER.debug("Cached fromProperty for {} : {} required={}", name, p.getName(), required);
             return cpc;
@@ -3995,7 +4059,7 @@ public class DefaultCodegen implements CodegenConfig {
             property.example = "ERROR_TO_EXAMPLE_VALUE";
         }
 
-        property.jsonSchema = Json.pretty(Json.mapper().convertValue(p, TreeMap.class));
+        property.setLazyJsonSchema(LazyJson.of(p, jsonSchema -> Json.pretty(Json.mapper().convertValue(jsonSchema, TreeMap.class))));
 
         if (p.getDeprecated() != null) {
             property.deprecated = p.getDeprecated();
@@ -4924,7 +4988,7 @@ public class DefaultCodegen implements CodegenConfig {
         // TODO need to revise and test examples in responses
         // ApiResponse does not support examples at the moment
         //r.examples = toExamples(response.getExamples());
-        r.jsonSchema = Json.pretty(response);
+        r.setLazyJsonSchema(LazyJson.of(response, Json::pretty));
         if (response.getExtensions() != null && !response.getExtensions().isEmpty()) {
             r.vendorExtensions.putAll(response.getExtensions());
         }
@@ -5201,11 +5265,11 @@ public class DefaultCodegen implements CodegenConfig {
         if (parameter.getDeprecated() != null) {
             codegenParameter.isDeprecated = parameter.getDeprecated();
         }
-        codegenParameter.jsonSchema = Json.pretty(parameter);
+        codegenParameter.setLazyJsonSchema(LazyJson.of(parameter, Json::pretty));
 
         if (GlobalSettings.getProperty("debugParser") != null) {
             LOGGER.info("working on Parameter {}", parameter.getName());
-            LOGGER.info("JSON schema: {}", codegenParameter.jsonSchema);
+            LOGGER.info("JSON schema: {}", codegenParameter.getJsonSchema());
         }
 
         if (parameter.getExtensions() != null && !parameter.getExtensions().isEmpty()) {
@@ -7408,7 +7472,7 @@ public class DefaultCodegen implements CodegenConfig {
         codegenParameter.isFormParam = Boolean.TRUE;
         codegenParameter.description = escapeText(codegenProperty.description);
         codegenParameter.unescapedDescription = codegenProperty.getDescription();
-        codegenParameter.jsonSchema = Json.pretty(propertySchema);
+        codegenParameter.setLazyJsonSchema(LazyJson.of(propertySchema, Json::pretty));
         codegenParameter.containerType = codegenProperty.containerType;
         codegenParameter.containerTypeMapped = codegenProperty.containerTypeMapped;
 
@@ -8056,7 +8120,7 @@ public class DefaultCodegen implements CodegenConfig {
 
     private void addJsonSchemaForBodyRequestInCaseItsNotPresent(CodegenParameter codegenParameter, RequestBody body) {
         if (codegenParameter.jsonSchema == null)
-            codegenParameter.jsonSchema = Json.pretty(body);
+            codegenParameter.setLazyJsonSchema(LazyJson.of(body, Json::pretty));
     }
 
     protected void addOption(String key, String description, String defaultValue) {
@@ -8228,34 +8292,29 @@ public class DefaultCodegen implements CodegenConfig {
      * @return Whether the execution passed (true) or failed (false)
      */
     protected boolean executePostProcessor(String[] commandArr) {
-        final String command = String.join(" ", commandArr);
-        try {
-            // we don't use the array variant here, because the command passed in by the user is often not only a single binary
-            // but a combination of binary + parameters, e.g. `/etc/bin prettier -w`, which would then not be found, as the
-            // first array item would be expected to be the binary only. The exec method is tokenizing the command for us.
-            Process p = Runtime.getRuntime().exec(command);
-            p.waitFor();
-            int exitValue = p.exitValue();
-            if (exitValue != 0) {
-                try (InputStreamReader inputStreamReader = new InputStreamReader(p.getErrorStream(), StandardCharsets.UTF_8);
-                     BufferedReader br = new BufferedReader(inputStreamReader)) {
-                    StringBuilder sb = new StringBuilder();
-                    String line;
-                    while ((line = br.readLine()) != null) {
-                        sb.append(line);
-                    }
-                    LOGGER.error("Error running the command ({}). Exit value: {}, Error output: {}", command, exitValue, sb);
-                }
-            } else {
-                LOGGER.info("Successfully executed: {}", command);
-                return true;
-            }
-        } catch (InterruptedException | IOException e) {
-            LOGGER.error("Error running the command ({}). Exception: {}", command, e.getMessage());
-            // Restore interrupted state
-            Thread.currentThread().interrupt();
+        return getPostProcessCommandRunner().execute(commandArr);
+    }
+
+    private synchronized PostProcessCommandRunner getPostProcessCommandRunner() {
+        if (postProcessCommandRunner == null) {
+            postProcessCommandRunner = new PostProcessCommandRunner(postProcessBatchSize);
+        }
+        return postProcessCommandRunner;
+    }
+
+    /**
+     * Runs the post-processing commands deferred by {@link #executePostProcessor(String[])} when post-processing in
+     * batches, and waits for them to complete.
+     */
+    @Override
+    public void executeBatchedPostProcessors() {
+        PostProcessCommandRunner runner;
+        synchronized (this) {
+            runner = postProcessCommandRunner;
+        }
+        if (runner != null) {
+            runner.flush();
         }
-        return false;
     }
 
     /**
@@ -8278,6 +8337,25 @@ public class DefaultCodegen implements CodegenConfig {
         this.enablePostProcessFile = enablePostProcessFile;
     }
 
+    /**
+     * Get the maximum number of files passed to a single invocation of a post-processing command
+     */
+    @Override
+    public int getPostProcessBatchSize() {
+        return postProcessBatchSize;
+    }
+
+    /**
+     * Set the maximum number of files passed to a single invocation of a post-processing command
+     *
+     * @param postProcessBatchSize number of files per invocation, 0 to post-process each file as it is generated
+     */
+    @Override
+    public synchronized void setPostProcessBatchSize(int postProcessBatchSize) {
+        this.postProcessBatchSize = postProcessBatchSize;
+        this.postProcessCommandRunner = null;
+    }
+
     /**
      * Get the boolean value indicating the state of the option for updating only changed files
      */
@@ -8296,6 +8374,69 @@ public class DefaultCodegen implements CodegenConfig {
         this.enableMinimalUpdate = enableMinimalUpdate;
     }
 
+    /**
+     * Get the number of threads used to render model, api and webhook templates
+     */
+    @Override
+    public int getRenderThreads() {
+        return renderThreads;
+    }
+
+    /**
+     * Set the number of threads used to render model, api and webhook templates
+     *
+     * @param renderThreads number of render threads, 1 to render sequentially
+     */
+    @Override
+    public void setRenderThreads(int renderThreads) {
+        this.renderThreads = renderThreads;
+    }
+
+    /**
+     * Get the number of threads used to process schemas into models and operations
+     */
+    @Override
+    public int getProcessingThreads() {
+        return processingThreads;
+    }
+
+    /**
+     * Set the number of threads used to process schemas into models and operations
+     *
+     * @param processingThreads number of processing threads, 1 to process sequentially
+     */
+    @Override
+    public void setProcessingThreads(int processingThreads) {
+        this.processingThreads = processingThreads;
+    }
+
+    /**
+     * Parallel processing is not supported by default, as generators commonly record what they find in the models and
+     * operations (e.g. the imports they need) in their own state. Generators override this once they are known not to.
+     */
+    @Override
+    public boolean supportsParallelProcessing() {
+        return false;
+    }
+
+    /**
+     * Indicates whether model, api and webhook files are only regenerated when their inputs changed
+     */
+    @Override
+    public boolean isEnableIncrementalGeneration() {
+        return enableIncrementalGeneration;
+    }
+
+    /**
+     * Set the value of incremental generation option
+     *
+     * @param enableIncrementalGeneration true to skip files whose inputs have not changed since the last run
+     */
+    @Override
+    public void setEnableIncrementalGeneration(boolean enableIncrementalGeneration) {
+        this.enableIncrementalGeneration = enableIncrementalGeneration;
+    }
+
     /**
      * Indicates whether the codegen configuration should treat documents as strictly defined by the OpenAPI specification.
      *
@@ -48,14 +48,18 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Writer;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -82,6 +86,7 @@ public class DefaultGenerator implements Generator {
     private Boolean generateModelTests = null;
     private Boolean generateModelDocumentation = null;
     private Boolean generateMetadata = true;
+    private boolean inMemory = false;
     private String basePath;
     private String basePathWithoutHost;
     private String contextPath;
@@ -93,6 +98,19 @@ public class DefaultGenerator implements Generator {
     @Getter protected TemplateProcessor templateProcessor = null;
 
     private List<TemplateDefinition> userDefinedTemplates = new ArrayList<>();
+    /**
+     * Renders model, api and webhook templates when {@link CodegenConfig#getRenderThreads()} is greater than 1, otherwise null.
+     */
+    private ExecutorService renderExecutor = null;
+    private final List<PendingRender> pendingRenders = new ArrayList<>();
+    /**
+     * Tracks inputs and outputs of model, api and webhook files when {@link CodegenConfig#isEnableIncrementalGeneration()} is set, otherwise null.
+     */
+    private IncrementalManifest incrementalManifest = null;
+    /**
+     * The copy of the additional properties shared by the bundles, until they change.
+     */
+    private Map<String, Object> additionalPropertiesSnapshot = null;
     private String generatorCheck = "spring";
     private String templateCheck = "apiController.mustache";
 
@@ -132,11 +150,10 @@ public class DefaultGenerator implements Generator {
 
             TemplatePathLocator commonTemplateLocator = new CommonTemplateContentLocator();
             TemplatePathLocator generatorTemplateLocator = new GeneratorTemplateContentLocator(this.config);
-            this.templateProcessor = new TemplateManager(
-                    templateManagerOptions,
-                    templatingEngine,
-                    new TemplatePathLocator[]{generatorTemplateLocator, commonTemplateLocator}
-            );
+            TemplatePathLocator[] templateLoaders = new TemplatePathLocator[]{generatorTemplateLocator, commonTemplateLocator};
+            this.templateProcessor = this.inMemory
+                    ? new InMemoryTemplateManager(templateManagerOptions, templatingEngine, templateLoaders)
+                    : new TemplateManager(templateManagerOptions, templatingEngine, templateLoaders);
         }
 
         String ignoreFileLocation = this.config.getIgnoreFilePathOverride();
@@ -167,6 +184,16 @@ public class DefaultGenerator implements Generator {
         this.generateMetadata = generateMetadata;
     }
 
+    /**
+     * Programmatically keep generated files in memory rather than writing them to the output directory, see
+     * {@link InMemoryTemplateManager}. Call this method before {@link #opts(ClientOptInput)}.
+     *
+     * @param inMemory true: keep generated files in memory, false: write generated files to the output directory
+     */
+    public void setInMemory(boolean inMemory) {
+        this.inMemory = inMemory;
+    }
+
     /**
      * Set generator properties otherwise pulled from system properties.
      * Useful for running tests in parallel without relying on System.properties.
@@ -388,13 +415,7 @@ public class DefaultGenerator implements Generator {
                 if (modelTestFile.exists()) {
                     this.templateProcessor.skip(modelTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                 } else {
-                    File written = processTemplateToFile(models, templateName, filename, generateModelTests, CodegenConstants.MODEL_TESTS, config.modelTestFileFolder());
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "model-test");
-                        }
-                    }
+                    generateFile(files, "model-test", models, templateName, filename, generateModelTests, CodegenConstants.MODEL_TESTS, config.modelTestFileFolder());
                 }
             } else if (dryRun) {
                 Path skippedPath = java.nio.file.Paths.get(filename);
@@ -409,41 +430,28 @@ public class DefaultGenerator implements Generator {
             String suffix = docExtension != null ? docExtension : config.modelDocTemplateFiles().get(templateName);
             String filename = config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix;
 
-            File written = processTemplateToFile(models, templateName, filename, generateModelDocumentation, CodegenConstants.MODEL_DOCS);
-            if (written != null) {
-                files.add(written);
-                if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model-doc");
-                }
-            }
+            generateFile(files, "model-doc", models, templateName, filename, generateModelDocumentation, CodegenConstants.MODEL_DOCS, config.getOutputDir());
         }
     }
 
     private void generateModel(List<File> files, Map<String, Object> models, String modelName) throws IOException {
         for (String templateName : config.modelTemplateFiles().keySet()) {
-            File written;
             if (config.templateOutputDirs().containsKey(templateName)) {
                 String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
                 String filename = config.modelFilename(templateName, modelName, outputDir);
-                written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS, outputDir);
+                generateFile(files, "model", models, templateName, filename, generateModels, CodegenConstants.MODELS, outputDir);
             } else {
                 String filename = config.modelFilename(templateName, modelName);
-                written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS);
-            }
-            if (written != null) {
-                files.add(written);
-                if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model");
-                }
+                generateFile(files, "model", models, templateName, filename, generateModels, CodegenConstants.MODELS, config.getOutputDir());
             }
         }
     }
 
-    void generateModels(List<File> files, List<ModelMap> allModels, List<String> unusedModels, List<ModelMap> aliasModels) {
+    void generateModels(List<File> files, List<ModelMap> allModels, Collection<String> unusedModels, List<ModelMap> aliasModels) {
         generateModels(files, allModels, unusedModels, aliasModels, new ArrayList<>(), DefaultGenerator.this::modelKeys);
     }
 
-    void generateModels(List<File> files, List<ModelMap> allModels, List<String> unusedModels, List<ModelMap> aliasModels, List<String> processedModels, Supplier<Set<String>> modelKeysSupplier) {
+    void generateModels(List<File> files, List<ModelMap> allModels, Collection<String> unusedModels, List<ModelMap> aliasModels, List<String> processedModels, Supplier<Set<String>> modelKeysSupplier) {
         if (!generateModels) {
             // TODO: Process these anyway and add to dryRun info
             LOGGER.info("Skipping generation of models.");
@@ -462,7 +470,8 @@ public class DefaultGenerator implements Generator {
                 Boolean.valueOf(GlobalSettings.getProperty(CodegenConstants.SKIP_FORM_MODEL)) :
                 getGeneratorPropertyDefaultSwitch(CodegenConstants.SKIP_FORM_MODEL, true);
 
-        // process models only
+        // select the models to process, in the order of modelKeys
+        Map<String, Schema> schemasToProcess = new LinkedHashMap<>();
         for (String name : modelKeys) {
             processedModels.add(name);
             try {
@@ -508,17 +517,15 @@ public class DefaultGenerator implements Generator {
                     }
                 }
 
-                Map<String, Schema> schemaMap = new HashMap<>();
-                schemaMap.put(name, schema);
-                ModelsMap models = processModels(config, schemaMap);
-                models.put("classname", config.toModelName(name));
-                models.putAll(config.additionalProperties());
-                allProcessedModels.put(name, models);
+                schemasToProcess.put(name, schema);
             } catch (Exception e) {
                 throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
             }
         }
 
+        // process models only
+        allProcessedModels.putAll(processModels(schemasToProcess));
+
         // loop through all models to update children models, isSelfReference, isCircularReference, etc
         allProcessedModels = config.updateAllModels(allProcessedModels);
 
@@ -582,6 +589,7 @@ public class DefaultGenerator implements Generator {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
         }
+        renderPendingFiles();
         if (GlobalSettings.getProperty("debugModels") != null) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
@@ -591,7 +599,7 @@ public class DefaultGenerator implements Generator {
     /**
      * this method guesses the schema type of in parent model used variable and if the schema type is available it let the generate the model for the type of this variable
      */
-    private void generateModelsForVariable(List<File> files, List<ModelMap> allModels, List<String> unusedModels, List<ModelMap> aliasModels, List<String> processedModels, CodegenProperty variable) {
+    private void generateModelsForVariable(List<File> files, List<ModelMap> allModels, Collection<String> unusedModels, List<ModelMap> aliasModels, List<String> processedModels, CodegenProperty variable) {
         if (variable == null) {
             return;
         }
@@ -704,7 +712,7 @@ public class DefaultGenerator implements Generator {
                 Optional.ofNullable(config.additionalProperties().get("appVersion")).ifPresent(version -> operation.put("version", version));
                 operation.put("apiPackage", config.apiPackage());
                 operation.put("modelPackage", config.modelPackage());
-                operation.putAll(config.additionalProperties());
+                operation.setSharedLayer(snapshotAdditionalProperties());
                 operation.put("classname", config.toApiName(tag));
                 operation.put("classVarName", config.toApiVarName(tag));
                 operation.put("importPath", config.toApiImport(tag));
@@ -753,30 +761,23 @@ public class DefaultGenerator implements Generator {
                 addAuthenticationSwitches(operation);
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
                     if (config.templateOutputDirs().containsKey(templateName)) {
                         String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
                         String filename = config.apiFilename(templateName, tag, outputDir);
                         // do not overwrite apiController file for spring server
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
+                            generateFile(files, "api", operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     } else {
                         String filename = config.apiFilename(templateName, tag);
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
+                            generateFile(files, "api", operation, templateName, filename, generateApis, CodegenConstants.APIS, config.getOutputDir());
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
-                        }
-                    }
                 }
 
                 // to generate api test files
@@ -787,32 +788,21 @@ public class DefaultGenerator implements Generator {
                     if (apiTestFile.exists()) {
                         this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                     } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
+                        generateFile(files, "api-test", operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
                     }
                 }
 
                 // to generate api documentation files
                 for (String templateName : config.apiDocTemplateFiles().keySet()) {
                     String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
-                    }
+                    generateFile(files, "api-doc", operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS, config.getOutputDir());
                 }
 
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
+        renderPendingFiles();
         if (GlobalSettings.getProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
@@ -867,7 +857,7 @@ public class DefaultGenerator implements Generator {
                 Optional.ofNullable(config.additionalProperties().get("appVersion")).ifPresent(version -> operation.put("version", version));
                 operation.put("apiPackage", config.apiPackage());
                 operation.put("modelPackage", config.modelPackage());
-                operation.putAll(config.additionalProperties());
+                operation.setSharedLayer(snapshotAdditionalProperties());
                 operation.put("classname", config.toApiName(tag));
                 operation.put("classVarName", config.toApiVarName(tag));
                 operation.put("importPath", config.toApiImport(tag));
@@ -916,30 +906,23 @@ public class DefaultGenerator implements Generator {
                 addAuthenticationSwitches(operation);
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
                     if (config.templateOutputDirs().containsKey(templateName)) {
                         String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
                         String filename = config.apiFilename(templateName, tag, outputDir);
                         // do not overwrite apiController file for spring server
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS, outputDir);
+                            generateFile(files, "api", operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS, outputDir);
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     } else {
                         String filename = config.apiFilename(templateName, tag);
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS);
+                            generateFile(files, "api", operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS, config.getOutputDir());
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
-                        }
-                    }
                 }
 
                 // to generate api test files
@@ -950,32 +933,21 @@ public class DefaultGenerator implements Generator {
                     if (apiTestFile.exists()) {
                         this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                     } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
+                        generateFile(files, "api-test", operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
                     }
                 }
 
                 // to generate api documentation files
                 for (String templateName : config.apiDocTemplateFiles().keySet()) {
                     String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
-                    }
+                    generateFile(files, "api-doc", operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS, config.getOutputDir());
                 }
 
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
+        renderPendingFiles();
         if (GlobalSettings.getProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allWebhooks);
@@ -1003,11 +975,6 @@ public class DefaultGenerator implements Generator {
         // use the entries provided by the users to pre-populate .openapi-generator-ignore
         try {
             LOGGER.info("Writing file " + ignoreFileNameTarget + " (which is always overwritten when the option `openapiGeneratorIgnoreFile` is enabled.)");
-            new File(config.outputFolder()).mkdirs();
-            if (!ignoreFile.createNewFile()) {
-                // file may already exist, do nothing
-            }
-
             String header = String.join("\n",
                     "# IMPORTANT: this file is generated with the option `openapiGeneratorIgnoreList` enabled",
                     "# (--openapi-generator-ignore-list in CLI for example) so the entries below are pre-populated based",
@@ -1042,16 +1009,19 @@ public class DefaultGenerator implements Generator {
                     "# The following entries are pre-populated based on the input obtained via",
                     "# the option `openapiGeneratorIgnoreList` (--openapi-generator-ignore-list in CLI for example).",
                     "");
-            Writer fileWriter = Files.newBufferedWriter(ignoreFile.toPath(), StandardCharsets.UTF_8);
-            fileWriter.write(header);
+            StringBuilder contents = new StringBuilder(header);
             // add entries provided by the users
             for (String entry : config.getOpenapiGeneratorIgnoreList()) {
-                fileWriter.write(entry);
-                fileWriter.write("\n");
+                contents.append(entry).append("\n");
+            }
+            if (inMemory) {
+                this.templateProcessor.writeToFile(ignoreFileNameTarget, contents.toString().getBytes(StandardCharsets.UTF_8));
+            } else {
+                new File(config.outputFolder()).mkdirs();
+                Files.write(ignoreFile.toPath(), contents.toString().getBytes(StandardCharsets.UTF_8));
             }
-            fileWriter.close();
             // re-create ignore processor based on the newly-created .openapi-generator-ignore
-            this.ignoreProcessor = new CodegenIgnoreProcessor(ignoreFile);
+            this.ignoreProcessor = new CodegenIgnoreProcessor(ignoreFile, contents.toString());
         } catch (IOException e) {
             throw new RuntimeException("Failed to generate .openapi-generator-ignore when the option `openapiGeneratorIgnoreList` is enabled: ", e);
         }
@@ -1083,7 +1053,7 @@ public class DefaultGenerator implements Generator {
 
                 if (!of.isDirectory()) {
                     // check that its not a dryrun and the files in the directory aren't ignored before we make the directory
-                    if (!dryRun && ignoreProcessor.allowsFile(new File(outputFilename)) && !of.mkdirs()) {
+                    if (!dryRun && !inMemory && ignoreProcessor.allowsFile(new File(outputFilename)) && !of.mkdirs()) {
                         once(LOGGER).debug("Output directory {} not created. It {}.", outputFolder, of.exists() ? "already exists." : "may not have appropriate permissions.");
                     }
                 }
@@ -1286,20 +1256,34 @@ public class DefaultGenerator implements Generator {
         generateOpenapiGeneratorIgnoreFile();
 
         List<File> files = new ArrayList<>();
-        // models
-        List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
         List<ModelMap> allModels = new ArrayList<>();
         List<ModelMap> aliasModels = new ArrayList<>();
-        generateModels(files, allModels, filteredSchemas, aliasModels);
-        // apis
         List<OperationsMap> allOperations = new ArrayList<>();
-        generateApis(files, allOperations, allModels);
-        // webhooks
         List<WebhooksMap> allWebhooks = new ArrayList<>();
-        generateWebhooks(files, allWebhooks, allModels);
+        loadIncrementalManifest();
+        if (config.getProcessingThreads() > 1 && !config.supportsParallelProcessing()) {
+            LOGGER.warn("The {} generator does not support parallel processing, schemas and operations are processed sequentially.", config.getName());
+        }
+        startRendering();
+        try {
+            // models
+            Set<String> filteredSchemas = SchemaUsageIndex.of(openAPI).getSchemasUsedOnlyInFormParam();
+            generateModels(files, allModels, filteredSchemas, aliasModels);
+            // apis
+            generateApis(files, allOperations, allModels);
+            // webhooks
+            generateWebhooks(files, allWebhooks, allModels);
+        } finally {
+            stopRendering();
+        }
+        if (config instanceof DefaultCodegen) {
+            DefaultCodegen codegen = (DefaultCodegen) config;
+            LOGGER.debug("Property cache: {} entries, {}", codegen.getPropertyCacheSize(), codegen.getPropertyCacheStats());
+        }
         // supporting files
         Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
         generateSupportingFiles(files, bundle);
+        reportDuplicateFiles();
 
         if (dryRun) {
             boolean verbose = Boolean.parseBoolean(GlobalSettings.getProperty("verbose"));
@@ -1345,9 +1329,21 @@ public class DefaultGenerator implements Generator {
             }
         }
 
+        if (this.templateProcessor instanceof TemplateManager && LOGGER.isDebugEnabled()) {
+            TemplateManager templateManager = (TemplateManager) this.templateProcessor;
+            LOGGER.debug("Template resolution cache: {}", templateManager.getResolvedTemplateCacheStats());
+            LOGGER.debug("Template contents cache: {}", templateManager.getTemplateContentsCacheStats());
+        }
+
         // post-process
+        config.executeBatchedPostProcessors();
         config.postProcess();
 
+        // written last, so that the manifest reflects files as modified by any post-processing
+        if (!dryRun) {
+            generateIncrementalManifest();
+        }
+
         // reset GlobalSettings, so that the running thread can be reused for another generator-run
         GlobalSettings.reset();
 
@@ -1431,9 +1427,23 @@ public class DefaultGenerator implements Generator {
         return processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption, this.config.getOutputDir());
     }
 
-    private final Set<String> seenFiles = new HashSet<>();
+    /**
+     * Absolute paths of all files about to be generated, indexed by their lower-cased path to detect paths which only
+     * differ by case (or are generated more than once).
+     */
+    private final Map<String, List<String>> seenFiles = new LinkedHashMap<>();
 
     private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) throws IOException {
+        File target = resolveTargetFile(outputFilename, shouldGenerate, skippedByOption, intendedOutputDir);
+        return target == null ? null : this.templateProcessor.write(templateData, templateName, target);
+    }
+
+    /**
+     * Applies ignore rules, generation options and output directory constraints to a file about to be generated.
+     *
+     * @return the file to write, or null if it was ignored or skipped
+     */
+    private File resolveTargetFile(String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
         File target = new File(adjustedOutputFilename);
         if (ignoreProcessor.allowsFile(target)) {
@@ -1444,11 +1454,9 @@ public class DefaultGenerator implements Generator {
                     throw new RuntimeException(String.format(Locale.ROOT, "Target files must be generated within the output directory; absoluteTarget=%s outDir=%s", absoluteTarget, outDir));
                 }
 
-                if (seenFiles.stream().filter(f -> f.toLowerCase(Locale.ROOT).equals(absoluteTarget.toString().toLowerCase(Locale.ROOT))).findAny().isPresent()) {
-                    LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. path={}", absoluteTarget.toString());
-                }
-                seenFiles.add(absoluteTarget.toString());
-                return this.templateProcessor.write(templateData, templateName, target);
+                String path = absoluteTarget.toString();
+                seenFiles.computeIfAbsent(path.toLowerCase(Locale.ROOT), k -> new ArrayList<>(1)).add(path);
+                return target;
             } else {
                 this.templateProcessor.skip(target.toPath(), String.format(Locale.ROOT, "Skipped by %s options supplied by user.", skippedByOption));
                 return null;
@@ -1459,49 +1467,268 @@ public class DefaultGenerator implements Generator {
         }
     }
 
-    public Map<String, List<CodegenOperation>> processPaths(Paths paths) {
-        Map<String, List<CodegenOperation>> ops = new TreeMap<>();
-        // when input file is not valid and doesn't contain any paths
-        if (paths == null) {
-            return ops;
+    /**
+     * Warns about each group of generated paths which only differ by case, or which were generated more than once.
+     */
+    private void reportDuplicateFiles() {
+        seenFiles.values().stream()
+                .filter(paths -> paths.size() > 1)
+                .forEach(paths -> LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. paths={}", paths));
+        seenFiles.clear();
+    }
+
+    /**
+     * Generates a model, api or webhook file from a template and tracks it in {@code files}, post-processing it if enabled.
+     * <p>
+     * When rendering in parallel, ignore rules and duplicate detection are still evaluated here, in order, but template
+     * execution and the write are deferred to {@link #renderPendingFiles()}.
+     */
+    private void generateFile(List<File> files, String fileType, Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) throws IOException {
+        File target = resolveTargetFile(outputFilename, shouldGenerate, skippedByOption, intendedOutputDir);
+        if (target == null) {
+            return;
+        }
+
+        String inputHash = null;
+        if (incrementalManifest != null) {
+            inputHash = incrementalManifest.inputHash(templateName, templateData);
+            if (incrementalManifest.isUnchanged(target, inputHash)) {
+                this.templateProcessor.skip(target.toPath(), "Unchanged since the last run.");
+                files.add(target);
+                return;
+            }
+        }
+
+        if (renderExecutor == null) {
+            trackGeneratedFile(files, fileType, inputHash, this.templateProcessor.write(templateData, templateName, target));
+        } else {
+            pendingRenders.add(new PendingRender(files, fileType, target, inputHash, () -> this.templateProcessor.write(templateData, templateName, target)));
         }
-        for (Map.Entry<String, PathItem> pathsEntry : paths.entrySet()) {
-            String resourcePath = pathsEntry.getKey();
-            PathItem path = pathsEntry.getValue();
-            processOperation(resourcePath, "get", path.getGet(), ops, path);
-            processOperation(resourcePath, "head", path.getHead(), ops, path);
-            processOperation(resourcePath, "put", path.getPut(), ops, path);
-            processOperation(resourcePath, "post", path.getPost(), ops, path);
-            processOperation(resourcePath, "delete", path.getDelete(), ops, path);
-            processOperation(resourcePath, "patch", path.getPatch(), ops, path);
-            processOperation(resourcePath, "options", path.getOptions(), ops, path);
-            processOperation(resourcePath, "trace", path.getTrace(), ops, path);
+    }
+
+    private void trackGeneratedFile(List<File> files, String fileType, String inputHash, File written) {
+        if (written != null) {
+            files.add(written);
+            if (incrementalManifest != null) {
+                incrementalManifest.record(written, inputHash);
+            }
+            if (config.isEnablePostProcessFile() && !dryRun) {
+                config.postProcessFile(written, fileType);
+            }
+        }
+    }
+
+    /**
+     * Loads the manifest of the previous run when incremental generation is enabled. Must be invoked once all global
+     * template properties are configured, as they are part of the run fingerprint.
+     */
+    private void loadIncrementalManifest() {
+        incrementalManifest = null;
+        if (!config.isEnableIncrementalGeneration() || dryRun || inMemory) {
+            return;
+        }
+
+        try {
+            // embedded templates are versioned with the generator, user templates by their contents
+            String templateDir = config.templateDir();
+            String templateDirHash = templateDir == null ? "" : IncrementalManifest.hashDirectory(java.nio.file.Paths.get(templateDir));
+            Path outputDir = java.nio.file.Paths.get(config.getOutputDir());
+            incrementalManifest = IncrementalManifest.load(
+                    outputDir,
+                    outputDir.resolve(METADATA_DIR).resolve(IncrementalManifest.FILENAME),
+                    config.additionalProperties(),
+                    Collections.singleton("generatedDate"),
+                    config.getClass().getName(),
+                    config.getName(),
+                    config.getLibrary(),
+                    ImplementationVersion.read(),
+                    config.getTemplatingEngine() == null ? null : config.getTemplatingEngine().getIdentifier(),
+                    templateDirHash,
+                    String.valueOf(config.isEnablePostProcessFile()));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to set up incremental generation, all files will be regenerated: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the manifest at .openapi-generator/MANIFEST.json, used by the next run to skip unchanged files.
+     */
+    private void generateIncrementalManifest() {
+        if (incrementalManifest == null) {
+            return;
+        }
+
+        LOGGER.info("Incremental generation: {} file(s) unchanged since the last run", incrementalManifest.getUnchangedCount());
+        try {
+            String targetFile = config.outputFolder() + File.separator + METADATA_DIR + File.separator + IncrementalManifest.FILENAME;
+            this.templateProcessor.writeToFile(targetFile, incrementalManifest.toBytes());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write {} metadata to track generated files.", IncrementalManifest.FILENAME);
+        } finally {
+            incrementalManifest = null;
         }
-        return ops;
+    }
+
+    private void startRendering() {
+        int renderThreads = config.getRenderThreads();
+        if (renderThreads > 1 && !dryRun) {
+            LOGGER.info("Rendering model, api and webhook files with {} threads", renderThreads);
+            // threads are created from this thread, and so inherit its GlobalSettings
+            renderExecutor = Executors.newFixedThreadPool(renderThreads);
+        }
+    }
+
+    private void stopRendering() {
+        pendingRenders.clear();
+        if (renderExecutor != null) {
+            renderExecutor.shutdownNow();
+            renderExecutor = null;
+        }
+    }
+
+    /**
+     * Renders all deferred files on the render executor, then tracks and post-processes them in the order they were
+     * scheduled so that the result is identical to a sequential run.
+     */
+    private void renderPendingFiles() {
+        if (pendingRenders.isEmpty()) {
+            return;
+        }
+
+        List<PendingRender> renders = new ArrayList<>(pendingRenders);
+        pendingRenders.clear();
+        List<Future<File>> results = new ArrayList<>(renders.size());
+        for (PendingRender render : renders) {
+            results.add(renderExecutor.submit(render.task));
+        }
+
+        for (int i = 0; i < renders.size(); i++) {
+            PendingRender render = renders.get(i);
+            try {
+                trackGeneratedFile(render.files, render.fileType, render.inputHash, results.get(i).get());
+            } catch (ExecutionException e) {
+                results.forEach(result -> result.cancel(true));
+                throw new RuntimeException("Could not generate file '" + render.target + "'", e.getCause());
+            } catch (InterruptedException e) {
+                results.forEach(result -> result.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while generating file '" + render.target + "'", e);
+            }
+        }
+    }
+
+    private static class PendingRender {
+        private final List<File> files;
+        private final String fileType;
+        private final File target;
+        private final String inputHash;
+        private final Callable<File> task;
+
+        PendingRender(List<File> files, String fileType, File target, String inputHash, Callable<File> task) {
+            this.files = files;
+            this.fileType = fileType;
+            this.target = target;
+            this.inputHash = inputHash;
+            this.task = task;
+        }
+    }
+
+    public Map<String, List<CodegenOperation>> processPaths(Paths paths) {
+        return processPathItems(paths);
     }
 
     public Map<String, List<CodegenOperation>> processWebhooks(Map<String, PathItem> webhooks) {
+        return processPathItems(webhooks);
+    }
+
+    /**
+     * Processes the operations of the path items and groups them by tag. The operations are created on
+     * {@link CodegenConfig#getProcessingThreads()} threads when greater than 1 and supported by the generator, and are
+     * grouped in the same order as a sequential run.
+     */
+    private Map<String, List<CodegenOperation>> processPathItems(Map<String, PathItem> pathItems) {
         Map<String, List<CodegenOperation>> ops = new TreeMap<>();
         // when input file is not valid and doesn't contain any paths
-        if (webhooks == null) {
+        if (pathItems == null) {
+            return ops;
+        }
+
+        Map<String, Tag> tagsByName = indexTags();
+        List<PendingOperation> pendingOperations = new ArrayList<>();
+        for (Map.Entry<String, PathItem> pathItemsEntry : pathItems.entrySet()) {
+            String resourcePath = pathItemsEntry.getKey();
+            PathItem path = pathItemsEntry.getValue();
+            prepareOperation(resourcePath, "get", path.getGet(), path, tagsByName, pendingOperations);
+            prepareOperation(resourcePath, "head", path.getHead(), path, tagsByName, pendingOperations);
+            prepareOperation(resourcePath, "put", path.getPut(), path, tagsByName, pendingOperations);
+            prepareOperation(resourcePath, "post", path.getPost(), path, tagsByName, pendingOperations);
+            prepareOperation(resourcePath, "delete", path.getDelete(), path, tagsByName, pendingOperations);
+            prepareOperation(resourcePath, "patch", path.getPatch(), path, tagsByName, pendingOperations);
+            prepareOperation(resourcePath, "options", path.getOptions(), path, tagsByName, pendingOperations);
+            prepareOperation(resourcePath, "trace", path.getTrace(), path, tagsByName, pendingOperations);
+        }
+
+        int processingThreads = config.supportsParallelProcessing() ? Math.min(config.getProcessingThreads(), pendingOperations.size()) : 1;
+        if (processingThreads <= 1) {
+            for (PendingOperation pending : pendingOperations) {
+                try {
+                    groupOperation(pending, createOperation(pending), ops);
+                } catch (Exception ex) {
+                    throw operationException(pending, ex);
+                }
+            }
+            return ops;
+        }
+
+        LOGGER.info("Processing {} operations with {} threads", pendingOperations.size(), processingThreads);
+        // threads are created from this thread, and so inherit its GlobalSettings
+        ExecutorService executor = Executors.newFixedThreadPool(processingThreads);
+        try {
+            List<Future<CodegenOperation>> results = new ArrayList<>(pendingOperations.size());
+            for (PendingOperation pending : pendingOperations) {
+                results.add(executor.submit(() -> createOperation(pending)));
+            }
+
+            for (int i = 0; i < pendingOperations.size(); i++) {
+                PendingOperation pending = pendingOperations.get(i);
+                try {
+                    groupOperation(pending, results.get(i).get(), ops);
+                } catch (ExecutionException e) {
+                    results.forEach(result -> result.cancel(true));
+                    throw operationException(pending, e.getCause());
+                } catch (InterruptedException e) {
+                    results.forEach(result -> result.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while processing operation '" + pending.operation.getOperationId() + "'", e);
+                } catch (Exception ex) {
+                    results.forEach(result -> result.cancel(true));
+                    throw operationException(pending, ex);
+                }
+            }
             return ops;
+        } finally {
+            executor.shutdownNow();
         }
-        for (Map.Entry<String, PathItem> webhooksEntry : webhooks.entrySet()) {
-            String resourceKey = webhooksEntry.getKey();
-            PathItem path = webhooksEntry.getValue();
-            processOperation(resourceKey, "get", path.getGet(), ops, path);
-            processOperation(resourceKey, "head", path.getHead(), ops, path);
-            processOperation(resourceKey, "put", path.getPut(), ops, path);
-            processOperation(resourceKey, "post", path.getPost(), ops, path);
-            processOperation(resourceKey, "delete", path.getDelete(), ops, path);
-            processOperation(resourceKey, "patch", path.getPatch(), ops, path);
-            processOperation(resourceKey, "options", path.getOptions(), ops, path);
-            processOperation(resourceKey, "trace", path.getTrace(), ops, path);
+    }
+
+    /**
+     * Indexes the tags of the document by name. The first tag wins when several have the same name.
+     */
+    private Map<String, Tag> indexTags() {
+        Map<String, Tag> tagsByName = new HashMap<>();
+        if (openAPI.getTags() != null) {
+            for (Tag tag : openAPI.getTags()) {
+                tagsByName.putIfAbsent(tag.getName(), tag);
+            }
         }
-        return ops;
+        return tagsByName;
     }
 
-    private void processOperation(String resourcePath, String httpMethod, Operation operation, Map<String, List<CodegenOperation>> operations, PathItem path) {
+    /**
+     * Resolves the tags of the operation and propagates the path level parameters to it, then adds an operation to
+     * create for each tag.
+     */
+    private void prepareOperation(String resourcePath, String httpMethod, Operation operation, PathItem path, Map<String, Tag> tagsByName, List<PendingOperation> pendingOperations) {
         if (operation == null) {
             return;
         }
@@ -1512,27 +1739,10 @@ public class DefaultGenerator implements Generator {
 
         List<Tag> tags = new ArrayList<>();
         List<String> tagNames = operation.getTags();
-        List<Tag> swaggerTags = openAPI.getTags();
         if (tagNames != null) {
-            if (swaggerTags == null) {
-                for (String tagName : tagNames) {
-                    tags.add(new Tag().name(tagName));
-                }
-            } else {
-                for (String tagName : tagNames) {
-                    boolean foundTag = false;
-                    for (Tag tag : swaggerTags) {
-                        if (tag.getName().equals(tagName)) {
-                            tags.add(tag);
-                            foundTag = true;
-                            break;
-                        }
-                    }
-
-                    if (!foundTag) {
-                        tags.add(new Tag().name(tagName));
-                    }
-                }
+            for (String tagName : tagNames) {
+                Tag tag = tagsByName.get(tagName);
+                tags.add(tag != null ? tag : new Tag().name(tagName));
             }
         }
 
@@ -1562,52 +1772,82 @@ public class DefaultGenerator implements Generator {
             }
         }
 
-        final Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
-        final List<SecurityRequirement> globalSecurities = openAPI.getSecurity();
         for (Tag tag : tags) {
-            try {
-                if (operation.getExtensions() != null && Boolean.TRUE.equals(operation.getExtensions().get("x-internal"))) {
-                    // skip operation if x-internal sets to true
-                    LOGGER.info("Operation ({} {} - {}) not generated since x-internal is set to true",
-                            httpMethod, resourcePath, operation.getOperationId());
-                } else {
-                    CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, path.getServers());
-                    codegenOperation.tags = new ArrayList<>(tags);
-                    config.addOperationToGroup(config.sanitizeTag(tag.getName()), resourcePath, operation, codegenOperation, operations);
+            if (operation.getExtensions() != null && Boolean.TRUE.equals(operation.getExtensions().get("x-internal"))) {
+                // skip operation if x-internal sets to true
+                LOGGER.info("Operation ({} {} - {}) not generated since x-internal is set to true",
+                        httpMethod, resourcePath, operation.getOperationId());
+            } else {
+                pendingOperations.add(new PendingOperation(resourcePath, httpMethod, operation, path, tags, tag));
+            }
+        }
+    }
 
-                    List<SecurityRequirement> securities = operation.getSecurity();
-                    if (securities != null && securities.isEmpty()) {
-                        continue;
-                    }
+    private CodegenOperation createOperation(PendingOperation pending) {
+        CodegenOperation codegenOperation = config.fromOperation(pending.resourcePath, pending.httpMethod, pending.operation, pending.path.getServers());
+        codegenOperation.tags = new ArrayList<>(pending.tags);
+        return codegenOperation;
+    }
 
-                    Map<String, SecurityScheme> authMethods = getAuthMethods(securities, securitySchemes);
+    private void groupOperation(PendingOperation pending, CodegenOperation codegenOperation, Map<String, List<CodegenOperation>> operations) {
+        Operation operation = pending.operation;
+        config.addOperationToGroup(config.sanitizeTag(pending.tag.getName()), pending.resourcePath, operation, codegenOperation, operations);
 
-                    if (authMethods != null && !authMethods.isEmpty()) {
-                        List<CodegenSecurity> fullAuthMethods = config.fromSecurity(authMethods);
-                        codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, securities);
-                        codegenOperation.hasAuthMethods = true;
-                    } else {
-                        authMethods = getAuthMethods(globalSecurities, securitySchemes);
+        List<SecurityRequirement> securities = operation.getSecurity();
+        if (securities != null && securities.isEmpty()) {
+            return;
+        }
 
-                        if (authMethods != null && !authMethods.isEmpty()) {
-                            List<CodegenSecurity> fullAuthMethods = config.fromSecurity(authMethods);
-                            codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, globalSecurities);
-                            codegenOperation.hasAuthMethods = true;
-                        }
-                    }
-                }
-            } catch (Exception ex) {
-                String msg = "Could not process operation:\n" //
-                        + "  Tag: " + tag + "\n"//
-                        + "  Operation: " + operation.getOperationId() + "\n" //
-                        + "  Resource: " + httpMethod + " " + resourcePath + "\n"//
-                        + "  Schemas: " + openAPI.getComponents().getSchemas() + "\n"  //
-                        + "  Exception: " + ex.getMessage();
-                throw new RuntimeException(msg, ex);
+        final Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
+        Map<String, SecurityScheme> authMethods = getAuthMethods(securities, securitySchemes);
+
+        if (authMethods != null && !authMethods.isEmpty()) {
+            List<CodegenSecurity> fullAuthMethods = config.fromSecurity(authMethods);
+            codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, securities);
+            codegenOperation.hasAuthMethods = true;
+        } else {
+            final List<SecurityRequirement> globalSecurities = openAPI.getSecurity();
+            authMethods = getAuthMethods(globalSecurities, securitySchemes);
+
+            if (authMethods != null && !authMethods.isEmpty()) {
+                List<CodegenSecurity> fullAuthMethods = config.fromSecurity(authMethods);
+                codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, globalSecurities);
+                codegenOperation.hasAuthMethods = true;
             }
         }
     }
 
+    private RuntimeException operationException(PendingOperation pending, Throwable ex) {
+        String msg = "Could not process operation:\n" //
+                + "  Tag: " + pending.tag + "\n"//
+                + "  Operation: " + pending.operation.getOperationId() + "\n" //
+                + "  Resource: " + pending.httpMethod + " " + pending.resourcePath + "\n"//
+                + "  Schemas: " + openAPI.getComponents().getSchemas() + "\n"  //
+                + "  Exception: " + ex.getMessage();
+        return new RuntimeException(msg, ex);
+    }
+
+    /**
+     * An operation of a path item to create for one of its tags.
+     */
+    private static class PendingOperation {
+        private final String resourcePath;
+        private final String httpMethod;
+        private final Operation operation;
+        private final PathItem path;
+        private final List<Tag> tags;
+        private final Tag tag;
+
+        PendingOperation(String resourcePath, String httpMethod, Operation operation, PathItem path, List<Tag> tags, Tag tag) {
+            this.resourcePath = resourcePath;
+            this.httpMethod = httpMethod;
+            this.operation = operation;
+            this.path = path;
+            this.tags = tags;
+            this.tag = tag;
+        }
+    }
+
     private static String generateParameterId(Parameter parameter) {
         return null == parameter.get$ref() ? parameter.getName() + ":" + parameter.getIn() : parameter.get$ref();
     }
@@ -1740,6 +1980,92 @@ public class DefaultGenerator implements Generator {
         return result;
     }
 
+    /**
+     * Processes each schema into its own bundle of models, on {@link CodegenConfig#getProcessingThreads()} threads when
+     * greater than 1 and supported by the generator. The bundles are returned in the order of the schemas, as in a
+     * sequential run.
+     */
+    private Map<String, ModelsMap> processModels(Map<String, Schema> schemas) {
+        Map<String, ModelsMap> processedModels = new LinkedHashMap<>();
+        int processingThreads = config.supportsParallelProcessing() ? Math.min(config.getProcessingThreads(), schemas.size()) : 1;
+        if (processingThreads <= 1) {
+            for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                try {
+                    processedModels.put(entry.getKey(), processModel(entry.getKey(), entry.getValue()));
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not process model '" + entry.getKey() + "'" + ".Please make sure that your schema is correct!", e);
+                }
+            }
+            return processedModels;
+        }
+
+        LOGGER.info("Processing {} models with {} threads", schemas.size(), processingThreads);
+        // threads are created from this thread, and so inherit its GlobalSettings (e.g. the ModelUtils settings)
+        ExecutorService executor = Executors.newFixedThreadPool(processingThreads);
+        try {
+            List<String> names = new ArrayList<>(schemas.keySet());
+            List<Future<ModelsMap>> results = new ArrayList<>(names.size());
+            for (String name : names) {
+                Schema schema = schemas.get(name);
+                results.add(executor.submit(() -> processModel(name, schema)));
+            }
+
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i);
+                try {
+                    processedModels.put(name, results.get(i).get());
+                } catch (ExecutionException e) {
+                    results.forEach(result -> result.cancel(true));
+                    throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e.getCause());
+                } catch (InterruptedException e) {
+                    results.forEach(result -> result.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while processing model '" + name + "'", e);
+                }
+            }
+            return processedModels;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ModelsMap processModel(String name, Schema schema) {
+        Map<String, Schema> schemaMap = new HashMap<>();
+        schemaMap.put(name, schema);
+        ModelsMap models = processModels(config, schemaMap);
+        models.put("classname", config.toModelName(name));
+        models.setSharedLayer(snapshotAdditionalProperties());
+        return models;
+    }
+
+    /**
+     * Gets the additional properties as they are now, to be shared by bundles instead of being copied into each of them.
+     * The snapshot is reused as long as the additional properties don't change, so that later changes (e.g. by the
+     * post-processing of another bundle) don't leak into the bundles of the previous ones.
+     *
+     * @return an unmodifiable copy of the additional properties
+     */
+    private synchronized Map<String, Object> snapshotAdditionalProperties() {
+        Map<String, Object> additionalProperties = config.additionalProperties();
+        if (additionalPropertiesSnapshot == null || !isSnapshotOf(additionalPropertiesSnapshot, additionalProperties)) {
+            additionalPropertiesSnapshot = Collections.unmodifiableMap(new HashMap<>(additionalProperties));
+        }
+        return additionalPropertiesSnapshot;
+    }
+
+    private static boolean isSnapshotOf(Map<String, Object> snapshot, Map<String, Object> map) {
+        if (snapshot.size() != map.size()) {
+            return false;
+        }
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            Object value = snapshot.get(entry.getKey());
+            if (value != entry.getValue() || (value == null && !snapshot.containsKey(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private ModelsMap processModels(CodegenConfig config, Map<String, Schema> definitions) {
         ModelsMap objs = new ModelsMap();
         objs.put("package", config.modelPackage());
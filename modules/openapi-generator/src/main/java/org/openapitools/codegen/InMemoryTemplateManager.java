@@ -0,0 +1,97 @@
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Manages templates like {@link TemplateManager}, but keeps written files in memory instead of writing them to the
+ * output directory. Useful when the generated files are not needed on disk, e.g. to serve them as an archive.
+ */
+public class InMemoryTemplateManager extends TemplateManager {
+    private final Logger LOGGER = LoggerFactory.getLogger(InMemoryTemplateManager.class);
+
+    // absolute path -> contents, last write wins as when writing to disk
+    private final NavigableMap<Path, byte[]> files = new ConcurrentSkipListMap<>();
+
+    /**
+     * Constructs a new instance of a {@link InMemoryTemplateManager}
+     *
+     * @param options         The {@link TemplateManagerOptions} for reading templates
+     * @param engineAdapter   The adaptor to underlying templating engine
+     * @param templateLoaders Loaders which define where we look for templates
+     */
+    public InMemoryTemplateManager(
+            TemplateManagerOptions options,
+            TemplatingEngineAdapter engineAdapter,
+            TemplatePathLocator[] templateLoaders) {
+        super(options, engineAdapter, templateLoaders);
+    }
+
+    /**
+     * Keeps bytes as the contents of a file, replacing any contents previously written to the same file.
+     *
+     * @param filename The name of file to write
+     * @param contents The contents bytes.  Typically, this is a UTF-8 formatted string.
+     * @return File representing the written file, which does not exist on disk.
+     */
+    @Override
+    public File writeToFile(String filename, byte[] contents) {
+        Path path = Paths.get(filename).toAbsolutePath().normalize();
+        LOGGER.debug("writing file {} in memory", path);
+        files.put(path, contents);
+        return path.toFile();
+    }
+
+    /**
+     * Gets the files written so far.
+     *
+     * @return An unmodifiable view of the contents of each file by absolute path, sorted by path
+     */
+    public NavigableMap<Path, byte[]> getFiles() {
+        return Collections.unmodifiableNavigableMap(files);
+    }
+
+    /**
+     * Writes all files under a directory to a ZIP archive. Entries are named by their path relative to the directory,
+     * files outside of it are not written.
+     *
+     * @param directory The directory to archive, usually the output directory of the generator
+     * @param prefix    A prefix of all entry names (e.g. the name of a folder to extract the files to), or an empty string
+     * @param out       The stream to write the archive to, which is not closed
+     * @return The number of files written
+     * @throws IOException If the archive cannot be written.
+     */
+    public int writeZip(String directory, String prefix, OutputStream out) throws IOException {
+        Path root = Paths.get(directory).toAbsolutePath().normalize();
+        int count = 0;
+        ZipOutputStream zos = new ZipOutputStream(out);
+        for (Map.Entry<Path, byte[]> file : files.entrySet()) {
+            if (!file.getKey().startsWith(root)) {
+                continue;
+            }
+            String name = root.relativize(file.getKey()).toString().replace(File.separatorChar, '/');
+            zos.putNextEntry(new ZipEntry(prefix + name));
+            zos.write(file.getValue());
+            zos.closeEntry();
+            count++;
+        }
+        zos.finish();
+        zos.flush();
+        return count;
+    }
+}
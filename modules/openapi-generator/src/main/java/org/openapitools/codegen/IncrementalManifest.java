@@ -0,0 +1,519 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Primitives;
+import io.swagger.v3.core.util.Json;
+import lombok.Getter;
+import lombok.Setter;
+import org.openapitools.codegen.model.LayeredMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Tracks the inputs and outputs of model, api and webhook files across generations, so that a run can skip template
+ * execution and writes for files whose inputs did not change since the previous run.
+ * <p>
+ * The manifest is stored next to FILES in the metadata directory. Each entry records a hash of the inputs of a file
+ * (the run fingerprint, the template name and the file-specific template bundle), a hash of the written output, and
+ * the size and modification time of the output at the end of the run. A file is considered unchanged when its input
+ * hash matches and the file on disk still has the recorded size and modification time.
+ * <p>
+ * The run fingerprint covers the generator, its version, the template directory contents and all global template
+ * properties. Any change to those invalidates every entry. Global properties are assumed not to be modified in place
+ * once the fingerprint is computed; properties added or replaced later are hashed with each bundle instead.
+ */
+public class IncrementalManifest {
+    public static final String FILENAME = "MANIFEST.json";
+    private static final int FORMAT_VERSION = 4;
+    // the packages of the template data classes hashed field by field
+    private static final String[] HASHED_PACKAGES = {"org.openapitools.codegen.", "io.swagger.v3.oas.models."};
+    private static final Map<Class<?>, List<HashedField>> HASHED_FIELDS = new ConcurrentHashMap<>();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalManifest.class);
+    private static final ObjectWriter HASH_WRITER = Json.mapper().writer()
+            .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .without(SerializationFeature.INDENT_OUTPUT);
+
+    private final Path outputDir;
+    private final String fingerprint;
+    private final Map<String, Object> globals;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new TreeMap<>();
+    private final Map<Map<String, Object>, String> bundleHashes = new IdentityHashMap<>();
+    // the digests of the models reached by the bundles of this run, see hashModels
+    private final Map<CodegenModel, ModelDigest> modelDigests = new IdentityHashMap<>();
+    @Getter private int unchangedCount = 0;
+
+    private IncrementalManifest(Path outputDir, String fingerprint, Map<String, Object> globals, Map<String, Entry> previous) {
+        this.outputDir = outputDir;
+        this.fingerprint = fingerprint;
+        this.globals = globals;
+        this.previous = previous;
+    }
+
+    /**
+     * Creates the manifest of a run, aware of the entries of the previous run if it had the same run fingerprint.
+     * <p>
+     * The run fingerprint is computed from the global template properties as they are at this point, and from any
+     * further identifying values. Values which cannot be serialized (such as lambdas) contribute their type only.
+     *
+     * @param outputDir    The output directory of the generation
+     * @param manifestFile The location of the manifest file
+     * @param globals      The properties shared by all templates
+     * @param ignoredKeys  Global properties which change on every run without affecting the output, e.g. timestamps
+     * @param runValues    Further values identifying the run, e.g. generator name and version
+     * @return The manifest of the current run
+     */
+    public static IncrementalManifest load(Path outputDir, Path manifestFile, Map<String, Object> globals, Set<String> ignoredKeys, String... runValues) {
+        Map<String, Object> snapshot = new TreeMap<>(globals);
+        Hasher hasher = Hashing.sha256().newHasher().putInt(FORMAT_VERSION);
+        for (String value : runValues) {
+            hasher.putString(String.valueOf(value), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        snapshot.forEach((key, value) -> {
+            if (ignoredKeys.contains(key)) {
+                return;
+            }
+            hasher.putString(key, StandardCharsets.UTF_8).putByte((byte) 0);
+            try {
+                hasher.putBytes(HASH_WRITER.writeValueAsBytes(value));
+            } catch (IOException | RuntimeException e) {
+                hasher.putString(value == null ? "null" : value.getClass().getName(), StandardCharsets.UTF_8);
+            }
+            hasher.putByte((byte) 0);
+        });
+        String fingerprint = hasher.hash().toString();
+
+        Map<String, Entry> previous = new TreeMap<>();
+        if (Files.isRegularFile(manifestFile)) {
+            try {
+                Contents contents = Json.mapper().readValue(manifestFile.toFile(), Contents.class);
+                if (contents.getVersion() == FORMAT_VERSION && Objects.equals(contents.getFingerprint(), fingerprint) && contents.getFiles() != null) {
+                    previous.putAll(contents.getFiles());
+                } else {
+                    LOGGER.info("Generator, templates or global properties changed since the last run. All files will be regenerated.");
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Unable to read {}, all files will be regenerated: {}", manifestFile, e.getMessage());
+            }
+        }
+        return new IncrementalManifest(outputDir.toAbsolutePath().normalize(), fingerprint, snapshot, previous);
+    }
+
+    /**
+     * Computes a hash over all regular files in a directory, including their relative paths.
+     *
+     * @param directory The directory, e.g. a user-provided template directory
+     * @return The hash, or an empty string if the directory does not exist
+     * @throws IOException if the directory cannot be read
+     */
+    public static String hashDirectory(Path directory) throws IOException {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return "";
+        }
+        Hasher hasher = Hashing.sha256().newHasher();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile).sorted()::iterator) {
+                hasher.putString(directory.relativize(path).toString(), StandardCharsets.UTF_8).putByte((byte) 0);
+                hasher.putBytes(Files.readAllBytes(path));
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Computes the input hash of a file rendered from a template.
+     *
+     * @param templateName The template used to render the file
+     * @param bundle       The template bundle of the file
+     * @return The input hash, or null if the bundle cannot be hashed (in which case the file is always regenerated)
+     */
+    public String inputHash(String templateName, Map<String, Object> bundle) {
+        String bundleHash = bundleHashes.computeIfAbsent(bundle, this::hashBundle);
+        if (bundleHash.isEmpty()) {
+            return null;
+        }
+        return Hashing.sha256().newHasher()
+                .putString(fingerprint, StandardCharsets.UTF_8).putByte((byte) 0)
+                .putString(templateName, StandardCharsets.UTF_8).putByte((byte) 0)
+                .putString(bundleHash, StandardCharsets.UTF_8)
+                .hash().toString();
+    }
+
+    private String hashBundle(Map<String, Object> bundle) {
+        Map<String, Object> entries = new HashMap<>();
+        if (bundle instanceof LayeredMap) {
+            // iterating a layered map only covers its own entries, which take precedence over the layer
+            entries.putAll(((LayeredMap) bundle).getSharedLayer());
+        }
+        entries.putAll(bundle);
+
+        Map<String, Object> own = new TreeMap<>();
+        entries.forEach((key, value) -> {
+            // global properties are covered by the run fingerprint, unless they were replaced after it was computed
+            if (!globals.containsKey(key) || globals.get(key) != value) {
+                own.put(key, value);
+            }
+        });
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        try {
+            Set<CodegenModel> models = Collections.newSetFromMap(new IdentityHashMap<>());
+            hashValue(hasher, own, models, Collections.newSetFromMap(new IdentityHashMap<>()));
+            hashModels(hasher, models);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Unable to hash template bundle, file will be regenerated: {}", e.getMessage());
+            return "";
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Hashes the models referenced by template data, and the models they reference in turn (e.g. their parent,
+     * children and interfaces), by their own digest. Templates may render any of them, but the references form cycles,
+     * so the digest of a model only covers its own fields, the models it references being hashed by name.
+     *
+     * @param hasher The hasher
+     * @param models The models referenced by the template data
+     */
+    private void hashModels(Hasher hasher, Set<CodegenModel> models) {
+        Set<CodegenModel> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        visited.addAll(models);
+        Deque<CodegenModel> pending = new ArrayDeque<>(models);
+        List<String> digests = new ArrayList<>();
+        while (!pending.isEmpty()) {
+            ModelDigest digest = modelDigests.computeIfAbsent(pending.poll(), this::digestModel);
+            digests.add(digest.hash);
+            for (CodegenModel reference : digest.references) {
+                if (visited.add(reference)) {
+                    pending.add(reference);
+                }
+            }
+        }
+        // the order models are reached in may differ between bundles rendering the same data
+        Collections.sort(digests);
+        hasher.putByte((byte) 'D').putInt(digests.size());
+        digests.forEach(digest -> hasher.putString(digest, StandardCharsets.UTF_8));
+    }
+
+    private ModelDigest digestModel(CodegenModel model) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        Set<CodegenModel> references = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Object> path = Collections.newSetFromMap(new IdentityHashMap<>());
+        path.add(model);
+        hashFields(hasher, model, references, path);
+        references.remove(model);
+        return new ModelDigest(hasher.hash().toString(), new ArrayList<>(references));
+    }
+
+    /**
+     * Hashes a cycle-free projection of template data: scalars, maps (by key), lists and sets (regardless of order),
+     * and the fields of the codegen and OpenAPI model classes (read directly when public, through their getter
+     * otherwise). Models are hashed by name and collected, to be hashed by {@link #hashModels}. Lazily rendered JSON is
+     * hashed by its source, without rendering it. Other objects, such as lambdas, contribute their type only.
+     *
+     * @param hasher The hasher
+     * @param value  The value to hash
+     * @param models Collects the models referenced by the value
+     * @param path   The objects being hashed, which are hashed by type only when reached again
+     */
+    private static void hashValue(Hasher hasher, Object value, Set<CodegenModel> models, Set<Object> path) {
+        if (value == null) {
+            hasher.putByte((byte) 'N');
+        } else if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum) {
+            hasher.putByte((byte) 'V').putString(value.toString(), StandardCharsets.UTF_8).putByte((byte) 0);
+        } else if (value instanceof CodegenModel) {
+            CodegenModel model = (CodegenModel) value;
+            models.add(model);
+            hasher.putByte((byte) 'R')
+                    .putString(String.valueOf(model.getName()), StandardCharsets.UTF_8).putByte((byte) 0)
+                    .putString(String.valueOf(model.getClassname()), StandardCharsets.UTF_8).putByte((byte) 0);
+        } else if (value instanceof LazyJson) {
+            hasher.putByte((byte) 'J');
+            hashValue(hasher, ((LazyJson) value).getSource(), models, path);
+        } else if (!path.add(value)) {
+            hasher.putByte((byte) 'C').putString(value.getClass().getName(), StandardCharsets.UTF_8).putByte((byte) 0);
+        } else {
+            try {
+                hashComposite(hasher, value, models, path);
+            } finally {
+                path.remove(value);
+            }
+        }
+    }
+
+    private static void hashComposite(Hasher hasher, Object value, Set<CodegenModel> models, Set<Object> path) {
+        if (value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> sorted.put(String.valueOf(k), v));
+            hasher.putByte((byte) 'M').putInt(sorted.size());
+            sorted.forEach((k, v) -> {
+                hasher.putString(k, StandardCharsets.UTF_8).putByte((byte) 0);
+                hashValue(hasher, v, models, path);
+            });
+        } else if (value instanceof Set) {
+            // iteration order of sets may differ between runs, e.g. for elements hashed by identity
+            List<String> elementHashes = new ArrayList<>();
+            for (Object element : (Set<?>) value) {
+                Hasher elementHasher = Hashing.sha256().newHasher();
+                hashValue(elementHasher, element, models, path);
+                elementHashes.add(elementHasher.hash().toString());
+            }
+            Collections.sort(elementHashes);
+            hasher.putByte((byte) 'U').putInt(elementHashes.size());
+            elementHashes.forEach(elementHash -> hasher.putString(elementHash, StandardCharsets.UTF_8));
+        } else if (value instanceof Collection) {
+            hasher.putByte((byte) 'A').putInt(((Collection<?>) value).size());
+            for (Object element : (Collection<?>) value) {
+                hashValue(hasher, element, models, path);
+            }
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            hasher.putByte((byte) 'A').putInt(length);
+            for (int i = 0; i < length; i++) {
+                hashValue(hasher, Array.get(value, i), models, path);
+            }
+        } else if (isHashedByField(value.getClass())) {
+            hashFields(hasher, value, models, path);
+        } else {
+            hasher.putByte((byte) 'O').putString(value.getClass().getName(), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+    }
+
+    private static void hashFields(Hasher hasher, Object value, Set<CodegenModel> models, Set<Object> path) {
+        hasher.putByte((byte) 'B').putString(value.getClass().getName(), StandardCharsets.UTF_8).putByte((byte) 0);
+        for (HashedField field : HASHED_FIELDS.computeIfAbsent(value.getClass(), IncrementalManifest::hashedFields)) {
+            hasher.putString(field.name, StandardCharsets.UTF_8).putByte((byte) 0);
+            hashValue(hasher, field.get(value), models, path);
+        }
+    }
+
+    private static boolean isHashedByField(Class<?> type) {
+        if (CodegenConfig.class.isAssignableFrom(type) || type.isSynthetic() || type.isAnonymousClass()) {
+            return false;
+        }
+        for (String hashedPackage : HASHED_PACKAGES) {
+            if (type.getName().startsWith(hashedPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the fields of a class which are readable without reflective access checks to be suppressed, i.e. its public
+     * fields and the fields with a public getter. Other fields can't be hashed, so the files rendered from instances
+     * of the class are always regenerated.
+     */
+    private static List<HashedField> hashedFields(Class<?> type) {
+        Map<String, HashedField> fields = new TreeMap<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+                        || fields.containsKey(field.getName())) {
+                    continue;
+                }
+                if (Modifier.isPublic(modifiers) && Modifier.isPublic(current.getModifiers())) {
+                    fields.put(field.getName(), new HashedField(field.getName(), field, null));
+                    continue;
+                }
+                Method getter = findGetter(type, field);
+                if (getter == null) {
+                    LOGGER.warn("Field {} of {} has no public getter, incremental generation will always regenerate files using it.",
+                            field.getName(), type.getName());
+                }
+                fields.put(field.getName(), new HashedField(field.getName(), null, getter));
+            }
+        }
+        return new ArrayList<>(fields.values());
+    }
+
+    /**
+     * Finds the getter of a field, which returns its value as is, e.g. {@code getLazyJsonSchema()} rather than
+     * {@code getJsonSchema()} for a {@link LazyJson}.
+     */
+    private static Method findGetter(Class<?> type, Field field) {
+        // fields named after keywords are prefixed, e.g. _default for getDefault()
+        String name = field.getName().startsWith("_") ? field.getName().substring(1) : field.getName();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String getterName : new String[]{"get" + suffix, "is" + suffix, "getLazy" + suffix, name}) {
+            try {
+                Method getter = type.getMethod(getterName);
+                if (Modifier.isPublic(getter.getDeclaringClass().getModifiers())
+                        && Primitives.wrap(field.getType()).isAssignableFrom(Primitives.wrap(getter.getReturnType()))) {
+                    return getter;
+                }
+            } catch (NoSuchMethodException e) {
+                // try the next naming convention
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Determines whether a file can be kept as is, because neither its inputs nor the file itself changed since the
+     * previous run. Unchanged files are carried over to the manifest of this run.
+     *
+     * @param target    The file about to be generated
+     * @param inputHash The input hash of the file, see {@link #inputHash(String, Map)}
+     * @return true if the file is unchanged and does not need to be generated
+     */
+    public boolean isUnchanged(File target, String inputHash) {
+        if (inputHash == null) {
+            return false;
+        }
+        String key = relativize(target);
+        Entry entry = previous.get(key);
+        if (entry == null || !inputHash.equals(entry.getInput())) {
+            return false;
+        }
+        if (!target.isFile() || target.length() != entry.getSize() || target.lastModified() != entry.getModified()) {
+            return false;
+        }
+        current.put(key, entry);
+        unchangedCount++;
+        return true;
+    }
+
+    /**
+     * Records a file which was written in this run. Output hash, size and modification time are captured by {@link #toBytes()},
+     * i.e. after any post-processing.
+     *
+     * @param written   The written file
+     * @param inputHash The input hash of the file, or null if it could not be computed
+     */
+    public void record(File written, String inputHash) {
+        if (inputHash != null) {
+            Entry entry = new Entry();
+            entry.setInput(inputHash);
+            current.put(relativize(written), entry);
+        }
+    }
+
+    /**
+     * Serializes the manifest of this run.
+     *
+     * @return The manifest contents
+     * @throws IOException if a written file cannot be read or the manifest cannot be serialized
+     */
+    public byte[] toBytes() throws IOException {
+        for (Map.Entry<String, Entry> e : current.entrySet()) {
+            Entry entry = e.getValue();
+            if (entry.getOutput() == null) {
+                Path file = outputDir.resolve(e.getKey());
+                if (Files.isRegularFile(file)) {
+                    entry.setOutput(Hashing.sha256().hashBytes(Files.readAllBytes(file)).toString());
+                    entry.setSize(Files.size(file));
+                    entry.setModified(file.toFile().lastModified());
+                }
+            }
+        }
+        current.values().removeIf(entry -> entry.getOutput() == null);
+
+        Contents contents = new Contents();
+        contents.setVersion(FORMAT_VERSION);
+        contents.setFingerprint(fingerprint);
+        contents.setFiles(current);
+        return Json.pretty().writeValueAsBytes(contents);
+    }
+
+    private String relativize(File file) {
+        return outputDir.relativize(file.toPath().toAbsolutePath().normalize()).toString().replace(File.separatorChar, '/');
+    }
+
+    @Getter @Setter
+    public static class Contents {
+        private int version;
+        private String fingerprint;
+        private Map<String, Entry> files;
+    }
+
+    @Getter @Setter
+    public static class Entry {
+        private String input;
+        private String output;
+        private long size;
+        private long modified;
+    }
+
+    private static final class ModelDigest {
+        private final String hash;
+        private final List<CodegenModel> references;
+
+        private ModelDigest(String hash, List<CodegenModel> references) {
+            this.hash = hash;
+            this.references = references;
+        }
+    }
+
+    private static final class HashedField {
+        private final String name;
+        private final Field field;
+        private final Method getter;
+
+        private HashedField(String name, Field field, Method getter) {
+            this.name = name;
+            this.field = field;
+            this.getter = getter;
+        }
+
+        private Object get(Object target) {
+            if (field == null && getter == null) {
+                throw new IllegalStateException("Cannot read field " + name + " of " + target.getClass().getName());
+            }
+            try {
+                return field != null ? field.get(target) : getter.invoke(target);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
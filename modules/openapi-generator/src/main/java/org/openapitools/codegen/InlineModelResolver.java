@@ -17,11 +17,6 @@
 
 package org.openapitools.codegen;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
-import com.fasterxml.jackson.databind.MapperFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.*;
 import io.swagger.v3.oas.models.PathItem.HttpMethod;
 import io.swagger.v3.oas.models.callbacks.Callback;
@@ -32,15 +27,17 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.SchemaFingerprint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.*;
 
 public class InlineModelResolver {
     private OpenAPI openAPI;
     private Map<String, Schema> addedModels = new HashMap<>();
-    private Map<String, String> generatedSignature = new HashMap<>();
+    private Map<SchemaFingerprint, String> generatedSignature = new HashMap<>();
     private Map<String, String> inlineSchemaNameMapping = new HashMap<>();
     private Map<String, String> inlineSchemaOptions = new HashMap<>();
     private Set<String> inlineSchemaNameMappingValues = new HashSet<>();
@@ -48,18 +45,11 @@ public class InlineModelResolver {
     public boolean skipSchemaReuse = false; // skip reusing inline schema if set to true
     public Boolean refactorAllOfInlineSchemas = null; // refactor allOf inline schemas into $ref
 
-    // structure mapper sorts properties alphabetically on write to ensure models are
-    // serialized consistently for lookup of existing models
-    private static ObjectMapper structureMapper;
-
     // a set to keep track of names generated for inline schemas
     private Set<String> uniqueNames = new HashSet<>();
 
-    static {
-        structureMapper = Json.mapper().copy();
-        structureMapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
-        structureMapper.writer(new DefaultPrettyPrinter());
-    }
+    // schemas with more nested schemas than this are assumed to need a model, rather than being inspected further
+    static final int MAX_VISITED_SCHEMAS = 10000;
 
     final Logger LOGGER = LoggerFactory.getLogger(InlineModelResolver.class);
 
@@ -212,7 +202,7 @@ public class InlineModelResolver {
      * @param schema target schema
      */
     private boolean isModelNeeded(Schema schema) {
-        return isModelNeeded(schema, new HashSet<>());
+        return isModelNeeded(schema, OpenAPINormalizer.newVisitedSchemas());
     }
 
     /**
@@ -226,10 +216,12 @@ public class InlineModelResolver {
      * @param visitedSchemas Visited schemas
      */
     private boolean isModelNeeded(Schema schema, Set<Schema> visitedSchemas) {
-        if (visitedSchemas.contains(schema)) { // circular reference
+        if (!visitedSchemas.add(schema)) { // circular reference
+            return true;
+        }
+        if (visitedSchemas.size() > MAX_VISITED_SCHEMAS) { // too large to inspect, assume a model is needed
+            LOGGER.warn("Schema {} has more than {} nested schemas, assuming it needs a model", schema.getName(), MAX_VISITED_SCHEMAS);
             return true;
-        } else {
-            visitedSchemas.add(schema);
         }
 
         if (resolveInlineEnums && schema.getEnum() != null && schema.getEnum().size() > 0) {
@@ -754,11 +746,11 @@ public class InlineModelResolver {
         }
 
         try {
-            String json = structureMapper.writeValueAsString(model);
-            if (generatedSignature.containsKey(json)) {
-                return generatedSignature.get(json);
+            SchemaFingerprint fingerprint = SchemaFingerprint.of(model);
+            if (generatedSignature.containsKey(fingerprint)) {
+                return generatedSignature.get(fingerprint);
             }
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             e.printStackTrace();
         }
 
@@ -767,9 +759,8 @@ public class InlineModelResolver {
 
     private void addGenerated(String name, Schema model) {
         try {
-            String json = structureMapper.writeValueAsString(model);
-            generatedSignature.put(json, name);
-        } catch (JsonProcessingException e) {
+            generatedSignature.put(SchemaFingerprint.of(model), name);
+        } catch (IOException e) {
             e.printStackTrace();
         }
     }
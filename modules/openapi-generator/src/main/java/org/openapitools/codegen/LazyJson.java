@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The JSON representation of an object of the OpenAPI document (e.g. the schema of a model), rendered when it is first
+ * accessed rather than when the codegen object holding it is created.
+ * <p>
+ * The object it is rendered from is kept as its source. Two instances rendered from equal sources are equal without
+ * rendering them, which is the case of codegen objects created from the same schema. Otherwise their JSON is rendered
+ * and compared, as equivalent schemas (e.g. a {@code Schema} and a {@code StringSchema} of type string) are not equal.
+ */
+public final class LazyJson implements Supplier<String> {
+    private final Object source;
+    private Function<Object, String> renderer;
+    private volatile String json;
+
+    private LazyJson(Object source, Function<Object, String> renderer, String json) {
+        this.source = source;
+        this.renderer = renderer;
+        this.json = json;
+    }
+
+    /**
+     * Creates the JSON representation of an object, rendered on first access.
+     *
+     * @param source   The object to render, e.g. a schema
+     * @param renderer Renders the object, called at most once
+     * @param <T>      The type of the object
+     * @return the lazily rendered JSON
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> LazyJson of(T source, Function<? super T, String> renderer) {
+        return new LazyJson(source, (Function<Object, String>) renderer, null);
+    }
+
+    /**
+     * Wraps an already rendered JSON representation, which is its own source.
+     *
+     * @param json The JSON
+     * @return the JSON, or null if it is null
+     */
+    public static LazyJson ofJson(String json) {
+        return json == null ? null : new LazyJson(json, null, json);
+    }
+
+    /**
+     * @return the object the JSON is rendered from
+     */
+    public Object getSource() {
+        return source;
+    }
+
+    @Override
+    public String get() {
+        String result = json;
+        if (result == null) {
+            synchronized (this) {
+                if (renderer != null) {
+                    json = renderer.apply(source);
+                    renderer = null;
+                }
+                result = json;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LazyJson)) return false;
+        LazyJson that = (LazyJson) o;
+        return Objects.equals(source, that.source) || Objects.equals(get(), that.get());
+    }
+
+    @Override
+    public int hashCode() {
+        // equal instances may have unequal sources, and hashing the JSON would render it
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return get();
+    }
+}
@@ -47,6 +47,10 @@ public class OpenAPINormalizer {
 
     final Logger LOGGER = LoggerFactory.getLogger(OpenAPINormalizer.class);
 
+    // schemas nested deeper than this are left as is, rather than overflowing the stack
+    static final int MAX_SCHEMA_DEPTH = 500;
+    private int schemaDepth;
+
     Set<String> ruleNames = new TreeSet<>();
     Set<String> rulesDefaultToTrue = new TreeSet<>();
 
@@ -460,7 +464,7 @@ public class OpenAPINormalizer {
             } else if (mediaType.getSchema() == null) {
                 continue;
             } else {
-                Schema newSchema = normalizeSchema(mediaType.getSchema(), new HashSet<>());
+                Schema newSchema = normalizeSchema(mediaType.getSchema(), newVisitedSchemas());
                 mediaType.setSchema(newSchema);
             }
         }
@@ -508,7 +512,7 @@ public class OpenAPINormalizer {
             }
 
             if (parameter.getSchema() != null) {
-                Schema newSchema = normalizeSchema(parameter.getSchema(), new HashSet<>());
+                Schema newSchema = normalizeSchema(parameter.getSchema(), newVisitedSchemas());
                 parameter.setSchema(newSchema);
             }
         }
@@ -554,7 +558,7 @@ public class OpenAPINormalizer {
 
         for (String headerKey : headers.keySet()) {
             Header h = headers.get(headerKey);
-            Schema updatedHeader = normalizeSchema(h.getSchema(), new HashSet<>());
+            Schema updatedHeader = normalizeSchema(h.getSchema(), newVisitedSchemas());
             h.setSchema(updatedHeader);
         }
     }
@@ -615,7 +619,7 @@ public class OpenAPINormalizer {
                 fixSelfReferenceSchema(schemaName, schema);
 
                 // normalize the schemas
-                schemas.put(schemaName, normalizeSchema(schema, new HashSet<>()));
+                schemas.put(schemaName, normalizeSchema(schema, newVisitedSchemas()));
             }
         }
     }
@@ -687,10 +691,33 @@ public class OpenAPINormalizer {
      * Normalizes a schema
      *
      * @param schema         Schema
-     * @param visitedSchemas a set of visited schemas
+     * @param visitedSchemas a set of visited schemas, see {@link #newVisitedSchemas()}
      * @return Schema
      */
     public Schema normalizeSchema(Schema schema, Set<Schema> visitedSchemas) {
+        if (schema != null && schemaDepth >= MAX_SCHEMA_DEPTH) {
+            LOGGER.warn("Schema nested deeper than {} levels is not normalized: {}", MAX_SCHEMA_DEPTH, schema.getName());
+            return schema;
+        }
+        schemaDepth++;
+        try {
+            return normalizeNestedSchema(schema, visitedSchemas);
+        } finally {
+            schemaDepth--;
+        }
+    }
+
+    /**
+     * Creates a set of visited schemas for {@link #normalizeSchema(Schema, Set)}. Schemas are compared by identity,
+     * as {@link Schema#hashCode()} and {@link Schema#equals(Object)} traverse the whole schema.
+     *
+     * @return an empty set
+     */
+    public static Set<Schema> newVisitedSchemas() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private Schema normalizeNestedSchema(Schema schema, Set<Schema> visitedSchemas) {
         if (schema == null) {
             return schema;
         }
@@ -700,10 +727,8 @@ public class OpenAPINormalizer {
             return schema;
         }
 
-        if (visitedSchemas.contains(schema)) {
+        if (!visitedSchemas.add(schema)) {
             return schema; // skip due to circular reference
-        } else {
-            visitedSchemas.add(schema);
         }
 
         if (ModelUtils.isArraySchema(schema)) { // array
@@ -763,7 +788,7 @@ public class OpenAPINormalizer {
     }
 
     private Schema normalizeArraySchema(Schema schema) {
-        Schema result = processNormalize31Spec(schema, new HashSet<>());
+        Schema result = processNormalize31Spec(schema, newVisitedSchemas());
         return processSetArraytoNullable(result);
     }
 
@@ -792,7 +817,7 @@ public class OpenAPINormalizer {
         }
         for (Map.Entry<String, Schema> propertiesEntry : properties.entrySet()) {
             Schema property = propertiesEntry.getValue();
-            Schema newProperty = normalizeSchema(property, new HashSet<>());
+            Schema newProperty = normalizeSchema(property, newVisitedSchemas());
             propertiesEntry.setValue(newProperty);
         }
     }
@@ -1450,7 +1475,7 @@ public class OpenAPINormalizer {
 
         // at this point the schema becomes a simple allOf (no properties) with an additional schema containing
         // the properties. Normalize it before returning.
-        return normalizeSchema(schema, new HashSet<>());
+        return normalizeSchema(schema, newVisitedSchemas());
     }
 
     /**
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.config.GlobalSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Runs the external commands used to post-process generated files (e.g. JAVA_POST_PROCESS_FILE).
+ * <p>
+ * Commands either run immediately, once per file, or are deferred: files passed to the same command are then collected
+ * and the command is invoked once per chunk of files when {@link #flush()} is called, with chunks running in parallel on
+ * a bounded pool. Output of the commands is redirected to temporary files, so that a command never blocks on a full
+ * output pipe, and commands exceeding the timeout are terminated.
+ */
+public class PostProcessCommandRunner {
+    public static final String THREADS_PROPERTY = "org.openapitools.codegen.postprocess.threads";
+    public static final String TIMEOUT_PROPERTY = "org.openapitools.codegen.postprocess.timeout";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostProcessCommandRunner.class);
+
+    private final int batchSize;
+    private final int threads;
+    private final long timeoutSeconds;
+    // command (without file) -> files to pass to the command, in order of generation
+    private final Map<List<String>, List<String>> pending = new LinkedHashMap<>();
+
+    /**
+     * @param batchSize the maximum number of files passed to a single invocation of a command, or 0 to run commands immediately
+     */
+    public PostProcessCommandRunner(int batchSize) {
+        this(batchSize,
+                Integer.parseInt(GlobalSettings.getProperty(THREADS_PROPERTY, String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                Long.parseLong(GlobalSettings.getProperty(TIMEOUT_PROPERTY, "600")));
+    }
+
+    PostProcessCommandRunner(int batchSize, int threads, long timeoutSeconds) {
+        this.batchSize = Math.max(0, batchSize);
+        this.threads = Math.max(1, threads);
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    /**
+     * Runs a post-processing command, or defers it if batching is enabled and the last argument is a file.
+     *
+     * @param commandArr an array of commands and arguments, the last of which is usually the file to process. They will
+     *                   be concatenated with space and tokenized again.
+     * @return Whether the execution passed (true) or failed (false). Deferred commands are reported as passed.
+     */
+    public boolean execute(String[] commandArr) {
+        if (batchSize > 0 && commandArr.length > 1 && new File(commandArr[commandArr.length - 1]).isFile()) {
+            List<String> command = tokenize(Arrays.copyOf(commandArr, commandArr.length - 1));
+            synchronized (pending) {
+                pending.computeIfAbsent(command, k -> new ArrayList<>()).add(commandArr[commandArr.length - 1]);
+            }
+            return true;
+        }
+        return run(tokenize(commandArr));
+    }
+
+    /**
+     * Runs all deferred commands, and waits for them to complete.
+     *
+     * @return Whether all executions passed (true) or any failed (false)
+     */
+    public boolean flush() {
+        List<List<String>> invocations = new ArrayList<>();
+        synchronized (pending) {
+            pending.forEach((command, files) -> {
+                for (int i = 0; i < files.size(); i += batchSize) {
+                    List<String> invocation = new ArrayList<>(command);
+                    invocation.addAll(files.subList(i, Math.min(files.size(), i + batchSize)));
+                    invocations.add(invocation);
+                }
+            });
+            pending.clear();
+        }
+        if (invocations.isEmpty()) {
+            return true;
+        }
+
+        LOGGER.info("Post-processing files with {} command invocation(s)", invocations.size());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, invocations.size()));
+        try {
+            List<Future<Boolean>> results = new ArrayList<>(invocations.size());
+            for (List<String> invocation : invocations) {
+                results.add(executor.submit(() -> run(invocation)));
+            }
+            boolean passed = true;
+            for (Future<Boolean> result : results) {
+                try {
+                    passed &= result.get();
+                } catch (ExecutionException e) {
+                    LOGGER.error("Error post-processing files: {}", e.getCause().getMessage());
+                    passed = false;
+                }
+            }
+            return passed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean run(List<String> args) {
+        final String command = String.join(" ", args);
+        Path output = null;
+        try {
+            output = Files.createTempFile("openapi-generator-post-process", ".log");
+            Process p = new ProcessBuilder(args)
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile())
+                    .start();
+            if (timeoutSeconds > 0 && !p.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                p.destroyForcibly();
+                LOGGER.error("Error running the command ({}). Timed out after {} seconds", command, timeoutSeconds);
+                return false;
+            }
+            int exitValue = p.waitFor();
+            if (exitValue != 0) {
+                String errorOutput = new String(Files.readAllBytes(output), StandardCharsets.UTF_8).replace(System.lineSeparator(), "");
+                LOGGER.error("Error running the command ({}). Exit value: {}, Error output: {}", command, exitValue, errorOutput);
+                return false;
+            }
+            LOGGER.info("Successfully executed: {}", command);
+            return true;
+        } catch (InterruptedException | IOException e) {
+            LOGGER.error("Error running the command ({}). Exception: {}", command, e.getMessage());
+            if (e instanceof InterruptedException) {
+                // Restore interrupted state
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        } finally {
+            if (output != null) {
+                try {
+                    Files.deleteIfExists(output);
+                } catch (IOException e) {
+                    LOGGER.debug("Unable to remove {}", output);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tokenizes a command the way {@link Runtime#exec(String)} does. The command passed in by the user is often not only
+     * a single binary but a combination of binary + parameters, e.g. `/etc/bin prettier -w`.
+     */
+    private static List<String> tokenize(String[] commandArr) {
+        StringTokenizer tokenizer = new StringTokenizer(String.join(" ", commandArr));
+        List<String> tokens = new ArrayList<>();
+        while (tokenizer.hasMoreTokens()) {
+            tokens.add(tokenizer.nextToken());
+        }
+        return tokens;
+    }
+}
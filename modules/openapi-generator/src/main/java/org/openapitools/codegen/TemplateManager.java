@@ -1,11 +1,15 @@
 package org.openapitools.codegen;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.api.TemplatePathLocator;
 import org.openapitools.codegen.api.TemplateProcessor;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.config.GlobalSettings;
 import org.openapitools.codegen.templating.TemplateManagerOptions;
 import org.openapitools.codegen.templating.TemplateNotFoundException;
 import org.slf4j.Logger;
@@ -13,24 +17,38 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Scanner;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Pattern;
 
 /**
  * Manages the lookup, compilation, and writing of template files
  */
 public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
+    public static final String TEMPLATE_CACHE_SIZE_PROPERTY = "org.openapitools.codegen.templatemanager.cache.size";
+    private static final int COMPARE_BUFFER_SIZE = 8192;
+
     private final TemplateManagerOptions options;
     private final TemplatingEngineAdapter engineAdapter;
     private final TemplatePathLocator[] templateLoaders;
 
+    // Maps a template name to its resolved location (or an empty string if no loader can locate it),
+    // so that template loaders only search the template directory and classpath once per name.
+    private final Cache<String, String> resolvedTemplateCache;
+
+    // Maps a resolved template location to its contents, so that templates and partials are only read once.
+    private final Cache<String, String> templateContentsCache;
+
     private final Logger LOGGER = LoggerFactory.getLogger(TemplateManager.class);
 
     /**
@@ -47,14 +65,28 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         this.options = options;
         this.engineAdapter = engineAdapter;
         this.templateLoaders = templateLoaders;
+
+        int cacheSize = Integer.parseInt(GlobalSettings.getProperty(TEMPLATE_CACHE_SIZE_PROPERTY, "1000"));
+        this.resolvedTemplateCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        this.templateContentsCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
     }
 
     private String getFullTemplateFile(String name) {
-        String template = Arrays.stream(this.templateLoaders)
-                .map(i -> i.getFullTemplatePath(name))
+        if (name == null) {
+            throw new IllegalArgumentException("Template location must be constrained to template directory.");
+        }
+
+        String template = resolvedTemplateCache.get(name, key -> Arrays.stream(this.templateLoaders)
+                .map(i -> i.getFullTemplatePath(key))
                 .filter(Objects::nonNull)
                 .findFirst()
-                .orElse("");
+                .orElse(""));
 
         if (StringUtils.isEmpty(template)) {
             throw new TemplateNotFoundException(name);
@@ -108,12 +140,16 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
      * @param name The location of the template
      * @return The raw template contents
      */
-    @SuppressWarnings("java:S112")
-    // ignored rule java:S112 as RuntimeException is used to match previous exception type
     public String readTemplate(String name) {
         if (name == null || name.contains("..")) {
             throw new IllegalArgumentException("Template location must be constrained to template directory.");
         }
+        return templateContentsCache.get(name, this::loadTemplate);
+    }
+
+    @SuppressWarnings("java:S112")
+    // ignored rule java:S112 as RuntimeException is used to match previous exception type
+    private String loadTemplate(String name) {
         try (Reader reader = getTemplateReader(name)) {
             if (reader == null) {
                 throw new RuntimeException("no file found");
@@ -180,6 +216,24 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         }
     }
 
+    /**
+     * Gets statistics of the cache mapping template names to resolved template locations.
+     *
+     * @return The {@link CacheStats} of template resolution
+     */
+    public CacheStats getResolvedTemplateCacheStats() {
+        return resolvedTemplateCache.stats();
+    }
+
+    /**
+     * Gets statistics of the cache holding the contents of resolved templates.
+     *
+     * @return The {@link CacheStats} of template contents
+     */
+    public CacheStats getTemplateContentsCacheStats() {
+        return templateContentsCache.stats();
+    }
+
     @Override
     public void ignore(Path path, String context) {
         LOGGER.info("Ignored {} ({})", path, context);
@@ -216,25 +270,11 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         File outputFile = Paths.get(filename).toFile();
 
         if (this.options.isMinimalUpdate()) {
-            String tempFilename = filename + ".tmp";
-            File tempFile = null;
-            try {
-                tempFile = writeToFileRaw(tempFilename, contents);
-                if (!filesEqual(tempFile, outputFile)) {
-                    LOGGER.info("writing file {}", filename);
-                    Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                    tempFile = null;
-                } else {
-                    LOGGER.info("skipping unchanged file {}", filename);
-                }
-            } finally {
-                if (tempFile != null && tempFile.exists()) {
-                    try {
-                        Files.delete(tempFile.toPath());
-                    } catch (Exception ex) {
-                        LOGGER.error("Error removing temporary file {}", tempFile, ex);
-                    }
-                }
+            if (contentEquals(outputFile, contents)) {
+                LOGGER.info("skipping unchanged file {}", filename);
+            } else {
+                LOGGER.info("writing file {}", filename);
+                writeAtomically(outputFile, contents);
             }
         } else {
             LOGGER.info("writing file {}", filename);
@@ -261,7 +301,56 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         return output;
     }
 
-    private boolean filesEqual(File file1, File file2) throws IOException {
-        return file1.exists() && file2.exists() && Arrays.equals(Files.readAllBytes(file1.toPath()), Files.readAllBytes(file2.toPath()));
+    /**
+     * Replaces a file with new contents, such that readers never observe a partially written file. The file keeps its
+     * permissions, and a new file gets the default permissions, as when it is written directly.
+     */
+    private void writeAtomically(File output, byte[] contents) throws IOException {
+        Path target = output.toPath().toAbsolutePath();
+        Path parent = target.getParent();
+        Files.createDirectories(parent);
+        // not Files.createTempFile, which restricts the file (and the target once moved) to its owner
+        Path tempFile = parent.resolve("." + target.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+        try {
+            Files.write(tempFile, contents, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            if (Files.exists(target) && Files.getFileStore(tempFile).supportsFileAttributeView(PosixFileAttributeView.class)) {
+                Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(target));
+            }
+            try {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ex) {
+                LOGGER.error("Error removing temporary file {}", tempFile, ex);
+            }
+        }
+    }
+
+    /**
+     * Compares a file against the given contents without reading the file into memory. Files of a different length are
+     * not read at all, otherwise the comparison stops at the first differing chunk.
+     */
+    private boolean contentEquals(File file, byte[] contents) throws IOException {
+        if (!file.isFile() || file.length() != contents.length) {
+            return false;
+        }
+
+        byte[] buffer = new byte[COMPARE_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            int offset = 0;
+            while (offset < contents.length) {
+                int read = in.read(buffer, 0, Math.min(buffer.length, contents.length - offset));
+                if (read < 0 || !Arrays.equals(buffer, 0, read, contents, offset, offset + read)) {
+                    return false;
+                }
+                offset += read;
+            }
+            // the file may have grown since its length was checked
+            return in.read() < 0;
+        }
     }
 }
@@ -20,12 +20,9 @@ package org.openapitools.codegen.config;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
-import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.parser.core.models.AuthorizationValue;
-import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -33,7 +30,6 @@ import org.apache.commons.lang3.Validate;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.api.TemplateDefinition;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
-import org.openapitools.codegen.auth.AuthParser;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,6 +78,8 @@ public class CodegenConfigurator {
     private Map<String, String> reservedWordsMappings = new HashMap<>();
     private Map<String, String> serverVariables = new HashMap<>();
     private String auth;
+    private ParsedSpecification parsedSpecification;
+    private ParsedSpecificationCache parsedSpecificationCache;
 
     private List<TemplateDefinition> userDefinedTemplates = new ArrayList<>();
 
@@ -346,17 +344,82 @@ public class CodegenConfigurator {
         return this;
     }
 
+    public String getAuth() {
+        return auth;
+    }
+
     public CodegenConfigurator setAuth(String auth) {
         // do not cache this in additional properties.
         this.auth = auth;
         return this;
     }
 
+    public ParsedSpecification getParsedSpecification() {
+        return parsedSpecification;
+    }
+
+    /**
+     * Shares a specification parsed once between several configurators (e.g. when generating a batch of configs for
+     * the same input spec). When set, {@link #toContext()} uses a copy of it instead of reading the input spec.
+     *
+     * @param parsedSpecification the parsed specification, or null to read the input spec
+     * @return this configurator
+     */
+    public CodegenConfigurator setParsedSpecification(ParsedSpecification parsedSpecification) {
+        this.parsedSpecification = parsedSpecification;
+        return this;
+    }
+
+    public ParsedSpecificationCache getParsedSpecificationCache() {
+        return parsedSpecificationCache;
+    }
+
+    /**
+     * Reads the input spec through a cache, which may be shared between configurators generating the same input specs
+     * repeatedly (e.g. in a long running service). A specification shared through
+     * {@link #setParsedSpecification(ParsedSpecification)} takes precedence.
+     *
+     * @param parsedSpecificationCache the cache, or null to read the input spec every time (the default)
+     * @return this configurator
+     */
+    public CodegenConfigurator setParsedSpecificationCache(ParsedSpecificationCache parsedSpecificationCache) {
+        this.parsedSpecificationCache = parsedSpecificationCache;
+        return this;
+    }
+
     public CodegenConfigurator setEnableMinimalUpdate(boolean enableMinimalUpdate) {
         workflowSettingsBuilder.withEnableMinimalUpdate(enableMinimalUpdate);
         return this;
     }
 
+    public CodegenConfigurator setRenderThreads(int renderThreads) {
+        workflowSettingsBuilder.withRenderThreads(renderThreads);
+        return this;
+    }
+
+    /**
+     * Experimental: processes schemas and operations on several threads, for generators supporting it (see
+     * {@link org.openapitools.codegen.CodegenConfig#supportsParallelProcessing()}). Other generators process them
+     * sequentially.
+     *
+     * @param processingThreads the number of threads, 1 to process sequentially
+     * @return this configurator
+     */
+    public CodegenConfigurator setProcessingThreads(int processingThreads) {
+        workflowSettingsBuilder.withProcessingThreads(processingThreads);
+        return this;
+    }
+
+    public CodegenConfigurator setEnableIncrementalGeneration(boolean enableIncrementalGeneration) {
+        workflowSettingsBuilder.withEnableIncrementalGeneration(enableIncrementalGeneration);
+        return this;
+    }
+
+    public CodegenConfigurator setPostProcessBatchSize(int postProcessBatchSize) {
+        workflowSettingsBuilder.withPostProcessBatchSize(postProcessBatchSize);
+        return this;
+    }
+
     public CodegenConfigurator setEnablePostProcessFile(boolean enablePostProcessFile) {
         workflowSettingsBuilder.withEnablePostProcessFile(enablePostProcessFile);
         return this;
@@ -488,6 +551,10 @@ public class CodegenConfigurator {
         return this;
     }
 
+    public String getInputSpec() {
+        return inputSpec;
+    }
+
     public CodegenConfigurator setInputSpec(String inputSpec) {
         this.inputSpec = inputSpec;
         workflowSettingsBuilder.withInputSpec(inputSpec);
@@ -680,10 +747,13 @@ public class CodegenConfigurator {
         ModelUtils.setGenerateAliasAsModel(workflowSettings.isGenerateAliasAsModel());
 
         // TODO: Support custom spec loader implementations (https://github.com/OpenAPITools/openapi-generator/issues/844)
-        final List<AuthorizationValue> authorizationValues = AuthParser.parse(this.auth);
-        ParseOptions options = new ParseOptions();
-        options.setResolve(true);
-        SwaggerParseResult result = new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+        SwaggerParseResult result = parsedSpecification != null
+                && inputSpec.equals(parsedSpecification.getInputSpec())
+                && Objects.equals(auth, parsedSpecification.getAuth())
+                ? parsedSpecification.copy()
+                : parsedSpecificationCache != null
+                ? parsedSpecificationCache.read(inputSpec, auth)
+                : ParsedSpecification.read(inputSpec, auth);
 
         // TODO: Move custom validations to a separate type as part of a "Workflow"
         Set<String> validationMessages = new HashSet<>(null != result.getMessages() ? result.getMessages() : new ArrayList<>());
@@ -762,6 +832,10 @@ public class CodegenConfigurator {
         config.setSkipOperationExample(workflowSettings.isSkipOperationExample());
         config.setEnablePostProcessFile(workflowSettings.isEnablePostProcessFile());
         config.setEnableMinimalUpdate(workflowSettings.isEnableMinimalUpdate());
+        config.setRenderThreads(workflowSettings.getRenderThreads());
+        config.setProcessingThreads(workflowSettings.getProcessingThreads());
+        config.setEnableIncrementalGeneration(workflowSettings.isEnableIncrementalGeneration());
+        config.setPostProcessBatchSize(workflowSettings.getPostProcessBatchSize());
         config.setStrictSpecBehavior(workflowSettings.isStrictSpecBehavior());
 
         TemplatingEngineAdapter templatingEngine = TemplatingEngineLoader.byIdentifier(workflowSettings.getTemplatingEngineName());
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.config;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.openapitools.codegen.auth.AuthParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A specification parsed once, from which independent copies are handed out to generators.
+ * <p>
+ * Generators modify the specification they process (e.g. through the normalizer and inline model resolver), so each
+ * generator needs its own copy. The input spec is read on the first call to {@link #copy()}, and copies are parsed
+ * from a serialized form of the resolved document, which is considerably cheaper than reading and resolving the input
+ * spec again (e.g. fetching its remote references). They are parsed by the same parser as the input spec, so their
+ * schemas have the same types (e.g. a schema without type stays untyped). Documents which cannot be copied reliably
+ * (currently OpenAPI 3.1 documents) are read again for each copy. Instances are safe to share between threads.
+ */
+public class ParsedSpecification {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParsedSpecification.class);
+
+    private final String inputSpec;
+    private final String auth;
+    private final Supplier<SwaggerParseResult> reader;
+
+    private boolean parsed;
+    private List<String> messages;
+    private byte[] serialized;
+    private SpecVersion specVersion;
+
+    /**
+     * @param inputSpec location of the input spec
+     * @param auth      authorization values used to fetch remote references, see {@link CodegenConfigurator#setAuth(String)}
+     */
+    public ParsedSpecification(String inputSpec, String auth) {
+        this(inputSpec, auth, () -> read(inputSpec, auth));
+    }
+
+    /**
+     * @param inputSpec location of the input spec, or a description of it used in log messages
+     * @param auth      authorization values used to fetch remote references
+     * @param reader    reads the input spec, called at most once unless the parsed document cannot be copied
+     */
+    ParsedSpecification(String inputSpec, String auth, Supplier<SwaggerParseResult> reader) {
+        this.inputSpec = inputSpec;
+        this.auth = auth;
+        this.reader = reader;
+    }
+
+    /**
+     * Reads and resolves an input spec.
+     *
+     * @param inputSpec location of the input spec
+     * @param auth      authorization values used to fetch remote references, see {@link CodegenConfigurator#setAuth(String)}
+     * @return the parse result
+     */
+    public static SwaggerParseResult read(String inputSpec, String auth) {
+        final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        return new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+    }
+
+    public String getInputSpec() {
+        return inputSpec;
+    }
+
+    public String getAuth() {
+        return auth;
+    }
+
+    /**
+     * Creates an independent copy of the parse result, including its messages. The first call reads the input spec.
+     *
+     * @return the copy
+     */
+    public SwaggerParseResult copy() {
+        SwaggerParseResult first = parse();
+        if (first != null) {
+            return first;
+        }
+        if (serialized == null) {
+            return reader.get();
+        }
+
+        // references to other documents were resolved when the input spec was read
+        SwaggerParseResult copy = new OpenAPIV3Parser().readContents(new String(serialized, StandardCharsets.UTF_8), null, new ParseOptions());
+        OpenAPI openAPI = copy == null ? null : copy.getOpenAPI();
+        if (openAPI == null) {
+            LOGGER.warn("Unable to copy the specification parsed from {}, reading it again", inputSpec);
+            return reader.get();
+        }
+        openAPI.setSpecVersion(specVersion);
+        SwaggerParseResult result = new SwaggerParseResult();
+        result.setOpenAPI(openAPI);
+        result.setMessages(messages == null ? null : new ArrayList<>(messages));
+        return result;
+    }
+
+    /**
+     * Reads the input spec if it has not been read yet.
+     *
+     * @return the parse result if the input spec was read by this call, otherwise null
+     */
+    private synchronized SwaggerParseResult parse() {
+        if (parsed) {
+            return null;
+        }
+        parsed = true;
+
+        SwaggerParseResult result = reader.get();
+        messages = result.getMessages() == null ? null : new ArrayList<>(result.getMessages());
+        OpenAPI openAPI = result.getOpenAPI();
+        if (openAPI != null && openAPI.getSpecVersion() == SpecVersion.V30) {
+            specVersion = openAPI.getSpecVersion();
+            try {
+                serialized = Json.mapper().writeValueAsBytes(openAPI);
+            } catch (IOException e) {
+                LOGGER.debug("Unable to serialize {}, it will be read for each copy: {}", inputSpec, e.getMessage());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import io.swagger.v3.parser.util.RemoteUrl;
+import org.openapitools.codegen.auth.AuthParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded cache of parsed and resolved specifications, keyed by a hash of the document, its location, the
+ * authorization values and the parse options.
+ * <p>
+ * Each read returns an independent copy (see {@link ParsedSpecification}), so callers may modify the result. Documents
+ * referencing other documents (any reference not starting with {@code #}) are not cached, as a change to a referenced
+ * document would go unnoticed. Documents read from a location are cached only if their contents can be fetched to
+ * compute the key, i.e. local files and http(s) URLs; the fetched contents are then parsed, so that the document is
+ * read once.
+ * <p>
+ * Nothing is cached unless a cache is created, e.g. by a service generating the same specifications into several
+ * languages (see {@link CodegenConfigurator#setParsedSpecificationCache(ParsedSpecificationCache)}). Each cache is
+ * bounded by its own size, and is safe to share between threads.
+ */
+public final class ParsedSpecificationCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParsedSpecificationCache.class);
+
+    // the value of a reference, quoted or not, in JSON or YAML
+    private static final Pattern REFERENCE = Pattern.compile("\\$ref[\"']?\\s*:\\s*[\"']?([^\"'\\s,}]*)");
+    // a reference within the document, i.e. a JSON pointer
+    private static final Pattern LOCAL_REFERENCE = Pattern.compile("#.*");
+
+    private final Cache<String, ParsedSpecification> cache;
+
+    /**
+     * @param maximumSize the number of documents to keep, the least recently used ones being evicted first
+     */
+    public ParsedSpecificationCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The size of the cache must be positive: " + maximumSize);
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Reads and resolves an input spec, like {@link ParsedSpecification#read(String, String)}.
+     *
+     * @param inputSpec location of the input spec
+     * @param auth      authorization values used to fetch remote references, see {@link CodegenConfigurator#setAuth(String)}
+     * @return the parse result
+     */
+    public SwaggerParseResult read(String inputSpec, String auth) {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        return readLocation(inputSpec, AuthParser.parse(auth), options);
+    }
+
+    /**
+     * Reads a document from a location, like {@link OpenAPIParser#readLocation(String, List, ParseOptions)}.
+     *
+     * @param location the location of the document, a file or URL
+     * @param auths    authorization values used to fetch the document, or null
+     * @param options  parse options, or null
+     * @return the parse result
+     */
+    public SwaggerParseResult readLocation(String location, List<AuthorizationValue> auths, ParseOptions options) {
+        String contents = fetch(location, auths);
+        if (contents == null || hasExternalReferences(contents)) {
+            // references are resolved relative to the location
+            return new OpenAPIParser().readLocation(location, auths, options);
+        }
+        return read("location", location, contents, auths, options,
+                () -> new OpenAPIParser().readContents(contents, auths, options));
+    }
+
+    /**
+     * Reads a document, like {@link OpenAPIParser#readContents(String, List, ParseOptions)}.
+     *
+     * @param contents the document
+     * @param auths    authorization values used to fetch references, or null
+     * @param options  parse options, or null
+     * @return the parse result
+     */
+    public SwaggerParseResult readContents(String contents, List<AuthorizationValue> auths, ParseOptions options) {
+        return read("contents", "<contents>", contents, auths, options,
+                () -> new OpenAPIParser().readContents(contents, auths, options));
+    }
+
+    private SwaggerParseResult read(String kind, String location, String contents,
+                                    List<AuthorizationValue> auths, ParseOptions options,
+                                    Supplier<SwaggerParseResult> reader) {
+        String key = contents == null || hasExternalReferences(contents)
+                ? null
+                : key(kind, location, contents, auths, options);
+        if (key == null) {
+            return reader.get();
+        }
+        return cache.get(key, k -> new ParsedSpecification(location, null, reader)).copy();
+    }
+
+    /**
+     * Removes all documents from the cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    CacheStats stats() {
+        return cache.stats();
+    }
+
+    static boolean hasExternalReferences(String contents) {
+        Matcher matcher = REFERENCE.matcher(contents);
+        while (matcher.find()) {
+            if (!LOCAL_REFERENCE.matcher(matcher.group(1)).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the contents of a local file or http(s) URL, or null if they cannot be fetched
+     */
+    private static String fetch(String location, List<AuthorizationValue> auths) {
+        try {
+            String lowerCase = location.toLowerCase(Locale.ROOT);
+            if (lowerCase.startsWith("http:") || lowerCase.startsWith("https:")) {
+                return RemoteUrl.urlToString(location, auths);
+            }
+            Path path = Paths.get(location);
+            if (Files.isRegularFile(path)) {
+                return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            }
+        } catch (Exception e) {
+            LOGGER.debug("Unable to fetch {}, it will not be cached: {}", location, e.getMessage());
+        }
+        return null;
+    }
+
+    private static String key(String kind, String location, String contents,
+                              List<AuthorizationValue> auths, ParseOptions options) {
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(kind, StandardCharsets.UTF_8).putByte((byte) 0)
+                .putString(location, StandardCharsets.UTF_8).putByte((byte) 0);
+        try {
+            hasher.putString(options == null ? "" : Json.mapper().writeValueAsString(options), StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            LOGGER.debug("Unable to serialize the parse options of {}, it will not be cached: {}", location, e.getMessage());
+            return null;
+        }
+        if (auths != null) {
+            for (AuthorizationValue auth : auths) {
+                hasher.putByte((byte) 0)
+                        .putString(String.valueOf(auth.getType()), StandardCharsets.UTF_8).putByte((byte) 0)
+                        .putString(String.valueOf(auth.getKeyName()), StandardCharsets.UTF_8).putByte((byte) 0)
+                        .putString(String.valueOf(auth.getValue()), StandardCharsets.UTF_8);
+            }
+        }
+        return hasher.putByte((byte) 0).putString(contents, StandardCharsets.UTF_8).hash().toString();
+    }
+}
@@ -17,14 +17,18 @@
 
 package org.openapitools.codegen.ignore;
 
+import org.openapitools.codegen.ignore.rules.CompiledRules;
 import org.openapitools.codegen.ignore.rules.DirectoryRule;
 import org.openapitools.codegen.ignore.rules.Rule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -40,9 +44,13 @@ public class CodegenIgnoreProcessor {
     private final Logger LOGGER = LoggerFactory.getLogger(CodegenIgnoreProcessor.class);
 
     private File ignoreFile = null;
+    // the directory of the ignore file, which the evaluated files are relative to
+    private URI baseDirectory = null;
 
     private List<Rule> exclusionRules = new ArrayList<>();
     private List<Rule> inclusionRules = new ArrayList<>();
+    private CompiledRules compiledExclusionRules = null;
+    private CompiledRules compiledInclusionRules = null;
 
     /**
      * Loads the default ignore file (.openapi-generator-ignore) from the specified path.
@@ -79,10 +87,32 @@ public class CodegenIgnoreProcessor {
         loadFromFile(targetIgnoreFile);
     }
 
+    /**
+     * Constructs an instance of {@link CodegenIgnoreProcessor} from the contents of an ignore file which may not exist on
+     * disk (e.g. one generated in memory). Files are evaluated relative to the location of {@code targetIgnoreFile}.
+     *
+     * @param targetIgnoreFile The ignore file location.
+     * @param contents         The contents of the ignore file.
+     */
+    public CodegenIgnoreProcessor(final File targetIgnoreFile, final String contents) {
+        try {
+            loadCodegenRules(new BufferedReader(new StringReader(contents)));
+            this.compiledExclusionRules = new CompiledRules(exclusionRules);
+            this.compiledInclusionRules = new CompiledRules(inclusionRules);
+            this.baseDirectory = targetIgnoreFile.getAbsoluteFile().getParentFile().toURI();
+            this.ignoreFile = targetIgnoreFile;
+        } catch (IOException e) {
+            LOGGER.error(String.format(Locale.ROOT, "Could not process %s.", targetIgnoreFile.getName()), e.getMessage());
+        }
+    }
+
     private void loadFromFile(File targetIgnoreFile) {
         if (targetIgnoreFile.exists() && targetIgnoreFile.isFile()) {
             try {
                 loadCodegenRules(targetIgnoreFile);
+                this.compiledExclusionRules = new CompiledRules(exclusionRules);
+                this.compiledInclusionRules = new CompiledRules(inclusionRules);
+                this.baseDirectory = targetIgnoreFile.getAbsoluteFile().getParentFile().toURI();
                 this.ignoreFile = targetIgnoreFile;
             } catch (IOException e) {
                 LOGGER.error(String.format(Locale.ROOT, "Could not process %s.", targetIgnoreFile.getName()), e.getMessage());
@@ -111,25 +141,29 @@ public class CodegenIgnoreProcessor {
         try (FileInputStream fileInputStream = new FileInputStream(codegenIgnore);
              InputStreamReader inputStreamReader = new InputStreamReader(fileInputStream, StandardCharsets.UTF_8);
              BufferedReader reader = new BufferedReader(inputStreamReader)) {
-            String line;
-
-            // NOTE: Comments that start with a : (e.g. //:) are pulled from git documentation for .gitignore
-            // see: https://github.com/git/git/blob/90f7b16b3adc78d4bbabbd426fb69aa78c714f71/Documentation/gitignore.txt
-            while ((line = reader.readLine()) != null) {
-                if (
-                    //: A blank line matches no files, so it can serve as a separator for readability.
-                        line.length() == 0
-                ) continue;
-
-                Rule rule = Rule.create(line);
-
-                // rule could be null here if it's a COMMENT, for example
-                if (rule != null) {
-                    if (Boolean.TRUE.equals(rule.getNegated())) {
-                        inclusionRules.add(rule);
-                    } else {
-                        exclusionRules.add(rule);
-                    }
+            loadCodegenRules(reader);
+        }
+    }
+
+    private void loadCodegenRules(final BufferedReader reader) throws IOException {
+        String line;
+
+        // NOTE: Comments that start with a : (e.g. //:) are pulled from git documentation for .gitignore
+        // see: https://github.com/git/git/blob/90f7b16b3adc78d4bbabbd426fb69aa78c714f71/Documentation/gitignore.txt
+        while ((line = reader.readLine()) != null) {
+            if (
+                //: A blank line matches no files, so it can serve as a separator for readability.
+                    line.length() == 0
+            ) continue;
+
+            Rule rule = Rule.create(line);
+
+            // rule could be null here if it's a COMMENT, for example
+            if (rule != null) {
+                if (Boolean.TRUE.equals(rule.getNegated())) {
+                    inclusionRules.add(rule);
+                } else {
+                    exclusionRules.add(rule);
                 }
             }
         }
@@ -145,17 +179,19 @@ public class CodegenIgnoreProcessor {
     public boolean allowsFile(final File targetFile) {
         if (this.ignoreFile == null) return true;
 
-        File file = new File(this.ignoreFile.getAbsoluteFile().getParentFile().toURI().relativize(targetFile.toURI()).getPath());
-        boolean directoryExcluded = false;
-        boolean exclude = false;
         if (exclusionRules.size() == 0 && inclusionRules.size() == 0) {
             return true;
         }
+        String relativePath = new File(this.baseDirectory.relativize(targetFile.toURI()).getPath()).getPath();
+        Path path = FileSystems.getDefault().getPath(relativePath);
+        boolean directoryExcluded = false;
+        boolean exclude = false;
 
-        // NOTE: We *must* process all exclusion rules
-        for (int i = 0; i < exclusionRules.size(); i++) {
-            Rule current = exclusionRules.get(i);
-            Rule.Operation op = current.evaluate(file.getPath());
+        // NOTE: We *must* process all exclusion rules, or at least all those which may match the file
+        List<Rule> exclusionCandidates = compiledExclusionRules.getCandidates(path);
+        for (int i = 0; i < exclusionCandidates.size(); i++) {
+            Rule current = exclusionCandidates.get(i);
+            Rule.Operation op = current.evaluate(relativePath, path);
 
             switch (op) {
                 case EXCLUDE:
@@ -172,16 +208,17 @@ public class CodegenIgnoreProcessor {
                 case NOOP:
                     break;
                 case EXCLUDE_AND_TERMINATE:
-                    i = exclusionRules.size();
+                    i = exclusionCandidates.size();
                     break;
             }
         }
 
         if (exclude) {
             // Only need to process inclusion rules if we've been excluded
-            for (int i = 0; exclude && i < inclusionRules.size(); i++) {
-                Rule current = inclusionRules.get(i);
-                Rule.Operation op = current.evaluate(file.getPath());
+            List<Rule> inclusionCandidates = compiledInclusionRules.getCandidates(path);
+            for (int i = 0; exclude && i < inclusionCandidates.size(); i++) {
+                Rule current = inclusionCandidates.get(i);
+                Rule.Operation op = current.evaluate(relativePath, path);
 
                 // At this point exclude=true means the file should be ignored.
                 // op == INCLUDE means we have to flip that flag.
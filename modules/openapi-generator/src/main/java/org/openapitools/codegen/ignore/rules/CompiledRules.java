@@ -0,0 +1,179 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.ignore.rules;
+
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The rules of an ignore file compiled for evaluation against the many files of a generation.
+ * <p>
+ * A glob only matches the paths starting with its literal prefix, so the rules matching with a glob are indexed in a
+ * tree of path segments by the literal directories (and file name) their pattern starts with, e.g. {@code docs/*.md}
+ * under {@code docs}. Only the rules found on the way to a file are candidates for it, the other rules being known not
+ * to match. The candidates of the files of a directory are memoized.
+ */
+public final class CompiledRules {
+    // the characters of a glob which are not matched literally
+    private static final String GLOB_CHARACTERS = "*?[]{}\\";
+    private static final boolean INDEXED = matchesLiterally(FileSystems.getDefault());
+
+    private final List<Rule> rules;
+    private final Node root = new Node();
+    private final Map<String, Candidates> directoryCandidates = new ConcurrentHashMap<>();
+
+    /**
+     * Compiles rules, which keep their order among the candidates of a path.
+     *
+     * @param rules The rules to compile.
+     */
+    public CompiledRules(List<Rule> rules) {
+        this.rules = new ArrayList<>(rules);
+        for (int i = 0; i < this.rules.size(); i++) {
+            Rule rule = this.rules.get(i);
+            if (rule instanceof InvalidRule) {
+                // never matches
+                continue;
+            }
+
+            Node node = root;
+            if (INDEXED && rule instanceof FileRule) {
+                for (String segment : getLiteralSegments(((FileRule) rule).getIndexGlob())) {
+                    node = node.children.computeIfAbsent(segment, s -> new Node());
+                }
+            }
+            node.ruleIndexes.add(i);
+        }
+    }
+
+    /**
+     * Gets the rules which may match a path, which are all the rules matching it.
+     *
+     * @param path The path relative to the ignore file, as a {@link Path} of the default file system.
+     * @return The candidate rules, in their original order.
+     */
+    public List<Rule> getCandidates(Path path) {
+        String pathString = path.toString();
+        int lastSeparator = pathString.lastIndexOf('/');
+        String directory = lastSeparator < 0 ? "" : pathString.substring(0, lastSeparator);
+        Candidates candidates = directoryCandidates.computeIfAbsent(directory, this::getDirectoryCandidates);
+
+        Node fileNode = candidates.node == null ? null : candidates.node.children.get(pathString.substring(lastSeparator + 1));
+        if (fileNode == null || fileNode.ruleIndexes.isEmpty()) {
+            return candidates.rules;
+        }
+        List<Integer> ruleIndexes = new ArrayList<>(candidates.ruleIndexes);
+        ruleIndexes.addAll(fileNode.ruleIndexes);
+        return toRules(ruleIndexes);
+    }
+
+    private Candidates getDirectoryCandidates(String directory) {
+        Node node = root;
+        List<Integer> ruleIndexes = new ArrayList<>(root.ruleIndexes);
+        if (!directory.isEmpty()) {
+            for (String segment : directory.split("/", -1)) {
+                node = node.children.get(segment);
+                if (node == null) {
+                    break;
+                }
+                ruleIndexes.addAll(node.ruleIndexes);
+            }
+        }
+        return new Candidates(node, ruleIndexes, toRules(ruleIndexes));
+    }
+
+    private List<Rule> toRules(List<Integer> ruleIndexes) {
+        Collections.sort(ruleIndexes);
+        List<Rule> result = new ArrayList<>(ruleIndexes.size());
+        for (Integer index : ruleIndexes) {
+            result.add(rules.get(index));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Gets the segments of a glob which are matched literally and entirely, e.g. {@code [docs, api]} for
+     * {@code docs/api/*.md} and {@code [docs, README.md]} for {@code docs/README.md}.
+     */
+    static List<String> getLiteralSegments(String glob) {
+        int end = 0;
+        while (end < glob.length() && isLiteral(glob.charAt(end))) {
+            end++;
+        }
+        List<String> segments = new ArrayList<>(Arrays.asList(glob.substring(0, end).split("/", -1)));
+        if (end < glob.length()) {
+            // the last segment is only the start of the one matched by the glob
+            segments.remove(segments.size() - 1);
+        }
+        return segments;
+    }
+
+    private static boolean isLiteral(char c) {
+        // non-ASCII characters may match their canonical equivalents
+        return c < 128 && GLOB_CHARACTERS.indexOf(c) < 0;
+    }
+
+    /**
+     * Determines whether the globs of a file system match the literal segments of a path as they are, which indexing
+     * relies on. It's not the case of Windows, whose globs match either separator and ignore case.
+     */
+    private static boolean matchesLiterally(FileSystem fileSystem) {
+        try {
+            if (!"/".equals(fileSystem.getSeparator()) || fileSystem.getPathMatcher("glob:a").matches(fileSystem.getPath("A"))) {
+                return false;
+            }
+            Path kelvinSign;
+            try {
+                // canonically equivalent to K
+                kelvinSign = fileSystem.getPath("\u212A");
+            } catch (InvalidPathException e) {
+                // the file system has no such paths
+                return true;
+            }
+            return !fileSystem.getPathMatcher("glob:K").matches(kelvinSign);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Integer> ruleIndexes = new ArrayList<>();
+    }
+
+    private static class Candidates {
+        // the node of the directory, null if no rule is indexed under it
+        private final Node node;
+        private final List<Integer> ruleIndexes;
+        private final List<Rule> rules;
+
+        private Candidates(Node node, List<Integer> ruleIndexes, List<Rule> rules) {
+            this.node = node;
+            this.ruleIndexes = ruleIndexes;
+            this.rules = rules;
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.openapitools.codegen.ignore.rules;
 
 import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.util.List;
 
@@ -25,6 +26,7 @@ public class DirectoryRule extends FileRule {
 
     private PathMatcher directoryMatcher = null;
     private PathMatcher contentsMatcher = null;
+    private String contentsGlob = null;
 
     DirectoryRule(List<Part> syntax, String definition) {
         super(syntax, definition);
@@ -36,10 +38,22 @@ public class DirectoryRule extends FileRule {
         directoryMatcher = FileSystems.getDefault().getPathMatcher(sb.toString());
         sb.append("**");
         contentsMatcher = FileSystems.getDefault().getPathMatcher(sb.toString());
+        contentsGlob = sb.substring("glob:".length());
+    }
+
+    @Override
+    String getIndexGlob() {
+        // the directory glob is the contents glob without its trailing wildcard, so its literal prefix is the longer
+        return contentsGlob;
     }
 
     @Override
     public Boolean matches(String relativePath) {
-        return contentsMatcher.matches(FileSystems.getDefault().getPath(relativePath)) || directoryMatcher.matches(FileSystems.getDefault().getPath(relativePath));
+        return matches(relativePath, FileSystems.getDefault().getPath(relativePath));
+    }
+
+    @Override
+    protected Boolean matches(String relativePath, Path path) {
+        return contentsMatcher.matches(path) || directoryMatcher.matches(path);
     }
 }
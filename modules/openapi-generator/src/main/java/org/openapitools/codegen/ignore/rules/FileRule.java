@@ -18,6 +18,7 @@
 package org.openapitools.codegen.ignore.rules;
 
 import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.util.List;
 
@@ -30,8 +31,22 @@ public class FileRule extends Rule {
         matcher = FileSystems.getDefault().getPathMatcher("glob:" + this.getPattern());
     }
 
+    /**
+     * Gets a glob which every path matched by the rule also matches, used to index the rule by its literal prefix.
+     *
+     * @return The glob, without the {@code glob:} syntax.
+     */
+    String getIndexGlob() {
+        return this.getPattern();
+    }
+
     @Override
     public Boolean matches(String relativePath) {
-        return matcher.matches(FileSystems.getDefault().getPath(relativePath));
+        return matches(relativePath, FileSystems.getDefault().getPath(relativePath));
+    }
+
+    @Override
+    protected Boolean matches(String relativePath, Path path) {
+        return matcher.matches(path);
     }
 }
@@ -19,6 +19,7 @@ package org.openapitools.codegen.ignore.rules;
 
 import lombok.Getter;
 
+import java.nio.file.Path;
 import java.util.List;
 
 @Getter
@@ -40,4 +41,9 @@ public class InvalidRule extends Rule {
         return Operation.NOOP;
     }
 
+    @Override
+    public Operation evaluate(String relativePath, Path path) {
+        return Operation.NOOP;
+    }
+
 }
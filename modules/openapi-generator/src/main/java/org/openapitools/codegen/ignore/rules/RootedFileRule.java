@@ -19,6 +19,7 @@ package org.openapitools.codegen.ignore.rules;
 
 import java.util.List;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * A special case rule which matches files only if they're located
@@ -27,6 +28,7 @@ import java.util.regex.Pattern;
 public class RootedFileRule extends Rule {
     private String definedFilename = null;
     private String definedExtension = null;
+    private Pattern filenameRegex = null;
 
     RootedFileRule(List<Part> syntax, String definition) {
         super(syntax, definition);
@@ -34,6 +36,24 @@ public class RootedFileRule extends Rule {
         int separatorIndex = definition.lastIndexOf(".");
         definedFilename = getFilenamePart(definition, separatorIndex);
         definedExtension = getExtensionPart(definition, separatorIndex);
+
+        if (definedFilename.contains(IgnoreLineParser.Token.MATCH_ANY.getPattern())) {
+            try {
+                filenameRegex = compileFilenameRegex();
+            } catch (PatternSyntaxException e) {
+                // reported when the rule is evaluated against a file in the root directory
+                filenameRegex = null;
+            }
+        }
+    }
+
+    private Pattern compileFilenameRegex() {
+        // TODO: Evaluate any other escape requirements here.
+        return Pattern.compile(
+                definedFilename
+                        .replaceAll(Pattern.quote("."), "\\\\Q.\\\\E")
+                        .replaceAll(Pattern.quote("*"), ".*?") // non-greedy match on 0+ any character
+        );
     }
 
     private String getFilenamePart(final String input, int stopIndex) {
@@ -58,12 +78,7 @@ public class RootedFileRule extends Rule {
             boolean extensionMatches = definedExtension.equals(extension) || definedExtension.equals(IgnoreLineParser.Token.MATCH_ANY.getPattern());
 
             if (extensionMatches && definedFilename.contains(IgnoreLineParser.Token.MATCH_ANY.getPattern())) {
-                // TODO: Evaluate any other escape requirements here.
-                Pattern regex = Pattern.compile(
-                        definedFilename
-                                .replaceAll(Pattern.quote("."), "\\\\Q.\\\\E")
-                                .replaceAll(Pattern.quote("*"), ".*?") // non-greedy match on 0+ any character
-                );
+                Pattern regex = filenameRegex != null ? filenameRegex : compileFilenameRegex();
                 return regex.matcher(filename).matches();
             }
 
@@ -19,6 +19,7 @@ package org.openapitools.codegen.ignore.rules;
 
 import lombok.Getter;
 
+import java.nio.file.Path;
 import java.util.List;
 
 public abstract class Rule {
@@ -37,6 +38,18 @@ public abstract class Rule {
 
     public abstract Boolean matches(String relativePath);
 
+    /**
+     * Determines whether the rule matches a path given both as a string and as a {@link Path} of the default file
+     * system. The rules matching with a glob use the {@link Path} rather than creating their own.
+     *
+     * @param relativePath The path relative to the ignore file.
+     * @param path         The same path, as a {@link Path} of the default file system.
+     * @return {@code true} if the rule matches the path.
+     */
+    protected Boolean matches(String relativePath, Path path) {
+        return matches(relativePath);
+    }
+
     protected String getPattern() {
         if (syntax == null) return this.definition;
 
@@ -74,7 +87,23 @@ public abstract class Rule {
     }
 
     public Operation evaluate(String relativePath) {
-        if (Boolean.TRUE.equals(matches(relativePath))) {
+        return toOperation(matches(relativePath));
+    }
+
+    /**
+     * Evaluates the rule against a path given both as a string and as a {@link Path} of the default file system, which
+     * saves creating the {@link Path} when evaluating many rules against the same file.
+     *
+     * @param relativePath The path relative to the ignore file.
+     * @param path         The same path, as a {@link Path} of the default file system.
+     * @return The operation to apply to the path.
+     */
+    public Operation evaluate(String relativePath, Path path) {
+        return toOperation(matches(relativePath, path));
+    }
+
+    private Operation toOperation(Boolean matches) {
+        if (Boolean.TRUE.equals(matches)) {
             if (Boolean.TRUE.equals(this.getNegated())) {
                 return this.getIncludeOperation();
             }
@@ -111,6 +111,12 @@ public class MarkdownDocumentationCodegen extends DefaultCodegen implements Code
         return name;
     }
 
+    @Override
+    public boolean supportsParallelProcessing() {
+        // only names and escapes differently from DefaultCodegen, without state
+        return true;
+    }
+
     @Override
     public GeneratorLanguage generatorLanguage() {
         return null;
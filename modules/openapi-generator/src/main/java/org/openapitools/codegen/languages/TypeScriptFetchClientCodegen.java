@@ -1103,7 +1103,7 @@ public class TypeScriptFetchClientCodegen extends AbstractTypeScriptClientCodege
             this.style = cp.style;
             this.nameInLowerCase = cp.nameInLowerCase;
             this.example = cp.example;
-            this.jsonSchema = cp.jsonSchema;
+            this.setLazyJsonSchema(cp.getLazyJsonSchema());
             this.isString = cp.isString;
             this.isNumeric = cp.isNumeric;
             this.isInteger = cp.isInteger;
@@ -1249,7 +1249,7 @@ public class TypeScriptFetchClientCodegen extends AbstractTypeScriptClientCodege
             this.minLength = cp.minLength;
             this.pattern = cp.pattern;
             this.example = cp.example;
-            this.jsonSchema = cp.jsonSchema;
+            this.setLazyJsonSchema(cp.getLazyJsonSchema());
             this.minimum = cp.minimum;
             this.maximum = cp.maximum;
             this.multipleOf = cp.multipleOf;
@@ -1355,8 +1355,8 @@ public class TypeScriptFetchClientCodegen extends AbstractTypeScriptClientCodege
     }
 
     public class ExtendedCodegenOperation extends CodegenOperation {
-        boolean hasReturnPassthroughVoid, returnTypeSupportsEntities, returnTypeIsModel, returnTypeIsArray;
-        String returnTypeAlternate, returnBaseTypeAlternate, returnPassthrough;
+        public boolean hasReturnPassthroughVoid, returnTypeSupportsEntities, returnTypeIsModel, returnTypeIsArray;
+        public String returnTypeAlternate, returnBaseTypeAlternate, returnPassthrough;
 
         public ExtendedCodegenOperation(CodegenOperation o) {
             super();
@@ -1504,7 +1504,7 @@ public class TypeScriptFetchClientCodegen extends AbstractTypeScriptClientCodege
             this.title = cm.title;
             this.description = cm.description;
             this.classVarName = cm.classVarName;
-            this.modelJson = cm.modelJson;
+            this.setLazyModelJson(cm.getLazyModelJson());
             this.dataType = cm.dataType;
             this.xmlPrefix = cm.xmlPrefix;
             this.xmlNamespace = cm.xmlNamespace;
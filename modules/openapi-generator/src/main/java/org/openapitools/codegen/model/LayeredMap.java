@@ -0,0 +1,63 @@
+package org.openapitools.codegen.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A map of template data which reads through to a shared layer for the keys it does not contain itself.
+ * <p>
+ * The files rendered from the same properties (e.g. the additional properties of the generator) share one read-only
+ * layer instead of each holding a copy of it. Lookups ({@link #get}, {@link #getOrDefault} and {@link #containsKey})
+ * fall back to the layer, which is how both template engines resolve names; {@link #size} and iterating the map only
+ * cover its own entries.
+ */
+public class LayeredMap extends HashMap<String, Object> {
+
+    private Map<String, Object> sharedLayer = Collections.emptyMap();
+
+    public Map<String, Object> getSharedLayer() {
+        return sharedLayer;
+    }
+
+    /**
+     * Sets the shared layer. The entries of this map which the layer also contains are removed, so the layer takes
+     * precedence over the entries put before it, as if it had been copied into this map.
+     *
+     * @param sharedLayer the layer, which is not copied
+     */
+    public void setSharedLayer(Map<String, Object> sharedLayer) {
+        keySet().removeIf(sharedLayer::containsKey);
+        this.sharedLayer = sharedLayer;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = super.get(key);
+        if (value != null || super.containsKey(key)) {
+            return value;
+        }
+        return sharedLayer.get(key);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        if (super.containsKey(key)) {
+            return super.get(key);
+        }
+        return sharedLayer.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return super.containsKey(key) || sharedLayer.containsKey(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        super.putAll(m);
+        if (m instanceof LayeredMap && sharedLayer.isEmpty()) {
+            sharedLayer = ((LayeredMap) m).sharedLayer;
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package org.openapitools.codegen.model;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class ModelsMap extends HashMap<String, Object> {
+public class ModelsMap extends LayeredMap {
 
     public ModelsMap() {
     }
@@ -1,10 +1,9 @@
 package org.openapitools.codegen.model;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class OperationsMap extends HashMap<String, Object> {
+public class OperationsMap extends LayeredMap {
 
     public void setOperation(OperationMap objs) {
         put("operations", objs);
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.api.TemplatingExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds compiled templates (and, by extension, the partials they reference) for a single generation run.
+ * <p>
+ * Entries are keyed by the resolved template path and are scoped to the {@link TemplatingExecutor} which resolved them.
+ * A new run creates a new executor (and with it, possibly a different template directory), so presenting a different
+ * executor clears the cache before it is used.
+ *
+ * @param <T> The engine-specific compiled template type
+ */
+public class CompiledTemplateCache<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledTemplateCache.class);
+
+    private final Map<String, T> templates = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile TemplatingExecutor owner;
+
+    /**
+     * Compiles a template into the engine-specific representation.
+     *
+     * @param <T> The engine-specific compiled template type
+     */
+    @FunctionalInterface
+    public interface TemplateCompiler<T> {
+        T compile(String templateFile) throws IOException;
+    }
+
+    /**
+     * Returns the compiled template for {@code templateFile}, compiling it on first access.
+     *
+     * @param executor     The executor used to resolve the template location
+     * @param templateFile The name of the template (e.g. model.mustache)
+     * @param compiler     Compiles the template when it is not yet cached
+     * @return The compiled template
+     * @throws IOException an error occurred while compiling the template
+     */
+    public T get(TemplatingExecutor executor, String templateFile, TemplateCompiler<T> compiler) throws IOException {
+        bind(executor);
+        String key = resolveKey(executor, templateFile);
+        T template = templates.get(key);
+        if (template != null) {
+            hits.incrementAndGet();
+            return template;
+        }
+
+        misses.incrementAndGet();
+        template = compiler.compile(templateFile);
+        T existing = templates.putIfAbsent(key, template);
+        return existing != null ? existing : template;
+    }
+
+    /**
+     * Associates this cache with an executor, discarding all entries compiled for any previous executor.
+     *
+     * @param executor The executor resolving templates for the current run
+     * @return true if the cache was reset, false if it was already bound to this executor
+     */
+    public boolean bind(TemplatingExecutor executor) {
+        if (owner == executor) {
+            return false;
+        }
+        synchronized (this) {
+            if (owner == executor) {
+                return false;
+            }
+            if (owner != null) {
+                LOGGER.debug("Discarding compiled templates of previous run: {}", this);
+            }
+            templates.clear();
+            owner = executor;
+            return true;
+        }
+    }
+
+    /**
+     * Discards all compiled templates, e.g. after a change to the engine configuration.
+     */
+    public synchronized void clear() {
+        templates.clear();
+        owner = null;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "CompiledTemplateCache{size=%d, hits=%d, misses=%d}", size(), getHits(), getMisses());
+    }
+
+    private static String resolveKey(TemplatingExecutor executor, String templateFile) {
+        Path resolved = null;
+        try {
+            resolved = executor.getFullTemplatePath(templateFile);
+        } catch (TemplateNotFoundException ignored) {
+            // e.g. handlebars templates inferred from a .mustache name; the name is stable within one executor
+        }
+        return resolved == null ? templateFile : resolved.toString();
+    }
+}
@@ -20,6 +20,7 @@ import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Jackson2Helper;
 import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.cache.ConcurrentMapTemplateCache;
 import com.github.jknack.handlebars.context.JavaBeanValueResolver;
 import com.github.jknack.handlebars.context.MapValueResolver;
 import com.github.jknack.handlebars.context.MethodValueResolver;
@@ -29,7 +30,7 @@ import com.github.jknack.handlebars.io.AbstractTemplateLoader;
 import com.github.jknack.handlebars.io.StringTemplateSource;
 import com.github.jknack.handlebars.io.TemplateLoader;
 import com.github.jknack.handlebars.io.TemplateSource;
-import lombok.Setter;
+import lombok.Getter;
 import org.openapitools.codegen.api.AbstractTemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingExecutor;
 import org.openapitools.codegen.templating.handlebars.AccessAwareFieldValueResolver;
@@ -40,6 +41,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     final Logger LOGGER = LoggerFactory.getLogger(HandlebarsEngineAdapter.class);
@@ -48,7 +50,15 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     // We use this as a simple lookup for valid file name extensions. This adapter will inspect .mustache (built-in) and infer the relevant handlebars filename
     private final String[] canCompileFromExtensions = {".handlebars", ".hbs", ".mustache"};
     private boolean infiniteLoops = false;
-    @Setter private boolean prettyPrint = false;
+    private boolean prettyPrint = false;
+
+    /**
+     * Compiled templates of the current run, keyed by resolved template path.
+     */
+    @Getter
+    private final CompiledTemplateCache<Template> templateCache = new CompiledTemplateCache<>();
+    private Handlebars handlebars;
+    private TemplatingExecutor handlebarsExecutor;
 
     /**
      * Provides an identifier used to load the adapter. This could be a name, uuid, or any other string.
@@ -63,13 +73,6 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     @Override
     public String compileTemplate(TemplatingExecutor executor,
                                   Map<String, Object> bundle, String templateFile) throws IOException {
-        TemplateLoader loader = new AbstractTemplateLoader() {
-            @Override
-            public TemplateSource sourceAt(String location) {
-                return findTemplate(executor, location);
-            }
-        };
-
         Context context = Context
                 .newBuilder(bundle)
                 .resolver(
@@ -79,19 +82,43 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
                         AccessAwareFieldValueResolver.INSTANCE)
                 .build();
 
-        Handlebars handlebars = new Handlebars(loader);
-        handlebars.registerHelperMissing((obj, options) -> {
+        Template tmpl = templateCache.get(executor, templateFile, name -> getHandlebars(executor).compile(name));
+        return tmpl.apply(context);
+    }
+
+    /**
+     * Returns the {@link Handlebars} instance for the executor of the current run, creating it (and registering all
+     * helpers) only when the executor changes. Template sources and parsed partials are cached by this instance.
+     */
+    private synchronized Handlebars getHandlebars(TemplatingExecutor executor) {
+        if (handlebars != null && handlebarsExecutor == executor) {
+            return handlebars;
+        }
+
+        Map<String, TemplateSource> sources = new ConcurrentHashMap<>();
+        TemplateLoader loader = new AbstractTemplateLoader() {
+            @Override
+            public TemplateSource sourceAt(String location) {
+                return sources.computeIfAbsent(location, l -> findTemplate(executor, l));
+            }
+        };
+
+        Handlebars hb = new Handlebars(loader);
+        hb.registerHelperMissing((obj, options) -> {
             LOGGER.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:%n%s", options.helperName, options.fn.text()));
             return "";
         });
-        handlebars.registerHelper("json", Jackson2Helper.INSTANCE);
-        StringHelpers.register(handlebars);
-        handlebars.registerHelpers(ConditionalHelpers.class);
-        handlebars.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
-        handlebars.setInfiniteLoops(infiniteLoops);
-        handlebars.setPrettyPrint(prettyPrint);
-        Template tmpl = handlebars.compile(templateFile);
-        return tmpl.apply(context);
+        hb.registerHelper("json", Jackson2Helper.INSTANCE);
+        StringHelpers.register(hb);
+        hb.registerHelpers(ConditionalHelpers.class);
+        hb.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
+        hb.setInfiniteLoops(infiniteLoops);
+        hb.setPrettyPrint(prettyPrint);
+        hb.with(new ConcurrentMapTemplateCache());
+
+        handlebars = hb;
+        handlebarsExecutor = executor;
+        return hb;
     }
 
     @SuppressWarnings("java:S108")
@@ -138,8 +165,25 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
      */
     public HandlebarsEngineAdapter infiniteLoops(boolean infiniteLoops) {
         this.infiniteLoops = infiniteLoops;
+        invalidate();
         return this;
     }
 
+    /**
+     * Enable/disable prettyPrint setting for the Handlebars engine.
+     *
+     * @param prettyPrint Whether to enable (true) or disable (false)
+     */
+    public void setPrettyPrint(boolean prettyPrint) {
+        this.prettyPrint = prettyPrint;
+        invalidate();
+    }
+
+    private synchronized void invalidate() {
+        handlebars = null;
+        handlebarsExecutor = null;
+        templateCache.clear();
+    }
+
 }
 
@@ -19,7 +19,6 @@ package org.openapitools.codegen.templating;
 import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Template;
 import lombok.Getter;
-import lombok.Setter;
 import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingExecutor;
@@ -48,9 +47,26 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
     }
 
     private final String[] extensions = {"mustache"};
-    @Getter @Setter
+    @Getter
     Mustache.Compiler compiler = Mustache.compiler();
 
+    /**
+     * Compiled templates of the current run, keyed by resolved template path. Partials are loaded lazily by each
+     * compiled {@link Template} and are therefore cached along with the template which includes them.
+     */
+    @Getter
+    private final CompiledTemplateCache<Template> templateCache = new CompiledTemplateCache<>();
+
+    /**
+     * Sets the compiler used for subsequent compilations, discarding all templates compiled by the previous one.
+     *
+     * @param compiler The mustache compiler
+     */
+    public void setCompiler(Mustache.Compiler compiler) {
+        this.compiler = compiler;
+        this.templateCache.clear();
+    }
+
     /**
      * Compiles a template into a string
      *
@@ -62,10 +78,10 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
      */
     @Override
     public String compileTemplate(TemplatingExecutor executor, Map<String, Object> bundle, String templateFile) throws IOException {
-        Template tmpl = compiler
-                .withLoader(name -> findTemplate(executor, name))
+        Template tmpl = templateCache.get(executor, templateFile, name -> compiler
+                .withLoader(partial -> findTemplate(executor, partial))
                 .defaultValue("")
-                .compile(executor.getFullTemplateContents(templateFile));
+                .compile(executor.getFullTemplateContents(name)));
         StringWriter out = new StringWriter();
 
         // the value of bundle[MUSTACHE_PARENT_CONTEXT] is used a parent content in mustache.
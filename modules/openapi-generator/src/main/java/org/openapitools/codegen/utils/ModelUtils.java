@@ -54,6 +54,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.openapitools.codegen.utils.OnceLogger.once;
@@ -132,26 +133,10 @@ public class ModelUtils {
      *
      * @param openAPI specification
      * @return schemas a list of used schemas
+     * @see SchemaUsageIndex#getUsedSchemas()
      */
     public static List<String> getAllUsedSchemas(OpenAPI openAPI) {
-        Map<String, List<String>> childrenMap = getChildrenMap(openAPI);
-        List<String> allUsedSchemas = new ArrayList<String>();
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if (!allUsedSchemas.contains(ref)) {
-                    allUsedSchemas.add(ref);
-                }
-                if (childrenMap.containsKey(ref)) {
-                    for (String child : childrenMap.get(ref)) {
-                        if (!allUsedSchemas.contains(child)) {
-                            allUsedSchemas.add(child);
-                        }
-                    }
-                }
-            }
-        });
-        return allUsedSchemas;
+        return new ArrayList<>(SchemaUsageIndex.of(openAPI).getUsedSchemas());
     }
 
     /**
@@ -159,37 +144,10 @@ public class ModelUtils {
      *
      * @param openAPI specification
      * @return schemas a list of unused schemas
+     * @see SchemaUsageIndex#getUnusedSchemas()
      */
     public static List<String> getUnusedSchemas(OpenAPI openAPI) {
-        final Map<String, List<String>> childrenMap;
-        Map<String, List<String>> tmpChildrenMap;
-        try {
-            tmpChildrenMap = getChildrenMap(openAPI);
-        } catch (NullPointerException npe) {
-            // in rare cases, such as a spec document with only one top-level oneOf schema and multiple referenced schemas,
-            // the stream used in getChildrenMap will raise an NPE. Rather than modify getChildrenMap which is used by getAllUsedSchemas,
-            // we'll catch here as a workaround for this edge case.
-            tmpChildrenMap = new HashMap<>();
-        }
-
-        childrenMap = tmpChildrenMap;
-        List<String> unusedSchemas = new ArrayList<String>();
-
-        if (openAPI != null) {
-            Map<String, Schema> schemas = getSchemas(openAPI);
-            unusedSchemas.addAll(schemas.keySet());
-
-            visitOpenAPI(openAPI, (s, t) -> {
-                if (s.get$ref() != null) {
-                    String ref = getSimpleRef(s.get$ref());
-                    unusedSchemas.remove(ref);
-                    if (childrenMap.containsKey(ref)) {
-                        unusedSchemas.removeAll(childrenMap.get(ref));
-                    }
-                }
-            });
-        }
-        return unusedSchemas;
+        return new ArrayList<>(SchemaUsageIndex.of(openAPI).getUnusedSchemas());
     }
 
     /**
@@ -197,37 +155,22 @@ public class ModelUtils {
      *
      * @param openAPI specification
      * @return schemas a list of schemas
+     * @see SchemaUsageIndex#getSchemasUsedOnlyInFormParam()
      */
     public static List<String> getSchemasUsedOnlyInFormParam(OpenAPI openAPI) {
-        List<String> schemasUsedInFormParam = new ArrayList<String>();
-        List<String> schemasUsedInOtherCases = new ArrayList<String>();
-
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s != null && s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if ("application/x-www-form-urlencoded".equalsIgnoreCase(t) ||
-                        "multipart/form-data".equalsIgnoreCase(t)) {
-                    schemasUsedInFormParam.add(ref);
-                } else {
-                    schemasUsedInOtherCases.add(ref);
-                }
-            }
-        });
-        return schemasUsedInFormParam.stream().filter(n -> !schemasUsedInOtherCases.contains(n)).collect(Collectors.toList());
+        return new ArrayList<>(SchemaUsageIndex.of(openAPI).getSchemasUsedOnlyInFormParam());
     }
 
     /**
-     * Private method used by several methods ({@link #getAllUsedSchemas(OpenAPI)},
-     * {@link #getUnusedSchemas(OpenAPI)},
-     * {@link #getSchemasUsedOnlyInFormParam(OpenAPI)}, ...) to traverse all paths of an
+     * Method used by {@link SchemaUsageIndex} to traverse all paths of an
      * OpenAPI instance and call the visitor functional interface when a schema is found.
      *
      * @param openAPI specification
      * @param visitor functional interface (can be defined as a lambda) called each time a schema is found.
      */
-    private static void visitOpenAPI(OpenAPI openAPI, OpenAPISchemaVisitor visitor) {
+    static void visitOpenAPI(OpenAPI openAPI, OpenAPISchemaVisitor visitor) {
         Map<String, PathItem> paths = openAPI.getPaths();
-        List<String> visitedSchemas = new ArrayList<>();
+        Set<String> visitedSchemas = new HashSet<>();
 
         if (paths != null) {
             for (PathItem path : paths.values()) {
@@ -236,10 +179,11 @@ public class ModelUtils {
         }
     }
 
-    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
+    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, Set<String> visitedSchemas) {
         List<Operation> allOperations = pathItem.readOperations();
         if (allOperations != null) {
             for (Operation operation : allOperations) {
+                visitor.enterOperation(operation);
                 //Params:
                 visitParameters(openAPI, operation.getParameters(), visitor, visitedSchemas);
 
@@ -279,6 +223,7 @@ public class ModelUtils {
                         }
                     }
                 }
+                visitor.exitOperation(operation);
             }
         }
         //Params:
@@ -286,7 +231,7 @@ public class ModelUtils {
     }
 
     private static void visitParameters(OpenAPI openAPI, List<Parameter> parameters, OpenAPISchemaVisitor visitor,
-                                        List<String> visitedSchemas) {
+                                        Set<String> visitedSchemas) {
         if (parameters != null) {
             for (Parameter p : parameters) {
                 Parameter parameter = getReferencedParameter(openAPI, p);
@@ -302,7 +247,7 @@ public class ModelUtils {
         }
     }
 
-    private static void visitContent(OpenAPI openAPI, Content content, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
+    private static void visitContent(OpenAPI openAPI, Content content, OpenAPISchemaVisitor visitor, Set<String> visitedSchemas) {
         if (content != null) {
             for (Entry<String, MediaType> e : content.entrySet()) {
                 if (e.getValue().getSchema() != null) {
@@ -321,10 +266,10 @@ public class ModelUtils {
      * @param openAPI        the OpenAPI document that contains schema objects.
      * @param schema         the root schema object to be visited.
      * @param mimeType       the mime type. TODO: does not seem to be used in a meaningful way.
-     * @param visitedSchemas the list of referenced schemas that have been visited.
+     * @param visitedSchemas the names of referenced schemas that have been visited.
      * @param visitor        the visitor function which is invoked for every visited schema.
      */
-    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, List<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
+    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, Set<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
         if (schema == null) {
             return;
         }
@@ -332,8 +277,7 @@ public class ModelUtils {
         visitor.visit(schema, mimeType);
         if (schema.get$ref() != null) {
             String ref = getSimpleRef(schema.get$ref());
-            if (!visitedSchemas.contains(ref)) {
-                visitedSchemas.add(ref);
+            if (visitedSchemas.add(ref)) {
                 Schema referencedSchema = getSchemas(openAPI).get(ref);
                 if (referencedSchema != null) {
                     visitSchema(openAPI, referencedSchema, mimeType, visitedSchemas, visitor);
@@ -1070,15 +1014,26 @@ public class ModelUtils {
      */
     public static List<Schema> getAllSchemas(OpenAPI openAPI) {
         List<Schema> allSchemas = new ArrayList<Schema>();
-        List<String> refSchemas = new ArrayList<String>();
+        forEachSchema(openAPI, allSchemas::add);
+        return allSchemas;
+    }
+
+    /**
+     * Invokes the consumer for all schemas in the 'components/schemas' section of an openAPI specification,
+     * including inlined schemas and children of composed schemas, in the order of {@link #getAllSchemas(OpenAPI)}.
+     *
+     * @param openAPI  OpenAPI document
+     * @param consumer called each time a schema is found
+     */
+    public static void forEachSchema(OpenAPI openAPI, Consumer<Schema> consumer) {
+        Set<String> refSchemas = new HashSet<>();
         getSchemas(openAPI).forEach((key, schema) -> {
             // Invoke visitSchema to recursively visit all schema objects, included inlined and composed schemas.
             // Use the OpenAPISchemaVisitor visitor function
             visitSchema(openAPI, schema, null, refSchemas, (s, mimetype) -> {
-                allSchemas.add(s);
+                consumer.accept(s);
             });
         });
-        return allSchemas;
     }
 
     /**
@@ -2313,9 +2268,21 @@ public class ModelUtils {
     }
 
     @FunctionalInterface
-    private interface OpenAPISchemaVisitor {
+    interface OpenAPISchemaVisitor {
 
         void visit(Schema schema, String mimeType);
+
+        /**
+         * Invoked before the schemas of an operation (including its callbacks) are visited.
+         */
+        default void enterOperation(Operation operation) {
+        }
+
+        /**
+         * Invoked after the schemas of an operation (including its callbacks) were visited.
+         */
+        default void exitOperation(Operation operation) {
+        }
     }
 
     private static final class SchemaValidations {
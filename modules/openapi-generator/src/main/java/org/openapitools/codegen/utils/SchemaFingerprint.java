@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+/**
+ * A 128-bit fingerprint of the structure of a schema, i.e. of its JSON serialization with the fields of each object
+ * sorted by name. Structurally equal schemas have equal fingerprints.
+ * <p>
+ * The serialization is hashed (with SHA-256, truncated to 128 bits) as it is written, so fingerprinting a schema does
+ * not build its serialized form in memory, and a fingerprint is much smaller than the serialization it stands for.
+ * Fingerprints reflect the schema at the time they are computed.
+ */
+public final class SchemaFingerprint {
+    // sorts bean properties so that the serialization does not depend on the declaration order of fields
+    private static final ObjectMapper STRUCTURE_MAPPER = Json.mapper().copy()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+
+    private final long high;
+    private final long low;
+
+    private SchemaFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Computes the fingerprint of a schema.
+     *
+     * @param schema the schema
+     * @return the fingerprint
+     * @throws IOException if the schema cannot be serialized
+     */
+    public static SchemaFingerprint of(Schema schema) throws IOException {
+        Hasher hasher = Hashing.sha256().newHasher();
+        try (OutputStream out = Funnels.asOutputStream(hasher)) {
+            STRUCTURE_MAPPER.writeValue(out, schema);
+        }
+        ByteBuffer hash = ByteBuffer.wrap(hasher.hash().asBytes());
+        return new SchemaFingerprint(hash.getLong(), hash.getLong());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SchemaFingerprint that = (SchemaFingerprint) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high) * 31 + Long.hashCode(low);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%016x%016x", high, low);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.*;
+
+/**
+ * Records which schemas in the 'components/schemas' section are referenced from the paths of an OpenAPI document,
+ * along with the mime types and operations referencing them and the children of each schema.
+ * <p>
+ * The index is built in a single traversal of the document, after which all queries are constant-time lookups. It
+ * reflects the document at the time it is built, so it must be rebuilt after the document is modified.
+ */
+public class SchemaUsageIndex {
+    private static final String FORM_URLENCODED = "application/x-www-form-urlencoded";
+    private static final String MULTIPART_FORM_DATA = "multipart/form-data";
+
+    // referenced schema name -> mime types of all references, in order of first reference
+    private final Map<String, Set<String>> mimeTypes = new LinkedHashMap<>();
+    // referenced schema name -> operations referencing it
+    private final Map<String, Set<Operation>> operations = new HashMap<>();
+    private final Map<String, List<String>> children;
+    private final Set<String> usedSchemas = new LinkedHashSet<>();
+    private final List<String> unusedSchemas = new ArrayList<>();
+    private final Set<String> schemasUsedOnlyInFormParam = new LinkedHashSet<>();
+
+    private SchemaUsageIndex(OpenAPI openAPI) {
+        Map<String, List<String>> childrenMap;
+        try {
+            childrenMap = ModelUtils.getChildrenMap(openAPI);
+        } catch (NullPointerException npe) {
+            // in rare cases, such as a spec document with only one top-level oneOf schema and multiple referenced schemas,
+            // the stream used in getChildrenMap will raise an NPE. Treat such documents as having no children.
+            childrenMap = new HashMap<>();
+        }
+        this.children = childrenMap;
+
+        if (openAPI == null) {
+            return;
+        }
+
+        Deque<Operation> currentOperations = new ArrayDeque<>();
+        ModelUtils.visitOpenAPI(openAPI, new ModelUtils.OpenAPISchemaVisitor() {
+            @Override
+            public void visit(Schema schema, String mimeType) {
+                if (schema != null && schema.get$ref() != null) {
+                    String ref = ModelUtils.getSimpleRef(schema.get$ref());
+                    mimeTypes.computeIfAbsent(ref, k -> new LinkedHashSet<>()).add(mimeType);
+                    Operation operation = currentOperations.peek();
+                    if (operation != null) {
+                        operations.computeIfAbsent(ref, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(operation);
+                    }
+                }
+            }
+
+            @Override
+            public void enterOperation(Operation operation) {
+                currentOperations.push(operation);
+            }
+
+            @Override
+            public void exitOperation(Operation operation) {
+                currentOperations.pop();
+            }
+        });
+
+        mimeTypes.forEach((ref, types) -> {
+            usedSchemas.add(ref);
+            usedSchemas.addAll(children.getOrDefault(ref, Collections.emptyList()));
+            if (types.stream().allMatch(SchemaUsageIndex::isFormMimeType)) {
+                schemasUsedOnlyInFormParam.add(ref);
+            }
+        });
+
+        for (String name : ModelUtils.getSchemas(openAPI).keySet()) {
+            if (!usedSchemas.contains(name)) {
+                unusedSchemas.add(name);
+            }
+        }
+    }
+
+    /**
+     * Builds the index of an OpenAPI document.
+     *
+     * @param openAPI specification
+     * @return the index
+     */
+    public static SchemaUsageIndex of(OpenAPI openAPI) {
+        return new SchemaUsageIndex(openAPI);
+    }
+
+    private static boolean isFormMimeType(String mimeType) {
+        return FORM_URLENCODED.equalsIgnoreCase(mimeType) || MULTIPART_FORM_DATA.equalsIgnoreCase(mimeType);
+    }
+
+    /**
+     * Return all schemas referenced from the paths of the document, directly or through other schemas, including the
+     * children of referenced schemas.
+     *
+     * @return the used schemas, in order of first reference
+     */
+    public Set<String> getUsedSchemas() {
+        return Collections.unmodifiableSet(usedSchemas);
+    }
+
+    /**
+     * Return the schemas in the 'components/schemas' section which are not used, see {@link #getUsedSchemas()}.
+     *
+     * @return the unused schemas, in the order they are declared
+     */
+    public List<String> getUnusedSchemas() {
+        return Collections.unmodifiableList(unusedSchemas);
+    }
+
+    /**
+     * Return the schemas only referenced in a 'application/x-www-form-urlencoded' or 'multipart/form-data' mime type.
+     *
+     * @return the schemas, in order of first reference
+     */
+    public Set<String> getSchemasUsedOnlyInFormParam() {
+        return Collections.unmodifiableSet(schemasUsedOnlyInFormParam);
+    }
+
+    /**
+     * @param name the name of a schema
+     * @return true if the schema is used, see {@link #getUsedSchemas()}
+     */
+    public boolean isUsed(String name) {
+        return usedSchemas.contains(name);
+    }
+
+    /**
+     * Return the mime types of all references to a schema. A reference outside a content (e.g. in a parameter schema
+     * or a property) has no mime type, and is represented by null.
+     *
+     * @param name the name of a schema
+     * @return the mime types, empty if the schema is not referenced
+     */
+    public Set<String> getMimeTypes(String name) {
+        return Collections.unmodifiableSet(mimeTypes.getOrDefault(name, Collections.emptySet()));
+    }
+
+    /**
+     * Return the operations referencing a schema. Schemas which are only reached through another schema are
+     * attributed to the first operation referencing that schema, as each schema is traversed once.
+     *
+     * @param name the name of a schema
+     * @return the operations, empty if the schema is not referenced by an operation
+     */
+    public Set<Operation> getOperations(String name) {
+        return Collections.unmodifiableSet(operations.getOrDefault(name, Collections.emptySet()));
+    }
+
+    /**
+     * @param name the name of a schema
+     * @return the names of the schemas inheriting from the schema, see {@link ModelUtils#getChildrenMap(OpenAPI)}
+     */
+    public List<String> getChildren(String name) {
+        return Collections.unmodifiableList(children.getOrDefault(name, Collections.emptyList()));
+    }
+}
@@ -2,8 +2,8 @@ package org.openapitools.codegen.validations.oas;
 
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
-import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.tags.Tag;
@@ -11,12 +11,19 @@ import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.validation.*;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 /**
  * A validator which evaluates an OpenAPI 3.x specification document
  */
 public class OpenApiEvaluator implements Validator<OpenAPI> {
     private RuleConfiguration ruleConfiguration;
+    private int threads = 1;
+    private int errorLimit = 0;
 
     /**
      * Constructs a new instance of {@link OpenApiEvaluator} with applied rules.
@@ -27,6 +34,44 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
         this.ruleConfiguration = ruleConfiguration;
     }
 
+    /**
+     * Gets the number of threads evaluating the schemas, operations, security schemes and parameters of a document.
+     *
+     * @return the number of threads. Default: <code>1</code> (evaluate sequentially).
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets the number of threads evaluating the schemas, operations, security schemes and parameters of a document.
+     * The validations are reported in the same order whatever the number of threads.
+     *
+     * @param threads the number of threads, values lower than 1 evaluate sequentially
+     */
+    public void setThreads(int threads) {
+        this.threads = Math.max(threads, 1);
+    }
+
+    /**
+     * Gets the number of errors after which evaluation stops.
+     *
+     * @return the error limit. Default: <code>0</code> (evaluate the whole document).
+     */
+    public int getErrorLimit() {
+        return errorLimit;
+    }
+
+    /**
+     * Sets the number of errors after which evaluation stops. The result then holds the validations of the elements
+     * evaluated until then, all the validations of the element which reached the limit included.
+     *
+     * @param errorLimit the error limit, values lower than 1 evaluate the whole document
+     */
+    public void setErrorLimit(int errorLimit) {
+        this.errorLimit = Math.max(errorLimit, 0);
+    }
+
     /**
      * Validates input, resulting in a instance of {@link ValidationResult} which provides details on all validations performed (success, error, warning).
      *
@@ -43,84 +88,203 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
         OpenApiSchemaValidations schemaValidations = new OpenApiSchemaValidations(ruleConfiguration);
         OpenApiOperationValidations operationValidations = new OpenApiOperationValidations(ruleConfiguration);
 
-        if (ruleConfiguration.isEnableUnusedSchemasRecommendation()) {
-            ValidationRule unusedSchema = ValidationRule.create(Severity.WARNING, "Unused schema", "A schema was determined to be unused.", s -> ValidationRule.Pass.empty());
-            ModelUtils.getUnusedSchemas(specification).forEach(schemaName -> validationResult.addResult(Validated.invalid(unusedSchema, "Unused model: " + schemaName)));
-        }
+        try (Evaluation evaluation = new Evaluation(validationResult, threads, errorLimit)) {
+            if (ruleConfiguration.isEnableUnusedSchemasRecommendation()) {
+                evaluation.submit(() -> {
+                    ValidationResult unusedSchemas = new ValidationResult();
+                    ValidationRule unusedSchema = ValidationRule.create(Severity.WARNING, "Unused schema", "A schema was determined to be unused.", s -> ValidationRule.Pass.empty());
+                    ModelUtils.getUnusedSchemas(specification).forEach(schemaName -> unusedSchemas.addResult(Validated.invalid(unusedSchema, "Unused model: " + schemaName)));
+                    return unusedSchemas;
+                });
+            }
 
-        // Get list of all schemas under /components/schemas, including nested schemas defined inline and composed schema.
-        // The validators must be able to validate every schema defined in the OAS document.
-        List<Schema> schemas = ModelUtils.getAllSchemas(specification);
-        schemas.forEach(schema -> {
-            SchemaWrapper wrapper = new SchemaWrapper(specification, schema);
-            validationResult.consume(schemaValidations.validate(wrapper));
-        });
+            // Visit all schemas under /components/schemas, including nested schemas defined inline and composed schema.
+            // The validators must be able to validate every schema defined in the OAS document.
+            ModelUtils.forEachSchema(specification, schema ->
+                    evaluation.submit(() -> schemaValidations.validate(new SchemaWrapper(specification, schema))));
 
-        List<Parameter> parameters = new ArrayList<>(50);
+            Paths paths = specification.getPaths();
+            if (paths != null) {
+                for (PathItem pathItem : paths.values()) {
+                    pathItem.readOperationsMap().forEach((httpMethod, op) -> {
+                        if (op != null) {
+                            evaluation.submit(() -> operationValidations.validate(new OperationWrapper(specification, op, httpMethod)));
+                        }
+                    });
+                }
+            }
 
-        Paths paths = specification.getPaths();
-        if (paths != null) {
-            paths.forEach((key, pathItem) -> {
-                // parameters defined "globally"
-                List<Parameter> pathParameters = pathItem.getParameters();
-                if (pathParameters != null) parameters.addAll(pathItem.getParameters());
+            Components components = specification.getComponents();
+            if (components != null) {
+                Map<String, SecurityScheme> securitySchemes = components.getSecuritySchemes();
+                if (securitySchemes != null && !securitySchemes.isEmpty()) {
+                    securitySchemes.values().forEach(securityScheme ->
+                            evaluation.submit(() -> securitySchemeValidations.validate(new SecuritySchemeWrapper(specification, securityScheme))));
+                }
+            }
 
-                pathItem.readOperationsMap().forEach((httpMethod, op) -> {
-                    if (op != null) {
-                        // parameters on each operation method
-                        if (op.getParameters() != null) {
-                            parameters.addAll(op.getParameters());
+            // parameters defined "globally" and on each operation method of the paths, then in the components
+            if (paths != null) {
+                for (PathItem pathItem : paths.values()) {
+                    submitParameters(evaluation, parameterValidations, specification, pathItem.getParameters());
+                    pathItem.readOperationsMap().forEach((httpMethod, op) -> {
+                        if (op != null) {
+                            submitParameters(evaluation, parameterValidations, specification, op.getParameters());
                         }
+                    });
+                }
+            }
+            if (components != null && components.getParameters() != null) {
+                submitParameters(evaluation, parameterValidations, specification, components.getParameters().values());
+            }
 
-                        OperationWrapper wrapper = new OperationWrapper(specification, op, httpMethod);
-                        validationResult.consume(operationValidations.validate(wrapper));
-                    }
-                });
-            });
+            List<Tag> tags = specification.getTags();
+            if (tags != null && tags.size() > 1) {
+                evaluation.submit(() -> validateTags(tags));
+            }
         }
 
-        Components components = specification.getComponents();
-        if (components != null) {
-            Map<String, SecurityScheme> securitySchemes = components.getSecuritySchemes();
-            if (securitySchemes != null && !securitySchemes.isEmpty()) {
-                securitySchemes.values().forEach(securityScheme -> {
-                    SecuritySchemeWrapper wrapper = new SecuritySchemeWrapper(specification, securityScheme);
-                    validationResult.consume(securitySchemeValidations.validate(wrapper));
-                });
-            }
+        return validationResult;
+    }
 
-            if (components.getParameters() != null) {
-                parameters.addAll(components.getParameters().values());
+    private static void submitParameters(Evaluation evaluation, OpenApiParameterValidations parameterValidations, OpenAPI specification, Collection<Parameter> parameters) {
+        if (parameters != null) {
+            for (Parameter parameter : parameters) {
+                evaluation.submit(() -> parameterValidations.validate(
+                        new ParameterWrapper(specification, ModelUtils.getReferencedParameter(specification, parameter))));
             }
         }
+    }
 
-        parameters.forEach(parameter -> {
-            parameter = ModelUtils.getReferencedParameter(specification, parameter);
-            ParameterWrapper wrapper = new ParameterWrapper(specification, parameter);
-            validationResult.consume(parameterValidations.validate(wrapper));
+    private static ValidationResult validateTags(List<Tag> tags) {
+        ValidationResult validationResult = new ValidationResult();
+        Set<String> distinct = new HashSet<>();
+        Set<String> duplicated = new HashSet<>();
+        tags.forEach(tag -> {
+            // add returns false if it already exists…
+            if (!distinct.add(tag.getName())) {
+                duplicated.add(tag.getName());
+            }
         });
+        if (duplicated.size() > 0) {
+            // From https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#fixed-fields
+            // A list of tags used by the specification with additional metadata. The order of the tags can be used
+            // to reflect on their order by the parsing tools. Not all tags that are used by the Operation Object
+            // must be declared. The tags that are not declared MAY be organized randomly or based on the tools'
+            // logic. Each tag name in the list MUST be unique.
+            ValidationRule rule = ValidationRule.warn("Duplicate tags", "The specification requires that tag names are unique.", s -> ValidationRule.Fail.empty());
+            validationResult.addResult(Validated.invalid(rule, "Duplicated tag(s): " + String.join(",", duplicated)));
+        }
+        return validationResult;
+    }
+
+    /**
+     * Evaluates the elements of a document as they are submitted, sequentially or in batches on a thread pool, and
+     * merges their results in submission order until the error limit is reached.
+     */
+    static class Evaluation implements AutoCloseable {
+        private static final int BATCH_SIZE = 64;
+
+        private final ValidationResult validationResult;
+        private final int errorLimit;
+        private final ExecutorService executor;
+        // the number of batches in flight is bounded, so that evaluation streams through the document
+        private final int maxPendingBatches;
+        private final Deque<Future<List<ValidationResult>>> pendingBatches = new ArrayDeque<>();
+        private List<Supplier<ValidationResult>> batch = new ArrayList<>(BATCH_SIZE);
+        private int errorCount = 0;
+        private boolean stopped = false;
+
+        Evaluation(ValidationResult validationResult, int threads, int errorLimit) {
+            this.validationResult = validationResult;
+            this.errorLimit = errorLimit;
+            this.executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+            this.maxPendingBatches = threads * 4;
+        }
+
+        void submit(Supplier<ValidationResult> element) {
+            if (stopped) {
+                return;
+            }
+            if (executor == null) {
+                merge(element.get());
+                return;
+            }
+
+            batch.add(element);
+            if (batch.size() >= BATCH_SIZE) {
+                dispatch();
+            }
+        }
 
-        List<Tag> tags = specification.getTags();
-        if (tags != null && tags.size() > 1) {
-            Set<String> distinct = new HashSet<>();
-            Set<String> duplicated = new HashSet<>();
-            tags.forEach(tag -> {
-                // add returns false if it already exists…
-                if (!distinct.add(tag.getName())) {
-                    duplicated.add(tag.getName());
+        private void dispatch() {
+            List<Supplier<ValidationResult>> elements = batch;
+            batch = new ArrayList<>(BATCH_SIZE);
+            pendingBatches.add(executor.submit(() -> {
+                List<ValidationResult> results = new ArrayList<>(elements.size());
+                for (Supplier<ValidationResult> element : elements) {
+                    results.add(element.get());
                 }
-            });
-            if (duplicated.size() > 0) {
-                // From https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#fixed-fields
-                // A list of tags used by the specification with additional metadata. The order of the tags can be used
-                // to reflect on their order by the parsing tools. Not all tags that are used by the Operation Object
-                // must be declared. The tags that are not declared MAY be organized randomly or based on the tools'
-                // logic. Each tag name in the list MUST be unique.
-                ValidationRule rule = ValidationRule.warn("Duplicate tags", "The specification requires that tag names are unique.", s -> ValidationRule.Fail.empty());
-                validationResult.addResult(Validated.invalid(rule, "Duplicated tag(s): " + String.join(",", duplicated)));
+                return results;
+            }));
+
+            while (!stopped && !pendingBatches.isEmpty() && (pendingBatches.size() > maxPendingBatches || pendingBatches.peekFirst().isDone())) {
+                mergeFirstBatch();
             }
         }
 
-        return validationResult;
+        private void mergeFirstBatch() {
+            Future<List<ValidationResult>> pending = pendingBatches.pollFirst();
+            try {
+                for (ValidationResult result : pending.get()) {
+                    merge(result);
+                }
+            } catch (ExecutionException e) {
+                cancel();
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while validating the specification", e);
+            }
+        }
+
+        private void merge(ValidationResult result) {
+            if (stopped) {
+                return;
+            }
+            validationResult.consume(result);
+            if (errorLimit > 0) {
+                errorCount += result.getErrors().size();
+                if (errorCount >= errorLimit) {
+                    cancel();
+                }
+            }
+        }
+
+        private void cancel() {
+            stopped = true;
+            pendingBatches.forEach(pending -> pending.cancel(true));
+            pendingBatches.clear();
+            batch.clear();
+        }
+
+        @Override
+        public void close() {
+            if (executor == null) {
+                return;
+            }
+            try {
+                if (!stopped && !batch.isEmpty()) {
+                    dispatch();
+                }
+                while (!stopped && !pendingBatches.isEmpty()) {
+                    mergeFirstBatch();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
     }
 }
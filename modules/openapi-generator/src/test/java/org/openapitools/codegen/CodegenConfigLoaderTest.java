@@ -0,0 +1,42 @@
+package org.openapitools.codegen;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CodegenConfigLoaderTest {
+
+    @Test
+    public void forNameReturnsNewInstances() {
+        CodegenConfig first = CodegenConfigLoader.forName("java");
+        CodegenConfig second = CodegenConfigLoader.forName("java");
+
+        assertThat(first).isInstanceOf(org.openapitools.codegen.languages.JavaClientCodegen.class);
+        assertThat(second).isNotSameAs(first);
+        assertThat(CodegenConfigLoader.forName(org.openapitools.codegen.languages.JavaClientCodegen.class.getName()))
+                .isInstanceOf(org.openapitools.codegen.languages.JavaClientCodegen.class);
+    }
+
+    @Test
+    public void forNameFindsEveryGenerator() {
+        List<CodegenConfig> configs = CodegenConfigLoader.getAll();
+
+        assertThat(configs).isNotEmpty();
+        for (CodegenConfig config : configs) {
+            assertThat(CodegenConfigLoader.forName(config.getName())).as(config.getName()).isInstanceOf(config.getClass());
+        }
+        assertThat(configs.stream().map(CodegenConfig::getName).collect(Collectors.toSet())).hasSameSizeAs(configs);
+    }
+
+    @Test
+    public void forNameListsAvailableGenerators() {
+        assertThatThrownBy(() -> CodegenConfigLoader.forName("does-not-exist"))
+                .isInstanceOf(GeneratorNotFoundException.class)
+                .hasMessageContaining("Available:")
+                .hasMessageContaining("\njava\n");
+    }
+}
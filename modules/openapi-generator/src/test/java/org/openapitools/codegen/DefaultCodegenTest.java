@@ -23,8 +23,10 @@ import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.google.common.collect.Sets;
+import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Mustache.Lambda;
 import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -56,6 +58,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -2490,6 +2493,45 @@ public class DefaultCodegenTest {
         Assertions.assertFalse(roundCOut.isCircularReference);
     }
 
+    @Test(timeOut = 30000)
+    public void testCircularReferencesDetectionInDenseModelGraph() {
+        // every model references every later model, and the last one references the first
+        DefaultCodegen codegen = new DefaultCodegen();
+        final int count = 400;
+        final Map<String, CodegenModel> models = new HashMap<>();
+        final List<CodegenProperty> firstModelVars = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final List<CodegenProperty> vars = new ArrayList<>();
+            for (int j = i + 1; j < count; j++) {
+                final CodegenProperty property = new CodegenProperty();
+                property.baseName = "model" + j;
+                property.dataType = "Model" + j;
+                vars.add(property);
+            }
+            final CodegenModel model = new CodegenModel();
+            model.setDataType("Model" + i);
+            model.setAllVars(vars);
+            models.put("Model" + i, model);
+            if (i == 0) {
+                firstModelVars.addAll(vars);
+            }
+        }
+        final CodegenProperty back = new CodegenProperty();
+        back.baseName = "first";
+        back.dataType = "Model0";
+        models.get("Model" + (count - 1)).setAllVars(Collections.singletonList(back));
+        final CodegenProperty unrelated = new CodegenProperty();
+        unrelated.baseName = "unrelated";
+        unrelated.dataType = "Unrelated";
+        models.get("Model0").getAllVars().add(unrelated);
+
+        codegen.setCircularReferences(models);
+
+        Assertions.assertTrue(back.isCircularReference);
+        Assertions.assertTrue(firstModelVars.stream().allMatch(property -> property.isCircularReference));
+        Assertions.assertFalse(unrelated.isCircularReference);
+    }
+
     @Test
     public void testUseOneOfInterfaces() {
         final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/composed-oneof.yaml");
@@ -5015,4 +5057,73 @@ public class DefaultCodegenTest {
         // When & Then
         assertThat(codegenOperation.hasSingleParam).isTrue();
     }
+
+    @Test
+    public void testFromPropertyCachesBySchemaIdentity() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+        DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setOpenAPI(openAPI);
+        Schema schema = new StringSchema().description("a name");
+        Schema equalSchema = new StringSchema().description("a name");
+
+        CodegenProperty first = codegen.fromProperty("name", schema);
+        CodegenProperty cached = codegen.fromProperty("name", schema);
+        CodegenProperty other = codegen.fromProperty("name", equalSchema);
+
+        assertThat(cached).isSameAs(first);
+        assertThat(other).isNotSameAs(first).isEqualTo(first);
+        assertThat(codegen.getPropertyCacheStats().hitCount()).isEqualTo(1);
+        assertThat(codegen.getPropertyCacheSize()).isEqualTo(2);
+
+        codegen.setOpenAPI(TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml"));
+        assertThat(codegen.getPropertyCacheSize()).isZero();
+        assertThat(codegen.fromProperty("name", schema)).isNotSameAs(first);
+    }
+
+    @Test
+    public void testJsonSchemaIsRenderedOnAccess() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+        DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setOpenAPI(openAPI);
+        Schema petSchema = openAPI.getComponents().getSchemas().get("Pet");
+
+        CodegenModel model = codegen.fromModel("Pet", petSchema);
+        CodegenProperty property = codegen.fromProperty("name", (Schema) petSchema.getProperties().get("name"));
+
+        assertThat(model.modelJson).isNotNull();
+        assertThat(model.getModelJson()).isEqualTo(Json.pretty(petSchema));
+        assertThat(property.getJsonSchema()).contains("\"example\" : \"doggie\"");
+        assertThat(Mustache.compiler().escapeHTML(false).compile("{{modelJson}}|{{#vars}}{{jsonSchema}}{{/vars}}").execute(model))
+                .startsWith(model.getModelJson() + "|")
+                .contains(property.getJsonSchema());
+    }
+
+    @Test
+    public void testJsonSchemaIsNotRenderedForEquality() {
+        AtomicInteger renders = new AtomicInteger();
+        Schema schema = new StringSchema().description("name");
+        CodegenProperty first = new CodegenProperty();
+        first.setLazyJsonSchema(LazyJson.of(schema, source -> Json.pretty(source) + renders.incrementAndGet()));
+        CodegenProperty second = first.clone();
+
+        assertThat(second).isEqualTo(first).hasSameHashCodeAs(first);
+        assertThat(new HashSet<>(List.of(first)).contains(second)).isTrue();
+        assertThat(renders.get()).isZero();
+
+        assertThat(second.getJsonSchema()).isEqualTo(first.getJsonSchema()).endsWith("1");
+        assertThat(renders.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testJsonSchemaOfEquivalentSchemasIsEqual() {
+        CodegenProperty first = new CodegenProperty();
+        first.setLazyJsonSchema(LazyJson.of(new Schema<>().type("string"), Json::pretty));
+        CodegenProperty second = first.clone();
+        second.setLazyJsonSchema(LazyJson.of(new StringSchema(), Json::pretty));
+        CodegenProperty other = first.clone();
+        other.setLazyJsonSchema(LazyJson.of(new StringSchema().description("other"), Json::pretty));
+
+        assertThat(second).isEqualTo(first).hasSameHashCodeAs(first);
+        assertThat(other).isNotEqualTo(first);
+    }
 }
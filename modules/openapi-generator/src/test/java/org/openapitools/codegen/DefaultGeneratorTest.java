@@ -1,5 +1,8 @@
 package org.openapitools.codegen;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -11,11 +14,18 @@ import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.oas.models.tags.Tag;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.languages.GoClientCodegen;
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.openapitools.codegen.languages.RustServerCodegen;
 import org.openapitools.codegen.model.ModelMap;
+import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationsMap;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.slf4j.LoggerFactory;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -25,7 +35,10 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 public class DefaultGeneratorTest {
 
@@ -398,6 +411,84 @@ public class DefaultGeneratorTest {
         Assert.assertEquals(defaultList.get(3).allParams.size(), 1);
     }
 
+    @Test
+    public void testProcessPathsInParallel() throws Exception {
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        openAPI.addTagsItem(new Tag().name("pets").description("first"));
+        openAPI.addTagsItem(new Tag().name("pets").description("second"));
+        openAPI.setPaths(new Paths());
+        for (int i = 0; i < 20; i++) {
+            openAPI.getPaths().addPathItem("/path" + i, new PathItem()
+                    .addParametersItem(new QueryParameter().name("p1").schema(new StringSchema()))
+                    .get(new Operation().operationId("op").addTagsItem("pets").addTagsItem("stores").responses(new ApiResponses().addApiResponse("201", new ApiResponse().description("OK")))));
+        }
+
+        Set<Thread> operationThreads = ConcurrentHashMap.newKeySet();
+        DefaultCodegen config = new DefaultCodegen() {
+            @Override
+            public boolean supportsParallelProcessing() {
+                return true;
+            }
+
+            @Override
+            public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, List<Server> servers) {
+                operationThreads.add(Thread.currentThread());
+                return super.fromOperation(path, httpMethod, operation, servers);
+            }
+        };
+        config.setProcessingThreads(4);
+        ClientOptInput opts = new ClientOptInput();
+        opts.openAPI(openAPI);
+        opts.config(config);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+        Map<String, List<CodegenOperation>> result = generator.processPaths(openAPI.getPaths());
+        Assert.assertFalse(operationThreads.contains(Thread.currentThread()));
+        Assert.assertEquals(result.keySet(), Set.of("Pets", "Stores"));
+        for (List<CodegenOperation> operations : result.values()) {
+            Assert.assertEquals(operations.size(), 20);
+            for (int i = 0; i < 20; i++) {
+                CodegenOperation operation = operations.get(i);
+                Assert.assertEquals(operation.path, "/path" + i);
+                Assert.assertEquals(operation.operationId, i == 0 ? "op" : "op_" + (i - 1));
+                Assert.assertEquals(operation.allParams.size(), 1);
+                Assert.assertEquals(operation.tags.get(0).getDescription(), "first");
+                Assert.assertNull(operation.tags.get(1).getDescription());
+            }
+        }
+    }
+
+    @Test
+    public void testProcessPathsSequentiallyForUnsupportedGenerators() throws IOException {
+        Path target = Files.createTempDirectory("test-parallel-unsupported");
+        try {
+            Set<Thread> operationThreads = ConcurrentHashMap.newKeySet();
+            // records apiHasDeleteMethods and usesXml in the additional properties when creating operations
+            RustServerCodegen config = new RustServerCodegen() {
+                @Override
+                public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, List<Server> servers) {
+                    operationThreads.add(Thread.currentThread());
+                    return super.fromOperation(path, httpMethod, operation, servers);
+                }
+            };
+            config.setOutputDir(target.toAbsolutePath().toString());
+            config.setProcessingThreads(4);
+            Assert.assertFalse(config.supportsParallelProcessing());
+
+            ClientOptInput opts = new ClientOptInput();
+            opts.openAPI(TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml"));
+            opts.config(config);
+            new DefaultGenerator().opts(opts).generate();
+
+            Assert.assertEquals(operationThreads, Set.of(Thread.currentThread()));
+            Assert.assertEquals(config.additionalProperties().get("apiHasDeleteMethods"), true);
+            Assert.assertEquals(config.additionalProperties().get("usesXml"), true);
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
     @Test
     public void testRefModelValidationProperties() {
         OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/2_0/refAliasedPrimitiveWithValidation.yml");
@@ -671,6 +762,67 @@ public class DefaultGeneratorTest {
         Assert.assertEquals(servers.get(2).url, "http://notrailingslash.io:80/v2");
     }
 
+    @Test
+    public void testOperationsShareAdditionalPropertiesLayer() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+        ClientOptInput opts = new ClientOptInput();
+        opts.openAPI(openAPI);
+        DefaultCodegen config = new DefaultCodegen();
+        config.setStrictSpecBehavior(false);
+        config.additionalProperties().put("customProperty", "customValue");
+        config.additionalProperties().put("baseName", "fromAdditionalProperties");
+        opts.config(config);
+        final DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+        generator.configureGeneratorProperties();
+
+        List<File> files = new ArrayList<>();
+        List<ModelMap> allModels = new ArrayList<>();
+        List<OperationsMap> allOperations = new ArrayList<>();
+        generator.generateApis(files, allOperations, allModels);
+
+        Assert.assertTrue(allOperations.size() > 1);
+        for (OperationsMap operations : allOperations) {
+            Assert.assertSame(operations.getSharedLayer(), allOperations.get(0).getSharedLayer());
+            Assert.assertFalse(new HashSet<>(operations.keySet()).contains("customProperty"));
+            Assert.assertEquals(operations.get("customProperty"), "customValue");
+            // additional properties take precedence over the values set before them, as when they were copied
+            Assert.assertEquals(operations.get("baseName"), "fromAdditionalProperties");
+            Assert.assertTrue(new HashSet<>(operations.keySet()).contains("classname"));
+        }
+    }
+
+    @Test
+    public void testOperationsSeeAdditionalPropertiesAsOfTheirProcessing() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+        ClientOptInput opts = new ClientOptInput();
+        opts.openAPI(openAPI);
+        DefaultCodegen config = new DefaultCodegen() {
+            @Override
+            public OperationsMap postProcessOperationsWithModels(OperationsMap objs, List<ModelMap> allModels) {
+                additionalProperties.merge("processedTags", 1, (count, one) -> (Integer) count + 1);
+                return super.postProcessOperationsWithModels(objs, allModels);
+            }
+        };
+        config.setStrictSpecBehavior(false);
+        opts.config(config);
+        final DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+        generator.configureGeneratorProperties();
+
+        List<File> files = new ArrayList<>();
+        List<ModelMap> allModels = new ArrayList<>();
+        List<OperationsMap> allOperations = new ArrayList<>();
+        generator.generateApis(files, allOperations, allModels);
+
+        Assert.assertTrue(allOperations.size() > 1);
+        for (int i = 0; i < allOperations.size(); i++) {
+            // later changes of the additional properties don't leak into the bundles processed before them
+            Assert.assertEquals(allOperations.get(i).get("processedTags"), i + 1);
+        }
+        Assert.assertEquals(config.additionalProperties().get("processedTags"), allOperations.size());
+    }
+
     @Test
     public void testHandlesRelativeUrlsInServers() {
         OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/issue_10056.yaml");
@@ -970,4 +1122,257 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void testParallelRenderingMatchesSequentialOutput() throws IOException {
+        Path sequentialTarget = Files.createTempDirectory("test-sequential");
+        Path parallelTarget = Files.createTempDirectory("test-parallel");
+        try {
+            List<File> sequentialFiles = new DefaultGenerator().opts(new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(sequentialTarget.toAbsolutePath().toString())
+                    .toClientOptInput()).generate();
+            List<File> parallelFiles = new DefaultGenerator().opts(new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setRenderThreads(4)
+                    .setOutputDir(parallelTarget.toAbsolutePath().toString())
+                    .toClientOptInput()).generate();
+
+            Assert.assertEquals(parallelFiles.size(), sequentialFiles.size());
+            for (int i = 0; i < sequentialFiles.size(); i++) {
+                Assert.assertEquals(
+                        parallelTarget.relativize(parallelFiles.get(i).toPath().toAbsolutePath()),
+                        sequentialTarget.relativize(sequentialFiles.get(i).toPath().toAbsolutePath()));
+            }
+            Assert.assertEquals(
+                    Files.readAllLines(parallelTarget.resolve(".openapi-generator/FILES")),
+                    Files.readAllLines(sequentialTarget.resolve(".openapi-generator/FILES")));
+            Assert.assertEquals(
+                    Files.readAllLines(parallelTarget.resolve("src/main/java/org/openapitools/client/api/PetApi.java")),
+                    Files.readAllLines(sequentialTarget.resolve("src/main/java/org/openapitools/client/api/PetApi.java")));
+        } finally {
+            sequentialTarget.toFile().deleteOnExit();
+            parallelTarget.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testParallelProcessingMatchesSequentialOutput() throws IOException {
+        Path sequentialTarget = Files.createTempDirectory("test-sequential");
+        Path parallelTarget = Files.createTempDirectory("test-parallel");
+        try {
+            List<File> sequentialFiles = new DefaultGenerator().opts(new CodegenConfigurator()
+                    .setGeneratorName("markdown")
+                    .setInputSpec("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml")
+                    .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true)
+                    .setOutputDir(sequentialTarget.toAbsolutePath().toString())
+                    .toClientOptInput()).generate();
+            List<File> parallelFiles = new DefaultGenerator().opts(new CodegenConfigurator()
+                    .setGeneratorName("markdown")
+                    .setInputSpec("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml")
+                    .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true)
+                    .setProcessingThreads(4)
+                    .setOutputDir(parallelTarget.toAbsolutePath().toString())
+                    .toClientOptInput()).generate();
+
+            Assert.assertEquals(parallelFiles.size(), sequentialFiles.size());
+            Path modelDir = java.nio.file.Paths.get("Models");
+            Path apiDir = java.nio.file.Paths.get("Apis");
+            Assert.assertTrue(Files.exists(parallelTarget.resolve(modelDir).resolve("Pet.md")));
+            Assert.assertTrue(Files.exists(parallelTarget.resolve(apiDir).resolve("PetApi.md")));
+            for (int i = 0; i < sequentialFiles.size(); i++) {
+                Path parallelFile = parallelTarget.relativize(parallelFiles.get(i).toPath().toAbsolutePath());
+                Path sequentialFile = sequentialTarget.relativize(sequentialFiles.get(i).toPath().toAbsolutePath());
+                Assert.assertEquals(parallelFile, sequentialFile);
+                if (sequentialFile.startsWith(modelDir) || sequentialFile.startsWith(apiDir)) {
+                    Assert.assertEquals(
+                            Files.readAllLines(parallelTarget.resolve(parallelFile)),
+                            Files.readAllLines(sequentialTarget.resolve(sequentialFile)),
+                            sequentialFile.toString());
+                }
+            }
+        } finally {
+            sequentialTarget.toFile().deleteOnExit();
+            parallelTarget.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testParallelProcessingFallsBackToSequentialForUnsupportedGenerators() throws IOException {
+        Path target = Files.createTempDirectory("test-parallel-unsupported");
+        try {
+            Set<Thread> postProcessingThreads = ConcurrentHashMap.newKeySet();
+            // records the IMPORT_VALIDATOR additional property when post-processing oneOf models
+            GoClientCodegen config = new GoClientCodegen() {
+                @Override
+                public ModelsMap postProcessModels(ModelsMap objs) {
+                    postProcessingThreads.add(Thread.currentThread());
+                    return super.postProcessModels(objs);
+                }
+            };
+            config.setOutputDir(target.toAbsolutePath().toString());
+            config.setProcessingThreads(4);
+            Assert.assertFalse(config.supportsParallelProcessing());
+
+            ClientOptInput opts = new ClientOptInput();
+            opts.openAPI(TestUtils.parseFlattenSpec("src/test/resources/3_0/oneOf.yaml"));
+            opts.config(config);
+            new DefaultGenerator().opts(opts).generate();
+
+            Assert.assertEquals(postProcessingThreads, Set.of(Thread.currentThread()));
+            Assert.assertEquals(config.additionalProperties().get(GoClientCodegen.IMPORT_VALIDATOR), true);
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testIncrementalGenerationSkipsUnchangedFiles() throws IOException {
+        Path target = Files.createTempDirectory("test-incremental");
+        try {
+            CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setEnableIncrementalGeneration(true)
+                    .setOutputDir(target.toAbsolutePath().toString());
+
+            new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+            Path manifest = target.resolve(".openapi-generator/MANIFEST.json");
+            Path petApi = target.resolve("src/main/java/org/openapitools/client/api/PetApi.java");
+            Path pet = target.resolve("src/main/java/org/openapitools/client/model/Pet.java");
+            Assert.assertTrue(Files.exists(manifest));
+            FileTime petApiModified = Files.getLastModifiedTime(petApi);
+            FileTime petModified = Files.getLastModifiedTime(pet);
+
+            // a file modified after generation is regenerated
+            Files.write(pet, "modified".getBytes(StandardCharsets.UTF_8));
+
+            List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+            Assert.assertEquals(Files.getLastModifiedTime(petApi), petApiModified);
+            Assert.assertNotEquals(Files.getLastModifiedTime(pet), petModified);
+            TestUtils.assertFileContains(pet, "class Pet");
+            Assert.assertTrue(files.stream().anyMatch(f -> f.toPath().toAbsolutePath().equals(petApi.toAbsolutePath())));
+            // unchanged files are still tracked
+            Assert.assertTrue(Files.readAllLines(target.resolve(".openapi-generator/FILES")).contains("src/main/java/org/openapitools/client/api/PetApi.java"));
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testIncrementalGenerationSkipsUnchangedModelsWithInheritance() throws IOException {
+        Path target = Files.createTempDirectory("test-incremental-inheritance");
+        try {
+            CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/allOf_composition_discriminator.yaml")
+                    .setEnableIncrementalGeneration(true)
+                    .setOutputDir(target.toAbsolutePath().toString());
+
+            new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+            Path modelDir = target.resolve("src/main/java/org/openapitools/client/model");
+            List<String> models = Arrays.asList("Pet.java", "Cat.java", "A.java", "B.java", "C.java");
+            Map<String, FileTime> modified = new HashMap<>();
+            for (String model : models) {
+                modified.put(model, Files.getLastModifiedTime(modelDir.resolve(model)));
+            }
+            // the models of the hierarchy have hashable inputs, so they are tracked by the manifest
+            String manifest = new String(Files.readAllBytes(target.resolve(".openapi-generator/MANIFEST.json")), StandardCharsets.UTF_8);
+            for (String model : models) {
+                Assert.assertTrue(manifest.contains("src/main/java/org/openapitools/client/model/" + model), model);
+            }
+
+            new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+            for (String model : models) {
+                Assert.assertEquals(Files.getLastModifiedTime(modelDir.resolve(model)), modified.get(model), model);
+            }
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testDuplicateFilePathsAreReportedByGroup() throws IOException {
+        Path target = Files.createTempDirectory("test-duplicate-files");
+        Logger logger = (Logger) LoggerFactory.getLogger(DefaultGenerator.class);
+        ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+        listAppender.start();
+        logger.addAppender(listAppender);
+        try {
+            OpenAPI openAPI = TestUtils.createOpenAPI();
+            openAPI.getComponents().addSchemas("Pet", new Schema<>().type("object").addProperty("id", new IntegerSchema()));
+            openAPI.getComponents().addSchemas("Category", new Schema<>().type("object").addProperty("id", new IntegerSchema()));
+            openAPI.getComponents().addSchemas("Tag", new Schema<>().type("object").addProperty("name", new StringSchema()));
+            openAPI.getComponents().addSchemas("Order", new Schema<>().type("object").addProperty("id", new IntegerSchema()));
+
+            ClientOptInput opts = new ClientOptInput();
+            opts.openAPI(openAPI);
+            CodegenConfig config = new JavaClientCodegen() {
+                @Override
+                public String toModelFilename(String name) {
+                    // Category is generated to a file only differing by case from Pet's, Tag to the same file
+                    switch (name) {
+                        case "Category":
+                            return "PET";
+                        case "Tag":
+                            return "Pet";
+                        default:
+                            return super.toModelFilename(name);
+                    }
+                }
+            };
+            config.setOutputDir(target.toAbsolutePath().toString());
+            opts.config(config);
+            DefaultGenerator generator = new DefaultGenerator();
+            generator.setGeneratorPropertyDefault(CodegenConstants.MODELS, "true");
+            generator.setGeneratorPropertyDefault(CodegenConstants.MODEL_TESTS, "false");
+            generator.setGeneratorPropertyDefault(CodegenConstants.MODEL_DOCS, "false");
+            generator.setGeneratorPropertyDefault(CodegenConstants.APIS, "false");
+            generator.setGeneratorPropertyDefault(CodegenConstants.SUPPORTING_FILES, "false");
+            generator.opts(opts).generate();
+
+            List<String> duplicates = listAppender.list.stream()
+                    .map(ILoggingEvent::getFormattedMessage)
+                    .filter(message -> message.startsWith("Duplicate file path detected."))
+                    .collect(Collectors.toList());
+            Path modelDir = target.resolve("src/main/java/org/openapitools/client/model").toAbsolutePath();
+            // a single group, in the order the files were generated, and without Order.java
+            Assert.assertEquals(duplicates, Collections.singletonList(
+                    "Duplicate file path detected. Not all operating systems can handle case sensitive file paths. paths=["
+                            + modelDir.resolve("PET.java") + ", " + modelDir.resolve("Pet.java") + ", " + modelDir.resolve("Pet.java") + "]"));
+        } finally {
+            logger.detachAppender(listAppender);
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testOpenapiGeneratorIgnoreListInMemory() throws IOException {
+        Path target = Files.createTempDirectory("test-in-memory-ignore");
+        try {
+            Path output = target.resolve("output");
+            JavaClientCodegen codegen = new JavaClientCodegen();
+            codegen.setOutputDir(output.toString());
+            codegen.openapiGeneratorIgnoreList().add("README.md");
+
+            DefaultGenerator generator = new DefaultGenerator();
+            generator.setInMemory(true);
+            generator.opts(new ClientOptInput().openAPI(TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml")).config(codegen));
+            generator.generate();
+
+            // the ignore file is generated with the other files, and applies to them
+            NavigableMap<Path, byte[]> files = ((InMemoryTemplateManager) generator.getTemplateProcessor()).getFiles();
+            byte[] ignoreFile = files.get(output.resolve(".openapi-generator-ignore").toAbsolutePath());
+            Assert.assertNotNull(ignoreFile);
+            Assert.assertTrue(new String(ignoreFile, StandardCharsets.UTF_8).endsWith("\nREADME.md\n"));
+            Assert.assertFalse(files.containsKey(output.resolve("README.md").toAbsolutePath()));
+            Assert.assertTrue(files.containsKey(output.resolve("pom.xml").toAbsolutePath()));
+            Assert.assertFalse(Files.exists(output));
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
 }
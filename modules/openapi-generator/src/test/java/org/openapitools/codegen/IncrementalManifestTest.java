@@ -0,0 +1,171 @@
+package org.openapitools.codegen;
+
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openapitools.codegen.model.ModelsMap;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class IncrementalManifestTest {
+
+    @Test
+    public void inputHashCoversPropertiesAddedToTheSharedLayerAfterLoad() throws IOException {
+        Path target = Files.createTempDirectory("test-manifest");
+        try {
+            Map<String, Object> globals = new HashMap<>();
+            globals.put("appName", "petstore");
+            IncrementalManifest manifest = IncrementalManifest.load(target, target.resolve(IncrementalManifest.FILENAME),
+                    globals, Collections.emptySet(), "java");
+
+            String withoutFormParams = manifest.inputHash("api.mustache", bundle(globals, null));
+            String withFormParams = manifest.inputHash("api.mustache", bundle(globals, true));
+            String withoutFormParamsAgain = manifest.inputHash("api.mustache", bundle(globals, false));
+
+            assertNotNull(withFormParams);
+            assertNotEquals(withFormParams, withoutFormParams);
+            assertNotEquals(withFormParams, withoutFormParamsAgain);
+            assertEquals(manifest.inputHash("api.mustache", bundle(globals, true)), withFormParams);
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void inputHashPrefersOwnEntriesOverTheSharedLayer() throws IOException {
+        Path target = Files.createTempDirectory("test-manifest");
+        try {
+            IncrementalManifest manifest = IncrementalManifest.load(target, target.resolve(IncrementalManifest.FILENAME),
+                    Collections.emptyMap(), Collections.emptySet(), "java");
+
+            ModelsMap layered = new ModelsMap();
+            layered.setSharedLayer(Collections.singletonMap("classname", "Pet"));
+            layered.put("classname", "Category");
+            ModelsMap copied = new ModelsMap();
+            copied.put("classname", "Category");
+
+            assertEquals(manifest.inputHash("model.mustache", layered), manifest.inputHash("model.mustache", copied));
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void inputHashCoversFieldsReadThroughGetters() throws IOException {
+        Path target = Files.createTempDirectory("test-manifest");
+        try {
+            IncrementalManifest manifest = IncrementalManifest.load(target, target.resolve(IncrementalManifest.FILENAME),
+                    Collections.emptyMap(), Collections.emptySet(), "java");
+
+            // the fields of OpenAPI schemas are private
+            String pet = manifest.inputHash("model.mustache", Collections.singletonMap("schema", new StringSchema().description("a pet")));
+            String category = manifest.inputHash("model.mustache", Collections.singletonMap("schema", new StringSchema().description("a category")));
+
+            assertNotNull(pet);
+            assertNotEquals(pet, category);
+            assertEquals(manifest.inputHash("model.mustache", Collections.singletonMap("schema", new StringSchema().description("a pet"))), pet);
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void inputHashCoversTheContentsOfRelatedModels() throws IOException {
+        Path target = Files.createTempDirectory("test-manifest");
+        try {
+            IncrementalManifest manifest = IncrementalManifest.load(target, target.resolve(IncrementalManifest.FILENAME),
+                    Collections.emptyMap(), Collections.emptySet(), "java");
+            IncrementalManifest changed = IncrementalManifest.load(target, target.resolve(IncrementalManifest.FILENAME),
+                    Collections.emptyMap(), Collections.emptySet(), "java");
+
+            CodegenModel dog = model("Dog", "bark");
+            dog.setParentModel(model("Animal", "name"));
+            CodegenModel changedDog = model("Dog", "bark");
+            changedDog.setParentModel(model("Animal", "color"));
+
+            // templates may render the properties of the parent, e.g. through allVars of interface models
+            assertNotEquals(manifest.inputHash("model.mustache", Collections.singletonMap("model", dog)),
+                    changed.inputHash("model.mustache", Collections.singletonMap("model", changedDog)));
+            assertEquals(manifest.inputHash("model.mustache", Collections.singletonMap("model", dog)),
+                    changed.inputHash("model.mustache", Collections.singletonMap("model", dog)));
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void inputHashCoversTheSourceOfLazyJsonWithoutRenderingIt() throws IOException {
+        Path target = Files.createTempDirectory("test-manifest");
+        try {
+            IncrementalManifest manifest = IncrementalManifest.load(target, target.resolve(IncrementalManifest.FILENAME),
+                    Collections.emptyMap(), Collections.emptySet(), "java");
+            AtomicInteger renders = new AtomicInteger();
+
+            CodegenModel pet = model("Pet", "name");
+            pet.setLazyModelJson(LazyJson.of(new StringSchema().description("a pet"), schema -> "rendered" + renders.incrementAndGet()));
+            CodegenModel category = model("Pet", "name");
+            category.setLazyModelJson(LazyJson.of(new StringSchema().description("a category"), schema -> "rendered" + renders.incrementAndGet()));
+
+            assertNotEquals(manifest.inputHash("model.mustache", Collections.singletonMap("model", pet)),
+                    manifest.inputHash("model.mustache", Collections.singletonMap("model", category)));
+            assertEquals(renders.get(), 0);
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void inputHashIsNotComputedForUnreadableFields() throws IOException {
+        Path target = Files.createTempDirectory("test-manifest");
+        try {
+            IncrementalManifest manifest = IncrementalManifest.load(target, target.resolve(IncrementalManifest.FILENAME),
+                    Collections.emptyMap(), Collections.emptySet(), "java");
+
+            assertNull(manifest.inputHash("model.mustache", Collections.singletonMap("value", new Unreadable("a"))));
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    public static class Unreadable {
+        private final String value;
+
+        public Unreadable(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    private static CodegenModel model(String name, String propertyName) {
+        CodegenModel model = new CodegenModel();
+        model.setName(name);
+        model.setClassname(name);
+        CodegenProperty property = new CodegenProperty();
+        property.setName(propertyName);
+        model.setAllVars(Collections.singletonList(property));
+        return model;
+    }
+
+    // a bundle sharing the additional properties, with a property added to them after the manifest was loaded
+    private static ModelsMap bundle(Map<String, Object> globals, Boolean hasFormParamsInSpec) {
+        Map<String, Object> additionalProperties = new HashMap<>(globals);
+        if (hasFormParamsInSpec != null) {
+            additionalProperties.put("hasFormParamsInSpec", hasFormParamsInSpec);
+        }
+        ModelsMap bundle = new ModelsMap();
+        bundle.put("classname", "PetApi");
+        bundle.setSharedLayer(Collections.unmodifiableMap(additionalProperties));
+        return bundle;
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.openapitools.codegen;
 
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.*;
@@ -965,4 +966,41 @@ public class OpenAPINormalizerTest {
         assertEquals(scheme.getName(), null);
         assertEquals(scheme.getIn(), null);
     }
+
+    @Test
+    public void testOpenAPINormalizerCyclicSchemaGraph() {
+        // schemas referencing each other directly (rather than through $ref) are normalized once each
+        ObjectSchema node = new ObjectSchema();
+        node.addProperty("name", new StringSchema());
+        node.addProperty("parent", node);
+        OpenAPI openAPI = new OpenAPI().components(new Components().addSchemas("Node", node));
+
+        new OpenAPINormalizer(openAPI, Collections.emptyMap()).normalize();
+
+        Schema normalized = openAPI.getComponents().getSchemas().get("Node");
+        assertSame(normalized, node);
+        assertSame(normalized.getProperties().get("parent"), node);
+    }
+
+    @Test(timeOut = 60000)
+    public void testOpenAPINormalizerLargeSpec() {
+        // many deeply nested composed schemas, which used to be hashed in full on each visit
+        OpenAPI openAPI = new OpenAPI().components(new Components());
+        for (int i = 0; i < 200; i++) {
+            Schema schema = new StringSchema();
+            for (int depth = 0; depth < 100; depth++) {
+                ObjectSchema parent = new ObjectSchema();
+                parent.addProperty("value" + depth, schema);
+                parent.addProperty("other" + depth, new ComposedSchema()
+                        .addOneOfItem(new StringSchema())
+                        .addOneOfItem(new IntegerSchema()));
+                schema = new ComposedSchema().addAllOfItem(parent);
+            }
+            openAPI.getComponents().addSchemas("Model" + i, schema);
+        }
+
+        new OpenAPINormalizer(openAPI, Collections.emptyMap()).normalize();
+
+        assertEquals(openAPI.getComponents().getSchemas().size(), 200);
+    }
 }
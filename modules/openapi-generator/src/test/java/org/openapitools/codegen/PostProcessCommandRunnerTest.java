@@ -0,0 +1,60 @@
+package org.openapitools.codegen;
+
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class PostProcessCommandRunnerTest {
+
+    @Test
+    public void batchesFilesPerCommand() throws IOException {
+        if (File.separatorChar != '/' || !new File("/bin/sh").canExecute()) {
+            throw new SkipException("requires /bin/sh");
+        }
+
+        Path target = Files.createTempDirectory("test-postprocess");
+        try {
+            Path log = target.resolve("invocations.log");
+            Path script = target.resolve("record.sh");
+            Files.write(script, ("echo \"$@\" >> " + log + "\n").getBytes(StandardCharsets.UTF_8));
+            String command = "/bin/sh " + script;
+
+            PostProcessCommandRunner runner = new PostProcessCommandRunner(2, 2, 60);
+            for (String name : new String[]{"a.txt", "b.txt", "c.txt"}) {
+                Path file = Files.createFile(target.resolve(name));
+                assertTrue(runner.execute(new String[]{command, file.toString()}));
+            }
+            assertFalse(Files.exists(log), "commands are deferred until flushed");
+
+            assertTrue(runner.flush());
+
+            List<String> invocations = Files.readAllLines(log);
+            assertEquals(invocations.size(), 2);
+            assertTrue(invocations.contains(target.resolve("a.txt") + " " + target.resolve("b.txt")));
+            assertTrue(invocations.contains(target.resolve("c.txt").toString()));
+            assertTrue(runner.flush(), "nothing left to run");
+            assertEquals(Files.readAllLines(log).size(), 2);
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void reportsFailingCommand() {
+        if (File.separatorChar != '/' || !new File("/bin/sh").canExecute()) {
+            throw new SkipException("requires /bin/sh");
+        }
+
+        PostProcessCommandRunner runner = new PostProcessCommandRunner(0, 1, 60);
+        assertTrue(runner.execute(new String[]{"/bin/sh", "-c", "exit"}));
+        assertFalse(runner.execute(new String[]{"/bin/sh", "does-not-exist.sh"}));
+    }
+}
@@ -1,11 +1,15 @@
 package org.openapitools.codegen;
 
+import org.apache.commons.io.FileUtils;
 import org.openapitools.codegen.api.TemplatePathLocator;
 import org.openapitools.codegen.templating.HandlebarsEngineAdapter;
 import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.templating.TemplateManagerOptions;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -13,9 +17,15 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static org.testng.Assert.*;
 
@@ -186,6 +196,88 @@ public class TemplateManagerTest {
         }
     }
 
+    @Test
+    public void minimalUpdateReplacesContentsOfSameLength() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(true, false);
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{locator});
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "Teddy");
+        data.put("age", "3");
+
+        Path target = Files.createTempDirectory("test-templatemanager");
+        try {
+            File output = new File(target.toFile(), "simple.txt");
+            Files.write(output.toPath(), "Teddy and 4".getBytes(StandardCharsets.UTF_8));
+
+            File written = manager.write(data, "simple.mustache", output);
+
+            assertEquals(Files.readAllLines(written.toPath()).get(0), "Teddy and 3");
+            // no temporary files are left behind
+            assertEquals(target.toFile().list(), new String[]{"simple.txt"});
+        } finally {
+            target.toFile().delete();
+        }
+    }
+
+    @Test
+    public void minimalUpdateKeepsFilePermissions() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(true, false);
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{locator});
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "Teddy");
+        data.put("age", "3");
+
+        Path target = Files.createTempDirectory("test-templatemanager");
+        if (!Files.getFileStore(target).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            throw new SkipException("POSIX file permissions are not supported");
+        }
+        try {
+            // a new file gets the same permissions as one written directly
+            Path reference = Files.write(target.resolve("reference.txt"), "data".getBytes(StandardCharsets.UTF_8));
+            File created = manager.write(data, "simple.mustache", new File(target.toFile(), "created.txt"));
+            assertEquals(Files.getPosixFilePermissions(created.toPath()), Files.getPosixFilePermissions(reference));
+
+            // an existing file keeps its permissions
+            Path script = Files.write(target.resolve("script.sh"), "original data".getBytes(StandardCharsets.UTF_8));
+            Set<PosixFilePermission> executable = PosixFilePermissions.fromString("rwxr-x---");
+            Files.setPosixFilePermissions(script, executable);
+            File rewritten = manager.write(data, "simple.mustache", script.toFile());
+            assertEquals(Files.readAllLines(rewritten.toPath()).get(0), "Teddy and 3");
+            assertEquals(Files.getPosixFilePermissions(rewritten.toPath()), executable);
+        } finally {
+            FileUtils.deleteDirectory(target.toFile());
+        }
+    }
+
+    @Test
+    public void inMemoryKeepsFilesOffDisk() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
+        InMemoryTemplateManager manager = new InMemoryTemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{locator});
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "Teddy");
+        data.put("age", "3");
+
+        Path target = Paths.get(System.getProperty("java.io.tmpdir"), "test-inmemory-" + System.nanoTime());
+        File written = manager.write(data, "simple.mustache", new File(target.toFile(), "sub/simple.txt"));
+        manager.writeToFile(new File(target.toFile(), "sub/simple.txt").getPath(), "replaced".getBytes(StandardCharsets.UTF_8));
+        manager.writeToFile(new File(target.toFile(), "other.txt").getPath(), "other".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(written.exists());
+        assertFalse(target.toFile().exists());
+        assertEquals(manager.getFiles().size(), 2);
+
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        assertEquals(manager.writeZip(target.toString(), "out/", zip), 2);
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(zip.toByteArray()))) {
+            for (ZipEntry entry = zis.getNextEntry(); entry != null; entry = zis.getNextEntry()) {
+                entries.put(entry.getName(), new String(zis.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(entries.get("out/sub/simple.txt"), "replaced");
+        assertEquals(entries.get("out/other.txt"), "other");
+    }
+
     @Test
     public void overwritesWhenSkipOverwriteFalse() throws IOException {
         TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
@@ -248,4 +340,54 @@ public class TemplateManagerTest {
             target.toFile().delete();
         }
     }
+
+    @Test
+    public void reusesCompiledMustacheTemplates() throws IOException {
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
+        TemplateManager manager = new TemplateManager(opts, adapter, new TemplatePathLocator[]{locator});
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "Teddy");
+        data.put("age", "3");
+
+        Path target = Files.createTempDirectory("test-templatemanager");
+        try {
+            File first = manager.write(data, "simple.mustache", new File(target.toFile(), "first.txt"));
+            data.put("name", "Jack");
+            File second = manager.write(data, "simple.mustache", new File(target.toFile(), "second.txt"));
+
+            assertEquals(Files.readAllLines(first.toPath()).get(0), "Teddy and 3");
+            assertEquals(Files.readAllLines(second.toPath()).get(0), "Jack and 3");
+            assertEquals(adapter.getTemplateCache().getMisses(), 1);
+            assertEquals(adapter.getTemplateCache().getHits(), 1);
+
+            TemplateManager otherRun = new TemplateManager(opts, adapter, new TemplatePathLocator[]{locator});
+            otherRun.write(data, "simple.mustache", new File(target.toFile(), "third.txt"));
+            assertEquals(adapter.getTemplateCache().getMisses(), 2);
+            assertEquals(adapter.getTemplateCache().size(), 1);
+        } finally {
+            target.toFile().delete();
+        }
+    }
+
+    @Test
+    public void cachesTemplateResolutionAndContents() {
+        TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
+        final int[] lookups = {0};
+        TemplatePathLocator countingLocator = relativeTemplateFile -> {
+            lookups[0]++;
+            return locator.getFullTemplatePath(relativeTemplateFile);
+        };
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{countingLocator});
+
+        assertEquals(manager.getFullTemplateContents("simple.mustache"), "{{name}} and {{age}}");
+        assertEquals(manager.getFullTemplateContents("simple.mustache"), "{{name}} and {{age}}");
+        assertEquals(manager.getFullTemplatePath("simple.mustache"), Paths.get("templating/templates/simple.mustache"));
+
+        assertEquals(lookups[0], 1);
+        assertEquals(manager.getResolvedTemplateCacheStats().hitCount(), 2);
+        assertEquals(manager.getResolvedTemplateCacheStats().missCount(), 1);
+        assertEquals(manager.getTemplateContentsCacheStats().hitCount(), 1);
+        assertEquals(manager.getTemplateContentsCacheStats().missCount(), 1);
+    }
 }
@@ -0,0 +1,90 @@
+package org.openapitools.codegen.config;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParsedSpecificationCacheTest {
+
+    @Test
+    public void readsAreCachedCopies() throws Exception {
+        Path spec = Files.createTempFile("petstore", ".yaml");
+        try {
+            Files.copy(Paths.get("src/test/resources/3_0/petstore.yaml"), spec, StandardCopyOption.REPLACE_EXISTING);
+            String inputSpec = spec.toString();
+            ParsedSpecificationCache cache = new ParsedSpecificationCache(16);
+
+            OpenAPI first = cache.read(inputSpec, null).getOpenAPI();
+            OpenAPI second = cache.read(inputSpec, null).getOpenAPI();
+
+            assertThat(cache.stats().hitCount()).isEqualTo(1);
+            assertThat(second).isNotSameAs(first);
+            assertThat(Json.pretty(second)).isEqualTo(Json.pretty(ParsedSpecification.read(inputSpec, null).getOpenAPI()));
+
+            first.getPaths().remove("/pet");
+            assertThat(cache.read(inputSpec, null).getOpenAPI().getPaths()).containsKey("/pet");
+        } finally {
+            Files.deleteIfExists(spec);
+        }
+    }
+
+    @Test
+    public void changedDocumentsAreReadAgain() throws Exception {
+        Path spec = Files.createTempFile("petstore", ".yaml");
+        try {
+            String contents = new String(Files.readAllBytes(Paths.get("src/test/resources/3_0/petstore.yaml")), StandardCharsets.UTF_8);
+            Files.write(spec, contents.getBytes(StandardCharsets.UTF_8));
+            ParsedSpecificationCache cache = new ParsedSpecificationCache(16);
+            assertThat(cache.read(spec.toString(), null).getOpenAPI().getInfo().getTitle())
+                    .isEqualTo("OpenAPI Petstore");
+
+            Files.write(spec, contents.replace("title: OpenAPI Petstore", "title: Changed").getBytes(StandardCharsets.UTF_8));
+            assertThat(cache.read(spec.toString(), null).getOpenAPI().getInfo().getTitle())
+                    .isEqualTo("Changed");
+        } finally {
+            Files.deleteIfExists(spec);
+        }
+    }
+
+    @Test
+    public void cachesAreIndependent() throws Exception {
+        Path spec = Files.createTempFile("petstore", ".yaml");
+        try {
+            Files.copy(Paths.get("src/test/resources/3_0/petstore.yaml"), spec, StandardCopyOption.REPLACE_EXISTING);
+            ParsedSpecificationCache first = new ParsedSpecificationCache(1);
+            ParsedSpecificationCache second = new ParsedSpecificationCache(16);
+
+            first.read(spec.toString(), null);
+            second.read(spec.toString(), null);
+            second.read(spec.toString(), null);
+
+            assertThat(first.stats().hitCount()).isZero();
+            assertThat(second.stats().hitCount()).isEqualTo(1);
+        } finally {
+            Files.deleteIfExists(spec);
+        }
+    }
+
+    @Test
+    public void configuratorsReadTheInputSpecWithoutCacheByDefault() {
+        assertThat(new CodegenConfigurator().getParsedSpecificationCache()).isNull();
+    }
+
+    @Test
+    public void documentsWithExternalReferencesAreNotCached() {
+        assertThat(ParsedSpecificationCache.hasExternalReferences("$ref: '#/components/schemas/Pet'")).isFalse();
+        assertThat(ParsedSpecificationCache.hasExternalReferences("{\"$ref\":\"#/definitions/Pet\"}")).isFalse();
+        assertThat(ParsedSpecificationCache.hasExternalReferences("$ref: Pet")).isTrue();
+        assertThat(ParsedSpecificationCache.hasExternalReferences("$ref: pet.yaml")).isTrue();
+        assertThat(ParsedSpecificationCache.hasExternalReferences("$ref: './schemas/pet.yaml#/Pet'")).isTrue();
+        assertThat(ParsedSpecificationCache.hasExternalReferences("{\"$ref\": \"https://example.com/pet.json\"}")).isTrue();
+    }
+}
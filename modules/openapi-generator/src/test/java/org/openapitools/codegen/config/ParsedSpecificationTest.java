@@ -0,0 +1,108 @@
+package org.openapitools.codegen.config;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.DefaultGenerator;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParsedSpecificationTest {
+
+    @DataProvider(name = "specs")
+    public Object[][] specs() {
+        return new Object[][]{
+                {"src/test/resources/3_0/petstore.yaml"},
+                {"src/test/resources/3_0/allOf_composition_discriminator.yaml"},
+                {"src/test/resources/3_0/oneOf.yaml"},
+                {"src/test/resources/3_1/petstore.yaml"}
+        };
+    }
+
+    @Test(dataProvider = "specs")
+    public void copiesAreEqualToAParseOfTheInputSpec(String inputSpec) throws Exception {
+        SwaggerParseResult expected = ParsedSpecification.read(inputSpec, null);
+        ParsedSpecification parsedSpecification = new ParsedSpecification(inputSpec, null);
+
+        SwaggerParseResult first = parsedSpecification.copy();
+        SwaggerParseResult second = parsedSpecification.copy();
+
+        for (SwaggerParseResult copy : new SwaggerParseResult[]{first, second}) {
+            assertThat(copy.getOpenAPI().getSpecVersion()).isEqualTo(expected.getOpenAPI().getSpecVersion());
+            assertThat(Json.pretty(copy.getOpenAPI())).isEqualTo(Json.pretty(expected.getOpenAPI()));
+            assertThat(copy.getMessages()).isEqualTo(expected.getMessages());
+        }
+    }
+
+    @Test
+    public void copiesAreIndependent() {
+        ParsedSpecification parsedSpecification = new ParsedSpecification("src/test/resources/3_0/petstore.yaml", null);
+
+        OpenAPI first = parsedSpecification.copy().getOpenAPI();
+        OpenAPI second = parsedSpecification.copy().getOpenAPI();
+        first.getComponents().getSchemas().get("Pet").setDescription("modified");
+        first.getPaths().remove("/pet");
+
+        OpenAPI third = parsedSpecification.copy().getOpenAPI();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPaths()).containsKey("/pet");
+        assertThat(third.getPaths()).containsKey("/pet");
+        assertThat(third.getComponents().getSchemas().get("Pet").getDescription()).isNotEqualTo("modified");
+        assertThat(third.getSpecVersion()).isEqualTo(SpecVersion.V30);
+    }
+
+    @Test
+    public void generatingFromACopyIsIdenticalToGeneratingFromTheInputSpec() throws IOException {
+        String inputSpec = "src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml";
+        ParsedSpecification parsedSpecification = new ParsedSpecification(inputSpec, null);
+        // the first copy is the parse of the input spec
+        parsedSpecification.copy();
+
+        Path fromInputSpec = generate(inputSpec, null);
+        Path fromCopy = generate(inputSpec, parsedSpecification);
+        try {
+            Map<Path, String> expected = readFiles(fromInputSpec);
+            assertThat(expected).containsKey(Paths.get("api/openapi.yaml"));
+            assertThat(readFiles(fromCopy)).isEqualTo(expected);
+        } finally {
+            fromInputSpec.toFile().deleteOnExit();
+            fromCopy.toFile().deleteOnExit();
+        }
+    }
+
+    private static Path generate(String inputSpec, ParsedSpecification parsedSpecification) throws IOException {
+        Path output = Files.createTempDirectory("test-parsed-specification");
+        CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec(inputSpec)
+                .setParsedSpecification(parsedSpecification)
+                .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true)
+                .setOutputDir(output.toAbsolutePath().toString());
+        new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+        return output;
+    }
+
+    private static Map<Path, String> readFiles(Path directory) throws IOException {
+        Map<Path, String> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                files.put(directory.relativize(path), new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,98 @@
+package org.openapitools.codegen.ignore;
+
+import org.openapitools.codegen.ignore.rules.CompiledRules;
+import org.openapitools.codegen.ignore.rules.DirectoryRule;
+import org.openapitools.codegen.ignore.rules.Rule;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+public class CodegenIgnoreProcessorTest {
+
+    private static final List<String> RULES = Arrays.asList(
+            "# comment",
+            "*.log",
+            "**/*.bak",
+            "!ISSUE_1234.log",
+            "docs/",
+            "!docs/README.md",
+            "src/main/java/org/api/*Api.java",
+            "src/main/java/org/model/Pet.java",
+            "!src/main/java/org/model/**",
+            "/pom.xml",
+            "/*.md",
+            "**/test/",
+            "!build/test/",
+            "src/**/generated/**",
+            "docs/README.md",
+            "..",
+            "s?c/*.txt",
+            "{a,b}/c.txt");
+
+    private static final List<String> PATHS = Arrays.asList(
+            "pom.xml", "README.md", "ISSUE_1234.log", "other.log", "build.gradle", "nested/pom.xml",
+            "docs", "docs/README.md", "docs/Pet.md", "docs/api/PetApi.md", "documentation/Pet.md",
+            "src/main/java/org/api/PetApi.java", "src/main/java/org/api/PetApiTest.java", "src/main/java/org/api/Pet.java",
+            "src/main/java/org/model/Pet.java", "src/main/java/org/model/Order.java", "src/main/java/org/model/Pet.java.bak",
+            "src/test/java/PetTest.java", "build/test/Report.txt", "module/test/Report.txt", "test",
+            "src/main/generated/Pet.java", "src/generated", "src/a.txt", "sXc/a.txt", "a/c.txt", "b/c.txt", "c/c.txt");
+
+    @Test
+    public void testCompiledRulesMatchEvaluationOfAllRules() throws IOException {
+        Path directory = Files.createTempDirectory("ignore");
+        File ignoreFile = directory.resolve(".openapi-generator-ignore").toFile();
+        Files.write(ignoreFile.toPath(), RULES, StandardCharsets.UTF_8);
+
+        CodegenIgnoreProcessor processor = new CodegenIgnoreProcessor(ignoreFile);
+        for (String path : PATHS) {
+            Assert.assertEquals(processor.allowsFile(new File(directory.toFile(), path)),
+                    allowsFile(processor, path), path);
+        }
+        Assert.assertFalse(processor.allowsFile(new File(directory.toFile(), "docs/Pet.md")));
+        Assert.assertTrue(processor.allowsFile(new File(directory.toFile(), "src/main/java/org/model/Order.java")));
+    }
+
+    @Test
+    public void testCandidatesKeepTheOrderOfTheRules() {
+        List<Rule> rules = Arrays.asList(Rule.create("**/*.bak"), Rule.create("docs/api/*.md"),
+                Rule.create("docs/"), Rule.create("src/"), Rule.create("/*.md"), Rule.create("docs/api/Pet.md"));
+        CompiledRules compiledRules = new CompiledRules(rules);
+
+        Assert.assertEquals(compiledRules.getCandidates(Paths.get("docs/api/Pet.md")),
+                Arrays.asList(rules.get(0), rules.get(1), rules.get(2), rules.get(4), rules.get(5)));
+        Assert.assertEquals(compiledRules.getCandidates(Paths.get("docs/Pet.md")),
+                Arrays.asList(rules.get(0), rules.get(2), rules.get(4)));
+        Assert.assertEquals(compiledRules.getCandidates(Paths.get("README.md")),
+                Arrays.asList(rules.get(0), rules.get(4)));
+    }
+
+    // the evaluation of every rule, without compiling them
+    private static boolean allowsFile(CodegenIgnoreProcessor processor, String path) {
+        boolean directoryExcluded = false;
+        boolean exclude = false;
+        for (Rule rule : processor.getExclusionRules()) {
+            Rule.Operation op = rule.evaluate(path);
+            if (op == Rule.Operation.EXCLUDE) {
+                exclude = true;
+                directoryExcluded |= rule instanceof DirectoryRule;
+            } else if (op == Rule.Operation.EXCLUDE_AND_TERMINATE) {
+                break;
+            }
+        }
+        for (Rule rule : processor.getInclusionRules()) {
+            if (exclude && rule.evaluate(path) == Rule.Operation.INCLUDE
+                    && (!directoryExcluded || rule instanceof DirectoryRule)) {
+                exclude = false;
+            }
+        }
+        return !exclude;
+    }
+}
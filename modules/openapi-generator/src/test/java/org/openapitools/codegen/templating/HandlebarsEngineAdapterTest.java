@@ -1,12 +1,16 @@
 package org.openapitools.codegen.templating;
 
 import org.mockito.Mockito;
+import org.openapitools.codegen.CodegenProperty;
+import org.openapitools.codegen.LazyJson;
 import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.model.OperationsMap;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.testng.Assert.assertEquals;
 
@@ -77,6 +81,73 @@ public class HandlebarsEngineAdapterTest {
                 "  private property: raw_data3");
     }
 
+    @Test(description = "lazily rendered JSON is resolved through its getter")
+    public void testLazyJsonSchema() throws IOException {
+        // Given
+        HandlebarsEngineAdapter adapter = new HandlebarsEngineAdapter();
+        TemplatingExecutor executorMock = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(executorMock.getFullTemplateContents("outerTemplate.hbs")).thenReturn("{{#property}}{{jsonSchema}}{{/property}}");
+        AtomicInteger renders = new AtomicInteger();
+        CodegenProperty property = new CodegenProperty();
+        property.setLazyJsonSchema(LazyJson.of("schema", source -> source + renders.incrementAndGet()));
+
+        // When
+        String generatedFile = adapter.compileTemplate(executorMock, Map.of("property", property), "outerTemplate.hbs");
+
+        // Then
+        assertEquals(generatedFile, "schema1");
+        assertEquals(property.getJsonSchema(), "schema1");
+        assertEquals(renders.get(), 1);
+    }
+
+    @Test(description = "names are resolved through the shared layer of a bundle")
+    public void testLayeredBundle() throws IOException {
+        // Given
+        HandlebarsEngineAdapter adapter = new HandlebarsEngineAdapter();
+        TemplatingExecutor executorMock = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(executorMock.getFullTemplateContents("outerTemplate.hbs")).thenReturn("{{name}} {{shared}}{{#if flag}} flag{{/if}}");
+        OperationsMap bundle = new OperationsMap();
+        bundle.put("name", "local");
+        bundle.setSharedLayer(Map.of("name", "shared", "shared", "value", "flag", true));
+        bundle.put("name", "overlay");
+
+        // When
+        String generatedFile = adapter.compileTemplate(executorMock, bundle, "outerTemplate.hbs");
+
+        // Then
+        assertEquals(generatedFile, "overlay value flag");
+        assertEquals(bundle.size(), 1);
+    }
+
+    @Test(description = "compiled templates and partials are reused within a run and discarded for a new executor")
+    public void testCompiledTemplateCache() throws IOException {
+        // Given
+        HandlebarsEngineAdapter adapter = new HandlebarsEngineAdapter();
+        TemplatingExecutor executorMock = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(executorMock.getFullTemplateContents("outerTemplate.hbs")).thenReturn("{{name}}: {{>innerTemplate}}");
+        Mockito.when(executorMock.getFullTemplateContents("innerTemplate.hbs")).thenReturn("inner");
+
+        // When
+        String first = adapter.compileTemplate(executorMock, Map.of("name", "first"), "outerTemplate.hbs");
+        String second = adapter.compileTemplate(executorMock, Map.of("name", "second"), "outerTemplate.hbs");
+
+        // Then
+        assertEquals(first, "first: inner");
+        assertEquals(second, "second: inner");
+        assertEquals(adapter.getTemplateCache().getMisses(), 1);
+        assertEquals(adapter.getTemplateCache().getHits(), 1);
+        Mockito.verify(executorMock, Mockito.times(1)).getFullTemplateContents("outerTemplate.hbs");
+        Mockito.verify(executorMock, Mockito.times(1)).getFullTemplateContents("innerTemplate.hbs");
+
+        // When a new run uses a different template directory
+        TemplatingExecutor otherExecutor = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(otherExecutor.getFullTemplateContents("outerTemplate.hbs")).thenReturn("other {{name}}");
+
+        // Then
+        assertEquals(adapter.compileTemplate(otherExecutor, Map.of("name", "third"), "outerTemplate.hbs"), "other third");
+        assertEquals(adapter.getTemplateCache().getMisses(), 2);
+    }
+
     static class PropertyObject {
         /**
          * getter-exposed
@@ -27,7 +27,9 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -120,6 +122,22 @@ public class ModelUtilsTest {
         Assert.assertTrue(unusedSchemas.contains("SomeObj7"), "contains 'SomeObj7'");
     }
 
+    @Test
+    public void testSchemaUsageIndex() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        SchemaUsageIndex index = SchemaUsageIndex.of(openAPI);
+
+        Assert.assertEquals(new ArrayList<>(index.getUsedSchemas()), ModelUtils.getAllUsedSchemas(openAPI));
+        Assert.assertTrue(index.isUsed("AChild30"));
+        Assert.assertFalse(index.isUsed("UnusedObj1"));
+        Assert.assertTrue(index.getUnusedSchemas().contains("UnusedObj1"));
+        Assert.assertEquals(index.getChildren("Parent30"), Arrays.asList("AChild30", "BChild30"));
+        Assert.assertEquals(index.getMimeTypes("SomeObj2"), Collections.singleton("application/x-www-form-urlencoded"));
+        Assert.assertEquals(index.getOperations("SomeObj2").size(), 1);
+        Assert.assertEquals(index.getOperations("SomeObj2").iterator().next().getOperationId(), "p2");
+        Assert.assertTrue(index.getOperations("UnusedObj1").isEmpty());
+    }
+
     @Test
     public void testNestedFormParameter() {
         final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/2_0/nestedFormParameter.yaml");
@@ -0,0 +1,39 @@
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchemaFingerprintTest {
+
+    @Test
+    public void structurallyEqualSchemasHaveEqualFingerprints() throws Exception {
+        Schema first = new ObjectSchema()
+                .addProperty("id", new IntegerSchema().format("int64"))
+                .addProperty("name", new StringSchema().description("the name"));
+        Schema second = new ObjectSchema()
+                .addProperty("id", new IntegerSchema().format("int64"))
+                .addProperty("name", new StringSchema().description("the name"));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(SchemaFingerprint.of(second)).isEqualTo(SchemaFingerprint.of(first));
+        assertThat(SchemaFingerprint.of(second).hashCode()).isEqualTo(SchemaFingerprint.of(first).hashCode());
+        assertThat(SchemaFingerprint.of(first).toString()).hasSize(32);
+    }
+
+    @Test
+    public void differentSchemasHaveDifferentFingerprints() throws Exception {
+        Schema schema = new ObjectSchema().addProperty("name", new StringSchema());
+        SchemaFingerprint before = SchemaFingerprint.of(schema);
+
+        ((Schema) schema.getProperties().get("name")).setDescription("the name");
+
+        assertThat(SchemaFingerprint.of(schema)).isNotEqualTo(before);
+        assertThat(SchemaFingerprint.of(new ObjectSchema().addProperty("name", new IntegerSchema())))
+                .isNotEqualTo(before);
+    }
+}
@@ -0,0 +1,83 @@
+package org.openapitools.codegen.validations.oas;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.TestUtils;
+import org.openapitools.codegen.validation.Invalid;
+import org.openapitools.codegen.validation.Severity;
+import org.openapitools.codegen.validation.Validated;
+import org.openapitools.codegen.validation.ValidationResult;
+import org.openapitools.codegen.validation.ValidationRule;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class OpenApiEvaluatorTest {
+    private static final ValidationRule ERROR_RULE = ValidationRule.create(Severity.ERROR, "error", "An error.", s -> ValidationRule.Fail.empty());
+
+    @Test
+    public void testParallelEvaluationMatchesSequentialEvaluation() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml");
+
+        OpenApiEvaluator sequential = new OpenApiEvaluator(new RuleConfiguration());
+        OpenApiEvaluator parallel = new OpenApiEvaluator(new RuleConfiguration());
+        parallel.setThreads(4);
+
+        List<String> expected = messages(sequential.validate(openAPI));
+        Assert.assertFalse(expected.isEmpty());
+        Assert.assertEquals(messages(parallel.validate(openAPI)), expected);
+    }
+
+    @DataProvider(name = "threads")
+    public Object[][] threads() {
+        return new Object[][]{{1}, {4}};
+    }
+
+    @Test(dataProvider = "threads")
+    public void testEvaluationStopsAtErrorLimit(int threads) {
+        ValidationResult validationResult = new ValidationResult();
+        try (OpenApiEvaluator.Evaluation evaluation = new OpenApiEvaluator.Evaluation(validationResult, threads, 10)) {
+            for (int i = 0; i < 1000; i++) {
+                String message = "error " + i;
+                evaluation.submit(() -> {
+                    ValidationResult result = new ValidationResult();
+                    result.addResult(Validated.invalid(ERROR_RULE, message));
+                    return result;
+                });
+            }
+        }
+
+        List<String> messages = messages(validationResult);
+        Assert.assertEquals(messages.size(), 10);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(messages.get(i), "error " + i);
+        }
+    }
+
+    @Test(dataProvider = "threads")
+    public void testEvaluationWithoutErrorLimit(int threads) {
+        ValidationResult validationResult = new ValidationResult();
+        try (OpenApiEvaluator.Evaluation evaluation = new OpenApiEvaluator.Evaluation(validationResult, threads, 0)) {
+            for (int i = 0; i < 1000; i++) {
+                String message = "error " + i;
+                evaluation.submit(() -> {
+                    ValidationResult result = new ValidationResult();
+                    result.addResult(Validated.invalid(ERROR_RULE, message));
+                    return result;
+                });
+            }
+        }
+
+        Assert.assertEquals(validationResult.getErrors().size(), 1000);
+        Assert.assertEquals(messages(validationResult).get(999), "error 999");
+    }
+
+    private static List<String> messages(ValidationResult validationResult) {
+        return validationResult.getAll().stream()
+                .filter(it -> it instanceof Invalid)
+                .map(it -> ((Invalid) it).getMessage())
+                .collect(Collectors.toList());
+    }
+}